@@ -0,0 +1,229 @@
+package com.focusflow.core.session;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Session history kept in primitive columns instead of objects.
+ *
+ * A {@link FocusSession} on the heap costs a few hundred bytes, most of it in
+ * its {@code LocalDateTime} and {@code UUID} objects. This store keeps each
+ * field of a completed session in its own array: times as epoch seconds,
+ * durations as ints, the task ID as an index into a table of distinct IDs,
+ * and the flags and timer type packed into one byte. With the references
+ * to the interruptions and distractions, that is about 49 bytes per session
+ * with compressed references. Sessions with interruptions also keep their
+ * encoded interruption bytes; the others share one empty array. Captured
+ * distractions are kept by reference, so all copies of a stored session
+ * share them; sessions without any store null. Sessions are materialized only when read, as new
+ * objects each time, so callers must not rely on reading the same instance
+ * twice.
+ *
+ * Times are stored to the second. Snapshots and dropping old sessions work
+ * as in {@link SessionLog}: filled slots are never rewritten and growing the
+ * store copies the kept rows into new arrays, so a view keeps reading the
+ * arrays it was created on.
+ *
+ * Changes must come from one thread at a time.
+ */
+final class ColumnarSessionStore implements SessionStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int FLAG_PAUSED = 1;
+    private static final int FLAG_CONSECUTIVE = 1 << 1;
+    private static final int TYPE_SHIFT = 2;
+    private static final TimerType[] TYPES = TimerType.values();
+    private static final byte[] NO_INTERRUPTIONS = new byte[0];
+
+    private final Map<String, Integer> taskIdIndex = new HashMap<>();
+    private Columns columns = new Columns(INITIAL_CAPACITY, new String[INITIAL_CAPACITY]);
+    private int taskIdCount;
+    private volatile SessionHistoryView view = SessionHistoryView.EMPTY;
+
+    /**
+     * Appends a completed session and publishes the new snapshot.
+     *
+     * @param session The session to append
+     * @throws IllegalArgumentException if the session is not completed or its durations do not fit the columns
+     */
+    @Override
+    public void append(FocusSession session) {
+        if (!session.isCompleted()) {
+            throw new IllegalArgumentException("Only completed sessions can be stored");
+        }
+        SessionHistoryView current = view;
+        boolean ordered = current.staysOrderedWith(session.getStartTime());
+        if (current.end() - columns.origin == columns.startSeconds.length) {
+            columns = columns.repack(current.first(), Math.max(INITIAL_CAPACITY, current.size() * 2));
+        }
+        int taskId = intern(session.getAssociatedTaskId());
+
+        Columns c = columns;
+        int size = current.end() - c.origin;
+        UUID id = session.getId();
+        c.idHigh[size] = id.getMostSignificantBits();
+        c.idLow[size] = id.getLeastSignificantBits();
+        c.startSeconds[size] = session.getStartTime().toEpochSecond(ZoneOffset.UTC);
+        c.elapsedSeconds[size] = toColumn(Duration.between(session.getStartTime(), session.getEndTime()).getSeconds());
+        c.pausedSeconds[size] = toColumn(session.getPausedDurationSeconds());
+        c.suspendedSeconds[size] = toColumn(session.getSuspendedDurationSeconds());
+        c.taskIds[size] = taskId;
+        c.flags[size] = pack(session);
+        byte[] interruptions = session.getInterruptionData();
+        c.interruptions[size] = interruptions.length == 0 ? NO_INTERRUPTIONS : interruptions;
+        c.distractions[size] = session.distractionBuffer();
+        view = new SessionHistoryView(c, current.first(), current.size() + 1, ordered);
+    }
+
+    @Override
+    public SessionHistoryView view() {
+        return view;
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public void dropBefore(int position) {
+        SessionHistoryView current = view;
+        int first = Math.min(Math.max(position, current.first()), current.end());
+        int kept = current.end() - first;
+        if (first - columns.origin > columns.startSeconds.length / 2) {
+            columns = columns.repack(first, Math.max(INITIAL_CAPACITY, kept * 2));
+        }
+        view = new SessionHistoryView(columns, first, kept, current.isOrdered());
+    }
+
+    private int intern(String taskId) {
+        Integer known = taskIdIndex.get(taskId);
+        if (known != null) {
+            return known;
+        }
+        if (taskIdCount == columns.taskIdTable.length) {
+            columns = columns.withTaskIdTable(Arrays.copyOf(columns.taskIdTable, taskIdCount * 2));
+        }
+        columns.taskIdTable[taskIdCount] = taskId;
+        taskIdIndex.put(taskId, taskIdCount);
+        return taskIdCount++;
+    }
+
+    private static int toColumn(long seconds) {
+        if (seconds < 0 || seconds > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Session duration out of range: " + seconds + "s");
+        }
+        return (int) seconds;
+    }
+
+    private static byte pack(FocusSession session) {
+        int flags = 0;
+        if (session.isPaused()) {
+            flags |= FLAG_PAUSED;
+        }
+        if (session.isConsecutive()) {
+            flags |= FLAG_CONSECUTIVE;
+        }
+        TimerType type = session.getTimerType();
+        // Zero means no timer type
+        flags |= (type == null ? 0 : type.ordinal() + 1) << TYPE_SHIFT;
+        return (byte) flags;
+    }
+
+    /**
+     * One generation of the column arrays. A new generation is created
+     * whenever an array has to grow or dropped rows are released.
+     */
+    private static final class Columns implements SessionSource {
+        private final long[] idHigh;
+        private final long[] idLow;
+        private final long[] startSeconds;
+        private final int[] elapsedSeconds;
+        private final int[] pausedSeconds;
+        private final int[] suspendedSeconds;
+        private final int[] taskIds;
+        private final byte[] flags;
+        private final byte[][] interruptions;
+        private final DistractionBuffer[] distractions;
+        private final String[] taskIdTable;
+        private final int origin;
+
+        Columns(int capacity, String[] taskIdTable) {
+            this(new long[capacity], new long[capacity], new long[capacity], new int[capacity],
+                new int[capacity], new int[capacity], new int[capacity], new byte[capacity], new byte[capacity][],
+                new DistractionBuffer[capacity], taskIdTable, 0);
+        }
+
+        private Columns(long[] idHigh, long[] idLow, long[] startSeconds, int[] elapsedSeconds,
+                int[] pausedSeconds, int[] suspendedSeconds, int[] taskIds, byte[] flags, byte[][] interruptions,
+                DistractionBuffer[] distractions, String[] taskIdTable, int origin) {
+            this.idHigh = idHigh;
+            this.idLow = idLow;
+            this.startSeconds = startSeconds;
+            this.elapsedSeconds = elapsedSeconds;
+            this.pausedSeconds = pausedSeconds;
+            this.suspendedSeconds = suspendedSeconds;
+            this.taskIds = taskIds;
+            this.flags = flags;
+            this.interruptions = interruptions;
+            this.distractions = distractions;
+            this.taskIdTable = taskIdTable;
+            this.origin = origin;
+        }
+
+        /**
+         * Copies the rows from a position on into new arrays of the given
+         * capacity.
+         */
+        Columns repack(int first, int capacity) {
+            int from = first - origin;
+            int to = from + capacity;
+            return new Columns(Arrays.copyOfRange(idHigh, from, to), Arrays.copyOfRange(idLow, from, to),
+                Arrays.copyOfRange(startSeconds, from, to), Arrays.copyOfRange(elapsedSeconds, from, to),
+                Arrays.copyOfRange(pausedSeconds, from, to), Arrays.copyOfRange(suspendedSeconds, from, to),
+                Arrays.copyOfRange(taskIds, from, to), Arrays.copyOfRange(flags, from, to),
+                Arrays.copyOfRange(interruptions, from, to), Arrays.copyOfRange(distractions, from, to),
+                taskIdTable, first);
+        }
+
+        Columns withTaskIdTable(String[] table) {
+            return new Columns(idHigh, idLow, startSeconds, elapsedSeconds, pausedSeconds,
+                suspendedSeconds, taskIds, flags, interruptions, distractions, table, origin);
+        }
+
+        @Override
+        public FocusSession get(int position) {
+            int index = position - origin;
+            LocalDateTime start = LocalDateTime.ofEpochSecond(startSeconds[index], 0, ZoneOffset.UTC);
+            int elapsed = elapsedSeconds[index];
+            int paused = pausedSeconds[index];
+            int suspended = suspendedSeconds[index];
+            int packed = flags[index];
+            int type = (packed >>> TYPE_SHIFT) & 0x3F;
+            return new FocusSession(new UUID(idHigh[index], idLow[index]), taskIdTable[taskIds[index]],
+                start, start.plusSeconds(elapsed), (long) elapsed - paused - suspended, paused, suspended,
+                (packed & FLAG_PAUSED) != 0, (packed & FLAG_CONSECUTIVE) != 0,
+                type == 0 ? null : TYPES[type - 1], interruptions[index],
+                distractions[index]);
+        }
+
+        @Override
+        public boolean startsAfter(int position, LocalDateTime time) {
+            // Stored starts have no fraction of a second, so whole seconds decide
+            return startSeconds[position - origin] > time.toEpochSecond(ZoneOffset.UTC);
+        }
+
+        @Override
+        public boolean startsBefore(int position, LocalDateTime time) {
+            long start = startSeconds[position - origin];
+            long seconds = time.toEpochSecond(ZoneOffset.UTC);
+            return start < seconds || (start == seconds && time.getNano() > 0);
+        }
+    }
+}
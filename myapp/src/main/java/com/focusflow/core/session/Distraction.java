@@ -0,0 +1,56 @@
+package com.focusflow.core.session;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * A distraction noted down during a focus session, to be dealt with later.
+ *
+ * Capturing keeps only the note and the wall-clock time in milliseconds, so
+ * that it stays cheap enough to call from any thread while the timer runs.
+ */
+public final class Distraction implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String note;
+    private final long capturedAtMillis;
+
+    Distraction(String note, long capturedAtMillis) {
+        this.note = note;
+        this.capturedAtMillis = capturedAtMillis;
+    }
+
+    /**
+     * Gets the note describing the distraction.
+     *
+     * @return The note
+     */
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * Gets the time the distraction was captured.
+     *
+     * @return The capture time in epoch milliseconds
+     */
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    /**
+     * Gets the time the distraction was captured, in the system time zone.
+     *
+     * @return The capture time
+     */
+    public LocalDateTime getCapturedAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(capturedAtMillis), ZoneId.systemDefault());
+    }
+
+    @Override
+    public String toString() {
+        return "Distraction{" + note + " at " + getCapturedAt() + "}";
+    }
+}
@@ -0,0 +1,100 @@
+package com.focusflow.core.session;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer of captured distractions, plus the
+ * distractions already drained from it.
+ *
+ * Any number of threads may capture at once. A capture claims a slot by
+ * advancing the tail with a compare-and-set and then publishes the
+ * distraction into that slot; it never blocks and never allocates beyond
+ * the distraction itself. Draining takes the buffer's lock, which only
+ * other drains and reads of the retained list ever contend for. A slot
+ * claimed but not yet published stops the drain, and is picked up by the
+ * next one.
+ *
+ * When the buffer is full, captures are refused and counted as dropped
+ * until the next drain frees the slots.
+ */
+final class DistractionBuffer implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of distractions the buffer holds between drains.
+     */
+    static final int CAPACITY = 64;
+
+    private final AtomicReferenceArray<Distraction> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<Distraction> retained = new ArrayList<>();
+
+    /**
+     * Adds a distraction without blocking.
+     *
+     * @param distraction The distraction to add
+     * @return true if it was added, false if the buffer was full
+     */
+    boolean offer(Distraction distraction) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head.get() >= CAPACITY) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                // The drain emptied this slot before moving the head past it
+                slots.set((int) (claimed % CAPACITY), distraction);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves every published distraction into the retained list.
+     *
+     * @return The distractions drained by this call, in capture order
+     */
+    synchronized List<Distraction> drain() {
+        long next = head.get();
+        long end = tail.get();
+        List<Distraction> drained = new ArrayList<>((int) (end - next));
+        for (; next < end; next++) {
+            int slot = (int) (next % CAPACITY);
+            Distraction distraction = slots.get(slot);
+            if (distraction == null) {
+                break;
+            }
+            slots.set(slot, null);
+            drained.add(distraction);
+        }
+        head.set(next);
+        retained.addAll(drained);
+        return drained;
+    }
+
+    /**
+     * Drains the buffer and gets every distraction captured so far.
+     *
+     * @return An unmodifiable copy of the retained distractions
+     */
+    synchronized List<Distraction> retained() {
+        drain();
+        return List.copyOf(retained);
+    }
+
+    /**
+     * Gets the number of captures refused because the buffer was full.
+     *
+     * @return The dropped capture count
+     */
+    long dropped() {
+        return dropped.get();
+    }
+}
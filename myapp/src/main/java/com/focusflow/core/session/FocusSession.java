@@ -1,9 +1,13 @@
 package com.focusflow.core.session;
 
 import java.io.Serializable;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import com.focusflow.core.timer.TimerType;
 
@@ -12,6 +16,22 @@ import com.focusflow.core.timer.TimerType;
  * 
  * This class tracks the duration and state of a focus session,
  * including start and end times, pauses, and completion status.
+ * 
+ * Every pause and recorded interruption is kept as an interval in a compact
+ * byte array: per interval, the seconds since the end of the previous
+ * interval (or since the session start) and the interval's length, both as
+ * unsigned varints. Most intervals take two to four bytes, and the
+ * interruption analytics read the array directly without creating an
+ * object per interval.
+ * 
+ * Distractions can be captured from any thread while the session runs.
+ * They go into a lock-free ring buffer created on the first capture, are
+ * drained in bulk, typically when a break starts, and stay with the session
+ * afterwards.
+ * 
+ * Start, pause, resume and end times are read from the session's clock,
+ * the system clock unless one is given, so simulated sessions can be
+ * recorded at simulated times.
  */
 public class FocusSession implements Serializable {
    
@@ -21,11 +41,36 @@ public class FocusSession implements Serializable {
     private LocalDateTime lastPauseTime;
     private long durationSeconds;
     private long pausedDurationSeconds;
+    private long suspendedDurationSeconds;
     private final String associatedTaskId;
     private boolean completed;
     private boolean paused;
     private boolean isConsecutiveSession;
     private TimerType timerType;
+    private byte[] interruptions;
+    private int interruptionBytes;
+    private long interruptionEndSeconds;
+    private volatile DistractionBuffer distractions;
+    // Not serialized; a deserialized session reads the system clock
+    private transient Clock clock;
+
+    private static final AtomicReferenceFieldUpdater<FocusSession, DistractionBuffer> DISTRACTIONS =
+        AtomicReferenceFieldUpdater.newUpdater(FocusSession.class, DistractionBuffer.class, "distractions");
+
+    /**
+     * Receives the intervals of a session's interruptions, as offsets from
+     * the session start.
+     */
+    @FunctionalInterface
+    public interface InterruptionConsumer {
+        /**
+         * Accepts one interruption.
+         * 
+         * @param startSeconds Seconds from the session start to the interruption
+         * @param lengthSeconds Length of the interruption in seconds, 0 for a momentary one
+         */
+        void accept(long startSeconds, long lengthSeconds);
+    }
 
     /**
      * Creates a new focus session for a task.
@@ -34,11 +79,27 @@ public class FocusSession implements Serializable {
      * @throws IllegalArgumentException if the task ID is null or empty
      */
     public FocusSession(String associatedTaskId) {
+        this(associatedTaskId, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a new focus session for a task that reads its times from the
+     * given clock.
+     * 
+     * @param associatedTaskId The ID of the task this session is for
+     * @param clock The clock the session's times are read from
+     * @throws IllegalArgumentException if the task ID is null or empty, or the clock is null
+     */
+    public FocusSession(String associatedTaskId, Clock clock) {
         if (associatedTaskId == null || associatedTaskId.trim().isEmpty()) {
             throw new IllegalArgumentException("Task ID cannot be null or empty");
         }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
         this.id = UUID.randomUUID();
-        this.startTime = LocalDateTime.now();
+        this.clock = clock;
+        this.startTime = LocalDateTime.now(clock);
         this.associatedTaskId = associatedTaskId;
         this.completed = false;
         this.paused = false;
@@ -73,6 +134,46 @@ public class FocusSession implements Serializable {
         }
     }
 
+    /**
+     * Recreates a completed session from its stored fields, as done by
+     * compact history stores when a session is read.
+     * 
+     * @param id The session's identifier
+     * @param associatedTaskId The ID of the task this session is for
+     * @param startTime The start time of the session
+     * @param endTime The end time of the session
+     * @param durationSeconds The counted duration in seconds
+     * @param pausedDurationSeconds The paused time in seconds
+     * @param suspendedDurationSeconds The suspended time in seconds
+     * @param paused Whether the session ended while paused
+     * @param consecutive Whether the session followed a scheduled break
+     * @param timerType The type of timer for this session
+     * @param interruptions The encoded interruptions, as returned by {@link #getInterruptionData()}, or null for none
+     * @param distractions The session's distractions, shared with the stored session, or null for none
+     */
+    FocusSession(UUID id, String associatedTaskId, LocalDateTime startTime, LocalDateTime endTime,
+            long durationSeconds, long pausedDurationSeconds, long suspendedDurationSeconds,
+            boolean paused, boolean consecutive, TimerType timerType, byte[] interruptions,
+            DistractionBuffer distractions) {
+        this.id = id;
+        this.associatedTaskId = associatedTaskId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.durationSeconds = durationSeconds;
+        this.pausedDurationSeconds = pausedDurationSeconds;
+        this.suspendedDurationSeconds = suspendedDurationSeconds;
+        this.completed = true;
+        this.paused = paused;
+        this.isConsecutiveSession = consecutive;
+        this.timerType = timerType;
+        this.distractions = distractions;
+        if (interruptions != null && interruptions.length > 0) {
+            this.interruptions = interruptions;
+            this.interruptionBytes = interruptions.length;
+            forEachInterruption((start, length) -> interruptionEndSeconds = start + length);
+        }
+    }
+
     /**
      * Pauses the current session.
      * 
@@ -85,7 +186,7 @@ public class FocusSession implements Serializable {
         if (completed) {
             throw new IllegalStateException("Cannot pause a completed session");
         }
-        lastPauseTime = LocalDateTime.now();
+        lastPauseTime = now();
         paused = true;
     }
 
@@ -101,10 +202,25 @@ public class FocusSession implements Serializable {
         if (completed) {
             throw new IllegalStateException("Cannot resume a completed session");
         }
-        pausedDurationSeconds += Duration.between(lastPauseTime, LocalDateTime.now()).getSeconds();
+        long pauseSeconds = Duration.between(lastPauseTime, now()).getSeconds();
+        pausedDurationSeconds += pauseSeconds;
+        addInterruption(Duration.between(startTime, lastPauseTime).getSeconds(), pauseSeconds);
         paused = false;
     }
 
+    /**
+     * Records a momentary interruption, such as a distraction that did not
+     * pause the session, at the current time.
+     * 
+     * @throws IllegalStateException if the session is completed
+     */
+    public void recordInterruption() {
+        if (completed) {
+            throw new IllegalStateException("Cannot record an interruption on a completed session");
+        }
+        addInterruption(Duration.between(startTime, now()).getSeconds(), 0);
+    }
+
     /**
      * Ends the current session.
      * 
@@ -114,11 +230,182 @@ public class FocusSession implements Serializable {
         if (completed) {
             throw new IllegalStateException("Session is already completed");
         }
-        this.endTime = LocalDateTime.now();
-        this.durationSeconds = Duration.between(startTime, endTime).getSeconds() - pausedDurationSeconds;
+        this.endTime = now();
+        this.durationSeconds = Duration.between(startTime, endTime).getSeconds()
+            - pausedDurationSeconds - suspendedDurationSeconds;
         this.completed = true;
     }
 
+    /**
+     * Records time the machine spent suspended during this session, as
+     * reported by the timer's clock-jump detection. Suspended time is not
+     * counted towards the session duration.
+     * 
+     * @param seconds The suspended time in seconds
+     * @throws IllegalArgumentException if the time is negative
+     * @throws IllegalStateException if the session is already completed
+     */
+    public void recordSuspension(long seconds) {
+        if (seconds < 0) {
+            throw new IllegalArgumentException("Suspended time cannot be negative");
+        }
+        if (completed) {
+            throw new IllegalStateException("Cannot record a suspension on a completed session");
+        }
+        suspendedDurationSeconds += seconds;
+    }
+
+    /**
+     * Gets the number of pauses and recorded interruptions, not counting a
+     * pause still in progress.
+     * 
+     * @return The interruption count
+     */
+    public int getInterruptionCount() {
+        int count = 0;
+        for (int pos = 0; pos < interruptionBytes; pos++) {
+            // Each varint ends with the one byte whose high bit is clear
+            if (interruptions[pos] >= 0) {
+                count++;
+            }
+        }
+        return count / 2;
+    }
+
+    /**
+     * Gets the time from the session start to the first interruption.
+     * 
+     * @return The seconds until the first interruption, or -1 if there was none
+     */
+    public long getSecondsToFirstInterruption() {
+        return interruptionBytes == 0 ? -1 : readVarint(interruptions, 0);
+    }
+
+    /**
+     * Gets the length of the longest interruption.
+     * 
+     * @return The longest interruption in seconds, or 0 if there was none
+     */
+    public long getLongestInterruptionSeconds() {
+        long longest = 0;
+        for (int pos = 0; pos < interruptionBytes; ) {
+            pos += varintLength(readVarint(interruptions, pos));
+            long length = readVarint(interruptions, pos);
+            pos += varintLength(length);
+            longest = Math.max(longest, length);
+        }
+        return longest;
+    }
+
+    /**
+     * Gets the longest stretch without interruption, from the session start,
+     * between interruptions, or up to the end of the session (the current
+     * time while it is active).
+     * 
+     * @return The longest uninterrupted stretch in seconds
+     */
+    public long getLongestUninterruptedSeconds() {
+        long longest = 0;
+        for (int pos = 0; pos < interruptionBytes; ) {
+            long gap = readVarint(interruptions, pos);
+            pos += varintLength(gap);
+            pos += varintLength(readVarint(interruptions, pos));
+            longest = Math.max(longest, gap);
+        }
+        LocalDateTime until = paused ? lastPauseTime : completed ? endTime : now();
+        long tail = Duration.between(startTime, until).getSeconds() - interruptionEndSeconds;
+        return Math.max(longest, tail);
+    }
+
+    /**
+     * Passes every pause and recorded interruption to a consumer, in order,
+     * without creating an object per interruption.
+     * 
+     * @param consumer The consumer to receive the interruptions
+     */
+    public void forEachInterruption(InterruptionConsumer consumer) {
+        long offset = 0;
+        for (int pos = 0; pos < interruptionBytes; ) {
+            long gap = readVarint(interruptions, pos);
+            pos += varintLength(gap);
+            long length = readVarint(interruptions, pos);
+            pos += varintLength(length);
+            consumer.accept(offset + gap, length);
+            offset += gap + length;
+        }
+    }
+
+    /**
+     * Gets a copy of the encoded interruptions, for storing the session.
+     * 
+     * @return The encoded interruptions, empty if there were none
+     */
+    public byte[] getInterruptionData() {
+        return interruptions == null ? new byte[0] : Arrays.copyOf(interruptions, interruptionBytes);
+    }
+
+    /**
+     * Captures a distraction to deal with later. This never blocks and may
+     * be called from any thread, also after the session has ended.
+     * 
+     * @param note A short description of the distraction
+     * @return true if it was captured, false if too many distractions are already waiting to be drained
+     * @throws IllegalArgumentException if the note is null
+     */
+    public boolean captureDistraction(String note) {
+        if (note == null) {
+            throw new IllegalArgumentException("Distraction note cannot be null");
+        }
+        DistractionBuffer buffer = distractions;
+        if (buffer == null) {
+            DISTRACTIONS.compareAndSet(this, null, new DistractionBuffer());
+            buffer = distractions;
+        }
+        return buffer.offer(new Distraction(note, clock == null ? System.currentTimeMillis() : clock.millis()));
+    }
+
+    /**
+     * Takes the distractions captured since the last drain. They are still
+     * kept with the session afterwards.
+     * 
+     * @return The newly captured distractions, in capture order
+     */
+    public List<Distraction> drainDistractions() {
+        DistractionBuffer buffer = distractions;
+        return buffer == null ? List.of() : buffer.drain();
+    }
+
+    /**
+     * Gets every distraction captured during this session.
+     * 
+     * @return An unmodifiable list of the distractions, in capture order
+     */
+    public List<Distraction> getDistractions() {
+        DistractionBuffer buffer = distractions;
+        return buffer == null ? List.of() : buffer.retained();
+    }
+
+    /**
+     * Gets the number of distractions that could not be captured because
+     * too many were waiting to be drained.
+     * 
+     * @return The dropped distraction count
+     */
+    public long getDroppedDistractionCount() {
+        DistractionBuffer buffer = distractions;
+        return buffer == null ? 0 : buffer.dropped();
+    }
+
+    /**
+     * Gets the buffer holding this session's distractions, for storing the
+     * session.
+     * 
+     * @return The buffer, or null if nothing was ever captured
+     */
+    DistractionBuffer distractionBuffer() {
+        return distractions;
+    }
+
     /**
      * Gets the unique identifier for this session.
      * 
@@ -191,6 +478,15 @@ public class FocusSession implements Serializable {
         return pausedDurationSeconds;
     }
 
+    /**
+     * Gets the total time the machine was suspended during the session.
+     * 
+     * @return The suspended duration in seconds
+     */
+    public long getSuspendedDurationSeconds() {
+        return suspendedDurationSeconds;
+    }
+
     /**
      * Checks if this session is consecutive to another session.
      * 
@@ -239,4 +535,55 @@ public class FocusSession implements Serializable {
     public void setTimerType(TimerType timerType) {
         this.timerType = timerType;
     }
+
+    /**
+     * Appends an interval. An interval starting before the previous one
+     * ended, as after a clock change, is moved to that end.
+     */
+    private LocalDateTime now() {
+        return clock == null ? LocalDateTime.now() : LocalDateTime.now(clock);
+    }
+
+    private void addInterruption(long startSeconds, long lengthSeconds) {
+        long gap = Math.max(0, startSeconds - interruptionEndSeconds);
+        long length = Math.max(0, lengthSeconds);
+        int needed = interruptionBytes + varintLength(gap) + varintLength(length);
+        if (interruptions == null) {
+            interruptions = new byte[Math.max(8, needed)];
+        } else if (needed > interruptions.length) {
+            interruptions = Arrays.copyOf(interruptions, Math.max(needed, interruptions.length * 2));
+        }
+        interruptionBytes = writeVarint(interruptions, interruptionBytes, gap);
+        interruptionBytes = writeVarint(interruptions, interruptionBytes, length);
+        interruptionEndSeconds += gap + length;
+    }
+
+    private static int writeVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarint(byte[] in, int pos) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in[pos++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static int varintLength(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
 }
\ No newline at end of file
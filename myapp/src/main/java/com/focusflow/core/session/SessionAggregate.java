@@ -0,0 +1,180 @@
+package com.focusflow.core.session;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Summary of the sessions of one day, for all tasks or for one task.
+ *
+ * Aggregates replace sessions that have been compacted out of the history,
+ * and summaries of recent days are built the same way from the sessions
+ * still kept, so both read alike. Consecutive-run statistics count work
+ * sessions only, and a run continues while each session starts within the
+ * allowed break after the previous one ended.
+ */
+public final class SessionAggregate {
+    private final LocalDate date;
+    private final String taskId;
+    private int sessionCount;
+    private long totalSeconds;
+    private long pausedSeconds;
+    private int workSessionCount;
+    private int consecutiveSessionCount;
+    private int longestRun;
+    private int trailingRun;
+    private LocalDateTime lastEnd;
+
+    SessionAggregate(LocalDate date, String taskId) {
+        this.date = date;
+        this.taskId = taskId;
+    }
+
+    /**
+     * Recreates an aggregate from its recorded fields, as when restoring it
+     * from the session journal.
+     */
+    SessionAggregate(LocalDate date, String taskId, int sessionCount, long totalSeconds, long pausedSeconds,
+            int workSessionCount, int consecutiveSessionCount, int longestRun, int trailingRun,
+            LocalDateTime lastEnd) {
+        this(date, taskId);
+        this.sessionCount = sessionCount;
+        this.totalSeconds = totalSeconds;
+        this.pausedSeconds = pausedSeconds;
+        this.workSessionCount = workSessionCount;
+        this.consecutiveSessionCount = consecutiveSessionCount;
+        this.longestRun = longestRun;
+        this.trailingRun = trailingRun;
+        this.lastEnd = lastEnd;
+    }
+
+    /**
+     * Gets the day this aggregate covers.
+     *
+     * @return The date
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Gets the task this aggregate covers.
+     *
+     * @return The task ID, or null if the aggregate covers all tasks
+     */
+    public String getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Gets the number of sessions, breaks included.
+     *
+     * @return The session count
+     */
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Gets the total counted duration of the sessions.
+     *
+     * @return The total duration in seconds
+     */
+    public long getTotalSeconds() {
+        return totalSeconds;
+    }
+
+    /**
+     * Gets the total time the sessions were paused.
+     *
+     * @return The paused duration in seconds
+     */
+    public long getPausedSeconds() {
+        return pausedSeconds;
+    }
+
+    /**
+     * Gets the number of work sessions, breaks excluded.
+     *
+     * @return The work session count
+     */
+    public int getWorkSessionCount() {
+        return workSessionCount;
+    }
+
+    /**
+     * Gets the number of work sessions that continued a run.
+     *
+     * @return The number of consecutive sessions
+     */
+    public int getConsecutiveSessionCount() {
+        return consecutiveSessionCount;
+    }
+
+    /**
+     * Gets the longest run of back-to-back work sessions.
+     *
+     * @return The longest run length
+     */
+    public int getLongestRun() {
+        return longestRun;
+    }
+
+    int getTrailingRun() {
+        return trailingRun;
+    }
+
+    LocalDateTime getLastEnd() {
+        return lastEnd;
+    }
+
+    /**
+     * Folds the next session of the day into the aggregate.
+     *
+     * @param session The completed session
+     * @param maxGapSeconds The longest break that keeps a run going
+     */
+    void add(FocusSession session, long maxGapSeconds) {
+        sessionCount++;
+        totalSeconds += session.getDurationSeconds();
+        pausedSeconds += session.getPausedDurationSeconds();
+        if (StreakEngine.isBreak(session.getTimerType())) {
+            return;
+        }
+        workSessionCount++;
+        if (lastEnd != null) {
+            long gap = Duration.between(lastEnd, session.getStartTime()).getSeconds();
+            if (gap >= 0 && gap <= maxGapSeconds) {
+                consecutiveSessionCount++;
+                trailingRun++;
+            } else {
+                trailingRun = 1;
+            }
+        } else {
+            trailingRun = 1;
+        }
+        longestRun = Math.max(longestRun, trailingRun);
+        if (lastEnd == null || session.getEndTime().isAfter(lastEnd)) {
+            lastEnd = session.getEndTime();
+        }
+    }
+
+    SessionAggregate copy() {
+        SessionAggregate copy = new SessionAggregate(date, taskId);
+        copy.sessionCount = sessionCount;
+        copy.totalSeconds = totalSeconds;
+        copy.pausedSeconds = pausedSeconds;
+        copy.workSessionCount = workSessionCount;
+        copy.consecutiveSessionCount = consecutiveSessionCount;
+        copy.longestRun = longestRun;
+        copy.trailingRun = trailingRun;
+        copy.lastEnd = lastEnd;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionAggregate[" + date + (taskId == null ? "" : ", " + taskId) + ", sessions=" + sessionCount
+            + ", totalSeconds=" + totalSeconds + ", longestRun=" + longestRun + "]";
+    }
+}
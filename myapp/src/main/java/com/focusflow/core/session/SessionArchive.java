@@ -0,0 +1,122 @@
+package com.focusflow.core.session;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-day and per-task aggregates of sessions compacted out of the history.
+ *
+ * Folding a session is O(log d) for d archived days, and the archive's size
+ * grows with the number of active days and tasks, not with the number of
+ * sessions.
+ */
+final class SessionArchive {
+    private final TreeMap<LocalDate, Day> days = new TreeMap<>();
+    private int sessionCount;
+
+    /**
+     * Folds a session into its day's aggregates.
+     *
+     * @param session The completed session
+     * @param maxGapSeconds The longest break that keeps a run going
+     */
+    void fold(FocusSession session, long maxGapSeconds) {
+        LocalDate date = session.getStartTime().toLocalDate();
+        Day day = days.computeIfAbsent(date, Day::new);
+        day.all.add(session, maxGapSeconds);
+        day.byTask.computeIfAbsent(session.getAssociatedTaskId(), id -> new SessionAggregate(date, id))
+            .add(session, maxGapSeconds);
+        sessionCount++;
+    }
+
+    /**
+     * Puts a previously recorded aggregate into the archive, replacing the
+     * one kept for the same day and task.
+     *
+     * @param aggregate The aggregate to restore
+     */
+    void restore(SessionAggregate aggregate) {
+        Day day = days.computeIfAbsent(aggregate.getDate(), Day::new);
+        if (aggregate.getTaskId() == null) {
+            sessionCount += aggregate.getSessionCount() - day.all.getSessionCount();
+            day.all = aggregate;
+        } else {
+            day.byTask.put(aggregate.getTaskId(), aggregate);
+        }
+    }
+
+    /**
+     * Gets the aggregate of a day.
+     *
+     * @param date The day
+     * @param taskId The task, or null for all tasks
+     * @return The aggregate, or null if nothing of that day was archived
+     */
+    SessionAggregate get(LocalDate date, String taskId) {
+        Day day = days.get(date);
+        if (day == null) {
+            return null;
+        }
+        return taskId == null ? day.all : day.byTask.get(taskId);
+    }
+
+    /**
+     * Counts the archived sessions of every day that overlaps a range.
+     * Archived sessions only keep their day, so the range is applied to
+     * whole days.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, exclusive
+     * @return The number of archived sessions on those days
+     */
+    int countBetween(LocalDateTime from, LocalDateTime to) {
+        if (days.isEmpty() || !to.isAfter(from)) {
+            return 0;
+        }
+        LocalDate lastDay = to.toLocalTime().equals(LocalTime.MIDNIGHT)
+            ? to.toLocalDate().minusDays(1) : to.toLocalDate();
+        if (lastDay.isBefore(from.toLocalDate())) {
+            return 0;
+        }
+        int count = 0;
+        for (Day day : days.subMap(from.toLocalDate(), true, lastDay, true).values()) {
+            count += day.all.getSessionCount();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the archived days in date order.
+     *
+     * @return The days
+     */
+    Collection<Day> days() {
+        return days.values();
+    }
+
+    /**
+     * Gets the number of sessions folded into the archive.
+     *
+     * @return The archived session count
+     */
+    int size() {
+        return sessionCount;
+    }
+
+    /**
+     * The aggregates of one archived day.
+     */
+    static final class Day {
+        SessionAggregate all;
+        final Map<String, SessionAggregate> byTask = new HashMap<>();
+
+        Day(LocalDate date) {
+            this.all = new SessionAggregate(date, null);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.focusflow.core.session;
+
+/**
+ * Position in the session history from which the next page is read.
+ *
+ * The history is append-only, so a cursor stays valid while new sessions are
+ * added: later pages continue exactly where the previous one stopped, and
+ * sessions appended in the meantime are never mixed into them.
+ */
+public final class SessionCursor {
+    private final int position;
+    private final int remaining;
+
+    SessionCursor(int position, int remaining) {
+        this.position = position;
+        this.remaining = remaining;
+    }
+
+    /**
+     * Gets the number of older sessions that remained to be read when the
+     * cursor was handed out.
+     *
+     * @return The number of sessions before this cursor
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    int position() {
+        return position;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SessionCursor && ((SessionCursor) other).position == position;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(position);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionCursor[" + position + "]";
+    }
+}
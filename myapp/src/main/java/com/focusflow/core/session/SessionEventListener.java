@@ -43,7 +43,22 @@ public interface SessionEventListener {
     /**
      * Called when the session history changes.
      * 
-     * @param history The updated list of all sessions
+     * Listeners that keep their own copy of the history should implement
+     * {@link #onSessionHistoryDelta(SessionHistoryDelta)} instead, which only
+     * carries what changed.
+     * 
+     * @param history An immutable snapshot of all sessions
+     */
+    default void onSessionHistoryChanged(List<FocusSession> history) {}
+
+    /**
+     * Called when the session history changes, with only the sessions that
+     * were appended or removed. Deltas arrive in version order; a listener
+     * that detects a gap between the last version it saw and
+     * {@link SessionHistoryDelta#getFromVersion()} can resync through
+     * {@link SessionManager#getHistoryChangesSince(long)}.
+     * 
+     * @param delta The change to the history
      */
-    void onSessionHistoryChanged(List<FocusSession> history);
+    default void onSessionHistoryDelta(SessionHistoryDelta delta) {}
 }
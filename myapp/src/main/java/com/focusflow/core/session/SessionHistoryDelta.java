@@ -0,0 +1,94 @@
+package com.focusflow.core.session;
+
+import java.util.List;
+
+/**
+ * A change to the session history, from one history version to the next.
+ *
+ * Each change carries only the sessions that were appended or removed, so
+ * handling it costs the same however long the history is. A listener that
+ * applies every delta in version order holds an exact copy of the history;
+ * one that misses deltas can ask {@link SessionManager#getHistoryChangesSince(long)}
+ * for the combined change since the last version it saw.
+ *
+ * When the requested version is too old to be reconstructed, the delta is a
+ * reset: the listener should discard its state and take the appended
+ * sessions as the complete history.
+ */
+public final class SessionHistoryDelta {
+    private final long fromVersion;
+    private final long toVersion;
+    private final List<FocusSession> appended;
+    private final List<FocusSession> removed;
+    private final boolean reset;
+
+    SessionHistoryDelta(long fromVersion, long toVersion, List<FocusSession> appended,
+                        List<FocusSession> removed, boolean reset) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.appended = appended;
+        this.removed = removed;
+        this.reset = reset;
+    }
+
+    /**
+     * Gets the history version this delta applies to.
+     *
+     * @return The version before the change
+     */
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    /**
+     * Gets the history version after this delta is applied.
+     *
+     * @return The version after the change
+     */
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    /**
+     * Gets the sessions added to the end of the history.
+     *
+     * @return An unmodifiable list of appended sessions, in history order
+     */
+    public List<FocusSession> getAppended() {
+        return appended;
+    }
+
+    /**
+     * Gets the sessions removed from the history.
+     *
+     * @return An unmodifiable list of removed sessions
+     */
+    public List<FocusSession> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Checks whether this delta replaces the whole history rather than
+     * changing it.
+     *
+     * @return true if the appended sessions are the complete history
+     */
+    public boolean isReset() {
+        return reset;
+    }
+
+    /**
+     * Checks whether the delta changes nothing.
+     *
+     * @return true if no sessions were appended or removed
+     */
+    public boolean isEmpty() {
+        return !reset && appended.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SessionHistoryDelta[" + fromVersion + " -> " + toVersion + ", appended=" + appended.size()
+            + ", removed=" + removed.size() + (reset ? ", reset" : "") + "]";
+    }
+}
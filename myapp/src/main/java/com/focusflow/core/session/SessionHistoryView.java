@@ -0,0 +1,169 @@
+package com.focusflow.core.session;
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Immutable snapshot of session history, ordered by start time.
+ *
+ * Taking a snapshot is O(1) and copies nothing: the view shares the
+ * history's backing storage and only remembers which range of it it covers.
+ * Sessions appended later are not visible through an existing view, and
+ * sessions compacted away later stay visible through it, so a reader always
+ * works on one consistent state of the history while it keeps changing.
+ *
+ * Besides plain list access, the view supports newest-first pagination with
+ * cursors, optionally starting from a point in time. The view remembers
+ * whether its sessions are still ordered by start time; if one was ever
+ * appended out of order, finding a point in time falls back to a linear
+ * scan.
+ */
+public final class SessionHistoryView extends AbstractList<FocusSession> implements RandomAccess {
+    static final SessionHistoryView EMPTY = new SessionHistoryView(new SessionLog.ArraySource(new FocusSession[0], 0), 0, 0);
+
+    private final SessionSource sessions;
+    private final int first;
+    private final int size;
+    private final boolean ordered;
+
+    /**
+     * Creates a view of a range of a source that is ordered by start time.
+     *
+     * @param sessions The source to read from
+     * @param first The source position of the first session in the view
+     * @param size The number of sessions in the view
+     */
+    SessionHistoryView(SessionSource sessions, int first, int size) {
+        this(sessions, first, size, true);
+    }
+
+    /**
+     * Creates a view of a range of a source.
+     *
+     * @param sessions The source to read from
+     * @param first The source position of the first session in the view
+     * @param size The number of sessions in the view
+     * @param ordered Whether the sessions are ordered by start time
+     */
+    SessionHistoryView(SessionSource sessions, int first, int size, boolean ordered) {
+        this.sessions = sessions;
+        this.first = first;
+        this.size = size;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public FocusSession get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return sessions.get(first + index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the most recent sessions.
+     *
+     * @param limit The maximum number of sessions on the page
+     * @return The first page, newest session first
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public SessionPage newestFirst(int limit) {
+        return pageBefore(first + size, limit);
+    }
+
+    /**
+     * Gets the page that continues where a previous page stopped.
+     *
+     * @param cursor The cursor returned by the previous page
+     * @param limit The maximum number of sessions on the page
+     * @return The next page, newest session first
+     * @throws IllegalArgumentException if the cursor is null or does not belong to this history, or the limit is not positive
+     */
+    public SessionPage page(SessionCursor cursor, int limit) {
+        if (cursor == null || cursor.position() > first + size) {
+            throw new IllegalArgumentException("Cursor does not belong to this history");
+        }
+        // Sessions compacted since the cursor was handed out are skipped
+        return pageBefore(Math.max(first, cursor.position()), limit);
+    }
+
+    /**
+     * Gets the most recent sessions that started at or before a point in
+     * time, found by binary search on the start times. If the history is
+     * not ordered by start time, a linear scan finds the first session that
+     * started after that time instead, and the page ends just before it.
+     *
+     * @param from The latest start time to include
+     * @param limit The maximum number of sessions on the page
+     * @return The first page, newest session first
+     * @throws IllegalArgumentException if the time is null or the limit is not positive
+     */
+    public SessionPage newestFirstFrom(LocalDateTime from, int limit) {
+        if (from == null) {
+            throw new IllegalArgumentException("Start time cannot be null");
+        }
+        if (!ordered) {
+            int end = first;
+            while (end < first + size && !sessions.startsAfter(end, from)) {
+                end++;
+            }
+            return pageBefore(end, limit);
+        }
+        int low = first;
+        int high = first + size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sessions.startsAfter(mid, from)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return pageBefore(low, limit);
+    }
+
+    /**
+     * Checks whether the sessions in the view are ordered by start time.
+     *
+     * @return true if no session starts before the one preceding it
+     */
+    boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Checks whether a session starting at the given time can follow the
+     * sessions in this view and keep them ordered by start time.
+     *
+     * @param start The start time of the next session
+     * @return true if the view stays ordered with the session appended
+     */
+    boolean staysOrderedWith(LocalDateTime start) {
+        return ordered && (size == 0 || !sessions.startsAfter(first + size - 1, start));
+    }
+
+    SessionSource source() {
+        return sessions;
+    }
+
+    int first() {
+        return first;
+    }
+
+    int end() {
+        return first + size;
+    }
+
+    private SessionPage pageBefore(int end, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        return new SessionPage(sessions, first, Math.max(first, end - limit), end);
+    }
+}
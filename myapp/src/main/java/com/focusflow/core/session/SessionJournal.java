@@ -0,0 +1,764 @@
+package com.focusflow.core.session;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import com.focusflow.core.timer.TimerScheduler;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Append-only write-ahead log of session events, so that session history
+ * survives a crash.
+ *
+ * Attached to a {@link SessionManager}, the journal appends a record for
+ * every session start, pause, resume and end to memory-mapped segment
+ * files. End records carry the whole completed session, so restoring the
+ * history only needs those. Sessions dropped from the history by
+ * compaction get a removal record, and replay leaves them out; the
+ * aggregates they were folded into are journaled after them, each record
+ * replacing the one before for the same day and task, so compacted counts
+ * and totals survive a restart. Records are forced to disk in groups: once
+ * enough records are pending, or when the flush interval has passed since
+ * the first unflushed record, whichever comes first.
+ *
+ * Record layout, big-endian:
+ * <pre>
+ * int    length of kind and payload
+ * byte   kind: 1 start, 2 pause, 3 resume, 4 end, 5 removal, 6 aggregate
+ * all but aggregate:
+ * long   session ID, most significant bits
+ * long   session ID, least significant bits
+ * long   event time, epoch seconds (UTC)
+ * int    event time, nanoseconds
+ * end only:
+ *   long  start time, epoch seconds (UTC)
+ *   int   start time, nanoseconds
+ *   long  duration seconds
+ *   long  paused seconds
+ *   long  suspended seconds
+ * start and end:
+ *   byte  flags: 1 paused, 2 consecutive
+ *   byte  timer type ordinal plus one, zero for none
+ *   short task ID length, then the task ID in UTF-8
+ * end only, optional:
+ *   short encoded interruptions length, then the bytes as kept by
+ *         {@link FocusSession#getInterruptionData()}
+ * aggregate only:
+ *   long  day, epoch days
+ *   int   session count
+ *   long  total seconds
+ *   long  paused seconds
+ *   int   work session count
+ *   int   consecutive session count
+ *   int   longest run
+ *   int   trailing run
+ *   byte  1 if a last end time follows, else 0
+ *   long  last end time, epoch seconds (UTC), if present
+ *   int   last end time, nanoseconds, if present
+ *   short task ID length, -1 for all tasks, then the task ID in UTF-8
+ * int    CRC-32 of length, kind and payload
+ * </pre>
+ *
+ * A segment is rolled once the next record does not fit, and truncated to
+ * the bytes actually written when it is closed, so no file exceeds the
+ * segment size. {@link #checkpoint(List)} rewrites the history into fresh
+ * segments and deletes the older ones, which bounds the total log size.
+ * Attaching folds only the replayed segments that need it: from the first
+ * segment holding a record a checkpoint would drop, such as a start record
+ * or the end record of a compacted session, the live records are rewritten
+ * and those segments deleted, while the segments before it, typically the
+ * output of earlier folds, are left untouched.
+ * Replay stops at the first torn or corrupt record of a segment.
+ */
+public class SessionJournal implements SessionEventListener, Closeable {
+    /**
+     * Default maximum size of a segment file in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * Default number of pending records that forces a flush.
+     */
+    public static final int DEFAULT_FLUSH_EVERY_RECORDS = 32;
+
+    /**
+     * Default time in milliseconds a record may wait before it is flushed.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+
+    private static final String SEGMENT_PREFIX = "sessions-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final int MIN_SEGMENT_BYTES = 4096;
+    private static final byte KIND_START = 1;
+    private static final byte KIND_PAUSE = 2;
+    private static final byte KIND_RESUME = 3;
+    private static final byte KIND_END = 4;
+    private static final byte KIND_REMOVE = 5;
+    private static final byte KIND_AGGREGATE = 6;
+    private static final int FLAG_PAUSED = 1;
+    private static final int FLAG_CONSECUTIVE = 1 << 1;
+    private static final TimerType[] TYPES = TimerType.values();
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int flushEveryRecords;
+    private final long flushIntervalMillis;
+    private final TimerScheduler scheduler;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer record = ByteBuffer.allocate(256);
+    private long nextSegment;
+    private long firstWrittenSegment;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int pendingRecords;
+    private TimerScheduler.Registration pendingFlush;
+    private int interruptedSessions;
+    private SessionManager manager;
+    private Replay loading;
+    private boolean closed;
+
+    private SessionJournal(Path directory, int segmentBytes, int flushEveryRecords,
+            long flushIntervalMillis, TimerScheduler scheduler) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.flushEveryRecords = flushEveryRecords;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Opens the journal in the given directory with the default segment size
+     * and group-commit settings, creating the directory if needed.
+     *
+     * @param directory The directory holding the segment files
+     * @return The opened journal
+     * @throws IOException if the directory cannot be created or read
+     */
+    public static SessionJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_FLUSH_EVERY_RECORDS,
+            DEFAULT_FLUSH_INTERVAL_MILLIS, TimerScheduler.shared());
+    }
+
+    /**
+     * Opens the journal in the given directory, creating the directory if
+     * needed. New records always go to a new segment after the existing ones.
+     *
+     * @param directory The directory holding the segment files
+     * @param segmentBytes The maximum size of a segment file in bytes
+     * @param flushEveryRecords The number of pending records that forces a flush; 1 flushes every record
+     * @param flushIntervalMillis The longest time a record may wait before it is flushed
+     * @param scheduler The scheduler that runs interval flushes
+     * @return The opened journal
+     * @throws IOException if the directory cannot be created or read
+     * @throws IllegalArgumentException if the directory or scheduler is null, or a setting is out of range
+     */
+    public static SessionJournal open(Path directory, int segmentBytes, int flushEveryRecords,
+            long flushIntervalMillis, TimerScheduler scheduler) throws IOException {
+        if (directory == null || scheduler == null) {
+            throw new IllegalArgumentException("Directory and scheduler cannot be null");
+        }
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_BYTES + " bytes");
+        }
+        if (flushEveryRecords <= 0 || flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush settings must be positive");
+        }
+        Files.createDirectories(directory);
+        SessionJournal journal = new SessionJournal(directory, segmentBytes, flushEveryRecords,
+            flushIntervalMillis, scheduler);
+        List<Path> segments = journal.listSegments();
+        journal.nextSegment = segments.isEmpty() ? 0 : indexOf(segments.get(segments.size() - 1)) + 1;
+        journal.firstWrittenSegment = journal.nextSegment;
+        return journal;
+    }
+
+    /**
+     * Replays the journal into a session manager and starts recording its
+     * events. The aggregates of compacted sessions are restored first, then
+     * the completed sessions are loaded into the history in one call, and
+     * the replayed segments that need it are folded.
+     *
+     * @param manager The session manager to restore and record, with an empty history
+     * @return The number of sessions restored
+     * @throws IOException if a segment cannot be read, written or deleted
+     * @throws IllegalArgumentException if the manager is null
+     * @throws IllegalStateException if the manager's history is not empty
+     */
+    public int attach(SessionManager manager) throws IOException {
+        if (manager == null) {
+            throw new IllegalArgumentException("Session manager cannot be null");
+        }
+        Replay replay = replaySegments();
+        List<FocusSession> sessions = replay.keptSessions();
+        manager.loadArchive(replay.aggregates.values());
+        this.manager = manager;
+        // Listen while loading to learn which sessions the load compacts
+        loading = replay;
+        manager.addListener(this);
+        try {
+            manager.loadHistory(sessions);
+        } finally {
+            loading = null;
+        }
+        fold(replay);
+        return sessions.size();
+    }
+
+    /**
+     * Reads the completed sessions from every segment written before this
+     * journal was opened, in the order they ended. Sessions that appear
+     * more than once, as after an interrupted checkpoint, are returned once,
+     * and sessions with a removal record are left out.
+     *
+     * @return The completed sessions
+     * @throws IOException if a segment cannot be read
+     */
+    public List<FocusSession> replay() throws IOException {
+        return replaySegments().keptSessions();
+    }
+
+    /**
+     * Gets the number of sessions that were started but never ended before
+     * the last shutdown, as found by the last replay.
+     *
+     * @return The number of interrupted sessions
+     */
+    public synchronized int getInterruptedSessionCount() {
+        return interruptedSessions;
+    }
+
+    @Override
+    public void onSessionStarted(FocusSession session) {
+        append(KIND_START, session, LocalDateTime.now());
+    }
+
+    @Override
+    public void onSessionPaused(FocusSession session) {
+        append(KIND_PAUSE, session, LocalDateTime.now());
+    }
+
+    @Override
+    public void onSessionResumed(FocusSession session) {
+        append(KIND_RESUME, session, LocalDateTime.now());
+    }
+
+    @Override
+    public void onSessionEnded(FocusSession session) {
+        // Recorded from the history delta, which also covers loaded sessions
+    }
+
+    @Override
+    public void onSessionHistoryDelta(SessionHistoryDelta delta) {
+        if (loading != null) {
+            // Restored sessions are journaled already; the fold covers any the load compacted
+            loading.compactedOnLoad(delta.getRemoved());
+            return;
+        }
+        if (!delta.getRemoved().isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            for (FocusSession session : delta.getRemoved()) {
+                append(KIND_REMOVE, session, now);
+            }
+            appendAggregatesOf(delta.getRemoved());
+        }
+        for (FocusSession session : delta.getAppended()) {
+            append(KIND_END, session, session.getEndTime());
+        }
+    }
+
+    /**
+     * Forces every pending record to disk.
+     *
+     * @throws UncheckedIOException if the segment cannot be flushed
+     */
+    public synchronized void sync() {
+        if (pendingFlush != null) {
+            pendingFlush.cancel();
+            pendingFlush = null;
+        }
+        if (segment != null && pendingRecords > 0) {
+            segment.force();
+        }
+        pendingRecords = 0;
+    }
+
+    /**
+     * Rewrites the given history as end records into new segments and
+     * deletes all older segments. The compacted aggregates of the attached
+     * session manager, if any, are rewritten before the sessions. An
+     * interrupted checkpoint leaves the old segments in place, and replay
+     * ignores the duplicated sessions.
+     *
+     * @param history The complete session history to keep
+     * @throws IOException if the segments cannot be written or deleted
+     */
+    public synchronized void checkpoint(List<FocusSession> history) throws IOException {
+        closeSegment();
+        long checkpointSegment = nextSegment;
+        if (manager != null) {
+            for (SessionArchive.Day day : manager.getArchive().days()) {
+                appendAggregate(day.all);
+                day.byTask.values().forEach(this::appendAggregate);
+            }
+        }
+        for (FocusSession session : history) {
+            append(KIND_END, session, session.getEndTime());
+        }
+        sync();
+        for (Path path : listSegments()) {
+            if (indexOf(path) < checkpointSegment) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Gets the segment files currently in the journal directory.
+     *
+     * @return The segment paths, oldest first
+     * @throws IOException if the directory cannot be read
+     */
+    public List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : files) {
+                segments.add(path);
+            }
+        }
+        // Fixed-width names sort in segment order
+        Collections.sort(segments);
+        return segments;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closeSegment();
+        closed = true;
+    }
+
+    /**
+     * Reads every segment written before this journal was opened.
+     */
+    private synchronized Replay replaySegments() throws IOException {
+        Replay replay = new Replay();
+        for (Path path : listSegments()) {
+            if (indexOf(path) >= firstWrittenSegment) {
+                break;
+            }
+            try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (in.size() > 0) {
+                    readSegment(in.map(FileChannel.MapMode.READ_ONLY, 0, in.size()), replay.segments.size(), replay);
+                }
+            }
+            replay.segments.add(path);
+        }
+        Set<UUID> interrupted = new HashSet<>(replay.started);
+        interrupted.removeAll(replay.ended);
+        interruptedSessions = interrupted.size();
+        return replay;
+    }
+
+    /**
+     * Rewrites the live records of the replayed segments from the first one
+     * holding a dead record, then deletes those segments. The aggregates
+     * are written as the attached manager now keeps them, which covers the
+     * sessions compacted while loading.
+     */
+    private synchronized void fold(Replay replay) throws IOException {
+        for (int i = 0; i < replay.sessions.size(); i++) {
+            if (replay.removed.contains(replay.sessions.get(i).getId())) {
+                replay.dirty.set(replay.sessionSegments.get(i));
+            }
+        }
+        for (String key : replay.changedOnLoad) {
+            Integer segment = replay.aggregateSegments.get(key);
+            if (segment != null) {
+                replay.dirty.set(segment);
+            }
+        }
+        int from = replay.dirty.nextSetBit(0);
+        if (from < 0) {
+            return;
+        }
+        closeSegment();
+        for (SessionArchive.Day day : manager.getArchive().days()) {
+            appendAggregateIfFolded(day.all, replay, from);
+            for (SessionAggregate aggregate : day.byTask.values()) {
+                appendAggregateIfFolded(aggregate, replay, from);
+            }
+        }
+        for (int i = 0; i < replay.sessions.size(); i++) {
+            FocusSession session = replay.sessions.get(i);
+            if (replay.sessionSegments.get(i) >= from && !replay.removed.contains(session.getId())) {
+                append(KIND_END, session, session.getEndTime());
+            }
+        }
+        // Later records start a new segment, so the folded ones stay clean
+        closeSegment();
+        for (Path path : replay.segments.subList(from, replay.segments.size())) {
+            Files.delete(path);
+        }
+    }
+
+    private void appendAggregateIfFolded(SessionAggregate aggregate, Replay replay, int from) {
+        Integer segment = replay.aggregateSegments.get(keyOf(aggregate.getDate(), aggregate.getTaskId()));
+        if (segment == null || segment >= from) {
+            appendAggregate(aggregate);
+        }
+    }
+
+    /**
+     * Journals the attached manager's aggregates of every day and task the
+     * removed sessions were compacted into.
+     */
+    private void appendAggregatesOf(List<FocusSession> removed) {
+        if (manager == null) {
+            return;
+        }
+        SessionArchive archive = manager.getArchive();
+        Set<String> written = new HashSet<>();
+        for (FocusSession session : removed) {
+            LocalDate date = session.getStartTime().toLocalDate();
+            if (written.add(keyOf(date, null))) {
+                appendAggregate(archive.get(date, null));
+            }
+            if (written.add(keyOf(date, session.getAssociatedTaskId()))) {
+                appendAggregate(archive.get(date, session.getAssociatedTaskId()));
+            }
+        }
+    }
+
+    private synchronized void append(byte kind, FocusSession session, LocalDateTime time) {
+        checkOpen();
+        encode(kind, session, time);
+        write();
+    }
+
+    private synchronized void appendAggregate(SessionAggregate aggregate) {
+        checkOpen();
+        encodeAggregate(aggregate);
+        write();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Session journal is closed");
+        }
+    }
+
+    private void write() {
+        try {
+            if (segment == null || segment.remaining() < record.remaining()) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll session journal segment", e);
+        }
+        segment.put(record);
+
+        pendingRecords++;
+        if (pendingRecords >= flushEveryRecords) {
+            sync();
+        } else if (pendingFlush == null) {
+            pendingFlush = scheduler.schedule(this::flushPending, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void flushPending() {
+        pendingFlush = null;
+        if (!closed) {
+            sync();
+        }
+    }
+
+    private void encode(byte kind, FocusSession session, LocalDateTime time) {
+        byte[] taskId = kind == KIND_START || kind == KIND_END
+            ? session.getAssociatedTaskId().getBytes(StandardCharsets.UTF_8) : null;
+        if (taskId != null && taskId.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Task ID too long for the session journal");
+        }
+        byte[] interruptions = kind == KIND_END ? session.getInterruptionData() : null;
+        if (interruptions != null && interruptions.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many interruptions for the session journal");
+        }
+        int size = 4 + 1 + 16 + 12 + (kind == KIND_END ? 38 + interruptions.length : 0)
+            + (taskId != null ? 4 + taskId.length : 0) + 4;
+        if (size > segmentBytes) {
+            throw new IllegalArgumentException("Session record does not fit in a journal segment");
+        }
+        if (record.capacity() < size) {
+            record = ByteBuffer.allocate(Math.max(size, record.capacity() * 2));
+        }
+
+        record.clear();
+        record.putInt(size - 8);
+        record.put(kind);
+        record.putLong(session.getId().getMostSignificantBits());
+        record.putLong(session.getId().getLeastSignificantBits());
+        putTime(record, time);
+        if (kind == KIND_END) {
+            putTime(record, session.getStartTime());
+            record.putLong(session.getDurationSeconds());
+            record.putLong(session.getPausedDurationSeconds());
+            record.putLong(session.getSuspendedDurationSeconds());
+        }
+        if (taskId != null) {
+            int flags = (session.isPaused() ? FLAG_PAUSED : 0) | (session.isConsecutive() ? FLAG_CONSECUTIVE : 0);
+            TimerType type = session.getTimerType();
+            record.put((byte) flags);
+            record.put((byte) (type == null ? 0 : type.ordinal() + 1));
+            record.putShort((short) taskId.length);
+            record.put(taskId);
+        }
+        if (interruptions != null) {
+            record.putShort((short) interruptions.length);
+            record.put(interruptions);
+        }
+        seal();
+    }
+
+    private void encodeAggregate(SessionAggregate aggregate) {
+        byte[] taskId = aggregate.getTaskId() == null ? null
+            : aggregate.getTaskId().getBytes(StandardCharsets.UTF_8);
+        if (taskId != null && taskId.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Task ID too long for the session journal");
+        }
+        LocalDateTime lastEnd = aggregate.getLastEnd();
+        int size = 4 + 1 + 45 + (lastEnd != null ? 12 : 0) + 2 + (taskId != null ? taskId.length : 0) + 4;
+        if (record.capacity() < size) {
+            record = ByteBuffer.allocate(Math.max(size, record.capacity() * 2));
+        }
+
+        record.clear();
+        record.putInt(size - 8);
+        record.put(KIND_AGGREGATE);
+        record.putLong(aggregate.getDate().toEpochDay());
+        record.putInt(aggregate.getSessionCount());
+        record.putLong(aggregate.getTotalSeconds());
+        record.putLong(aggregate.getPausedSeconds());
+        record.putInt(aggregate.getWorkSessionCount());
+        record.putInt(aggregate.getConsecutiveSessionCount());
+        record.putInt(aggregate.getLongestRun());
+        record.putInt(aggregate.getTrailingRun());
+        record.put((byte) (lastEnd != null ? 1 : 0));
+        if (lastEnd != null) {
+            putTime(record, lastEnd);
+        }
+        record.putShort((short) (taskId == null ? -1 : taskId.length));
+        if (taskId != null) {
+            record.put(taskId);
+        }
+        seal();
+    }
+
+    private void seal() {
+        crc.reset();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        record.flip();
+    }
+
+    private void rollSegment() throws IOException {
+        closeSegment();
+        Path path = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, nextSegment++, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment == null) {
+            return;
+        }
+        sync();
+        int written = segment.position();
+        segment = null;
+        channel.truncate(written);
+        channel.close();
+        channel = null;
+    }
+
+    private void readSegment(ByteBuffer in, int segment, Replay replay) {
+        CRC32 check = new CRC32();
+        while (in.remaining() >= 8) {
+            int start = in.position();
+            int length = in.getInt();
+            if (length <= 0 || length > in.remaining() - 4) {
+                // Zero fill after the last record, or a record torn by a crash
+                replay.dirty.set(segment);
+                return;
+            }
+            ByteBuffer body = in.slice(start, 4 + length);
+            check.reset();
+            check.update(body);
+            in.position(start + 4 + length);
+            if ((int) check.getValue() != in.getInt()) {
+                System.err.println("Corrupt session journal record at offset " + start + "; ignoring the rest of the segment");
+                replay.dirty.set(segment);
+                return;
+            }
+            in.position(start + 4);
+            byte kind = in.get();
+            if (kind == KIND_AGGREGATE) {
+                replay.aggregate(readAggregate(in), segment);
+                in.position(start + 4 + length + 4);
+                continue;
+            }
+            UUID id = new UUID(in.getLong(), in.getLong());
+            LocalDateTime time = getTime(in);
+            if (kind == KIND_END) {
+                LocalDateTime startTime = getTime(in);
+                long duration = in.getLong();
+                long paused = in.getLong();
+                long suspended = in.getLong();
+                int flags = in.get();
+                int type = in.get();
+                String taskId = getTaskId(in);
+                // Records written before interruptions were journaled end here
+                byte[] interruptions = null;
+                if (in.position() < start + 4 + length) {
+                    interruptions = new byte[in.getShort()];
+                    in.get(interruptions);
+                }
+                if (replay.ended.add(id)) {
+                    replay.sessions.add(new FocusSession(id, taskId, startTime, time, duration, paused, suspended,
+                        (flags & FLAG_PAUSED) != 0, (flags & FLAG_CONSECUTIVE) != 0,
+                        type == 0 ? null : TYPES[type - 1], interruptions, null));
+                    replay.sessionSegments.add(segment);
+                } else {
+                    replay.dirty.set(segment);
+                }
+            } else {
+                // Start, pause, resume and removal records are not kept by a fold
+                if (kind == KIND_START) {
+                    replay.started.add(id);
+                } else if (kind == KIND_REMOVE) {
+                    replay.removed.add(id);
+                }
+                replay.dirty.set(segment);
+            }
+            in.position(start + 4 + length + 4);
+        }
+    }
+
+    private static SessionAggregate readAggregate(ByteBuffer in) {
+        LocalDate date = LocalDate.ofEpochDay(in.getLong());
+        int sessionCount = in.getInt();
+        long totalSeconds = in.getLong();
+        long pausedSeconds = in.getLong();
+        int workSessionCount = in.getInt();
+        int consecutiveSessionCount = in.getInt();
+        int longestRun = in.getInt();
+        int trailingRun = in.getInt();
+        LocalDateTime lastEnd = in.get() != 0 ? getTime(in) : null;
+        short taskIdLength = in.getShort();
+        String taskId = null;
+        if (taskIdLength >= 0) {
+            byte[] bytes = new byte[taskIdLength];
+            in.get(bytes);
+            taskId = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new SessionAggregate(date, taskId, sessionCount, totalSeconds, pausedSeconds, workSessionCount,
+            consecutiveSessionCount, longestRun, trailingRun, lastEnd);
+    }
+
+    private static String getTaskId(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putTime(ByteBuffer out, LocalDateTime time) {
+        out.putLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.putInt(time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer in) {
+        return LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static String keyOf(LocalDate date, String taskId) {
+        return taskId == null ? date.toString() : date + "/" + taskId;
+    }
+
+    /**
+     * What a replay found, with the replayed segments numbered from zero in
+     * order and the segments holding dead records marked.
+     */
+    private static final class Replay {
+        final List<Path> segments = new ArrayList<>();
+        final List<FocusSession> sessions = new ArrayList<>();
+        final List<Integer> sessionSegments = new ArrayList<>();
+        final Set<UUID> ended = new HashSet<>();
+        final Set<UUID> started = new HashSet<>();
+        final Set<UUID> removed = new HashSet<>();
+        final Map<String, SessionAggregate> aggregates = new LinkedHashMap<>();
+        final Map<String, Integer> aggregateSegments = new HashMap<>();
+        final Set<String> changedOnLoad = new HashSet<>();
+        final BitSet dirty = new BitSet();
+
+        void aggregate(SessionAggregate aggregate, int segment) {
+            String key = keyOf(aggregate.getDate(), aggregate.getTaskId());
+            aggregates.put(key, aggregate);
+            Integer replaced = aggregateSegments.put(key, segment);
+            if (replaced != null) {
+                dirty.set(replaced);
+            }
+        }
+
+        List<FocusSession> keptSessions() {
+            if (removed.isEmpty()) {
+                return sessions;
+            }
+            List<FocusSession> kept = new ArrayList<>(sessions.size());
+            for (FocusSession session : sessions) {
+                if (!removed.contains(session.getId())) {
+                    kept.add(session);
+                }
+            }
+            return kept;
+        }
+
+        void compactedOnLoad(List<FocusSession> compacted) {
+            for (FocusSession session : compacted) {
+                removed.add(session.getId());
+                LocalDate date = session.getStartTime().toLocalDate();
+                changedOnLoad.add(keyOf(date, null));
+                changedOnLoad.add(keyOf(date, session.getAssociatedTaskId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.focusflow.core.session;
+
+import java.time.LocalDateTime;
+
+/**
+ * Session list that hands out snapshots without copying.
+ *
+ * Sessions are only ever added at the end or dropped from the front, and
+ * slots are never rewritten, so a snapshot is simply the backing array
+ * together with the range it covered at the time it was taken. Growing the
+ * log copies the sessions still kept into a new array and leaves earlier
+ * snapshots on the old one, which stays valid; dropped sessions are released
+ * at that point, or right away once they fill half the array. Snapshots are
+ * published through a volatile field, so readers on other threads always
+ * see a complete, consistent range of the log.
+ *
+ * Changes must come from one thread at a time.
+ */
+final class SessionLog implements SessionStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private ArraySource sessions = new ArraySource(new FocusSession[INITIAL_CAPACITY], 0);
+    private volatile SessionHistoryView view = SessionHistoryView.EMPTY;
+
+    /**
+     * Appends a session and publishes the new snapshot.
+     *
+     * @param session The session to append
+     */
+    @Override
+    public void append(FocusSession session) {
+        SessionHistoryView current = view;
+        boolean ordered = current.staysOrderedWith(session.getStartTime());
+        int end = current.end();
+        if (end - sessions.origin == sessions.array.length) {
+            sessions = repack(current, current.size() * 2);
+        }
+        sessions.array[end - sessions.origin] = session;
+        view = new SessionHistoryView(sessions, current.first(), current.size() + 1, ordered);
+    }
+
+    /**
+     * Gets the current snapshot.
+     *
+     * @return An immutable view of the sessions kept so far
+     */
+    @Override
+    public SessionHistoryView view() {
+        return view;
+    }
+
+    /**
+     * Gets the number of sessions in the log.
+     *
+     * @return The session count
+     */
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public void dropBefore(int position) {
+        SessionHistoryView current = view;
+        int first = Math.min(Math.max(position, current.first()), current.end());
+        SessionHistoryView kept = new SessionHistoryView(sessions, first, current.end() - first, current.isOrdered());
+        if (first - sessions.origin > sessions.array.length / 2) {
+            sessions = repack(kept, kept.size() * 2);
+            kept = new SessionHistoryView(sessions, first, kept.size(), kept.isOrdered());
+        }
+        view = kept;
+    }
+
+    private ArraySource repack(SessionHistoryView kept, int capacity) {
+        FocusSession[] array = new FocusSession[Math.max(INITIAL_CAPACITY, capacity)];
+        System.arraycopy(sessions.array, kept.first() - sessions.origin, array, 0, kept.size());
+        return new ArraySource(array, kept.first());
+    }
+
+    /**
+     * Source over a plain array of sessions.
+     */
+    static final class ArraySource implements SessionSource {
+        private final FocusSession[] array;
+        private final int origin;
+
+        /**
+         * Creates a source over an array.
+         *
+         * @param array The sessions
+         * @param origin The position of the first array slot
+         */
+        ArraySource(FocusSession[] array, int origin) {
+            this.array = array;
+            this.origin = origin;
+        }
+
+        @Override
+        public FocusSession get(int index) {
+            return array[index - origin];
+        }
+
+        @Override
+        public boolean startsAfter(int index, LocalDateTime time) {
+            return array[index - origin].getStartTime().isAfter(time);
+        }
+
+        @Override
+        public boolean startsBefore(int index, LocalDateTime time) {
+            return array[index - origin].getStartTime().isBefore(time);
+        }
+    }
+}
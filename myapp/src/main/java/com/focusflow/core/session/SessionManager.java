@@ -1,9 +1,25 @@
 package com.focusflow.core.session;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.focusflow.core.timer.TimerType;
 
 /**
  * Manages focus sessions and their history.
@@ -11,12 +27,87 @@ import java.util.stream.Collectors;
  * This class is responsible for creating, tracking, and managing focus sessions.
  * It maintains a history of all sessions and provides methods to query and filter
  * sessions based on various criteria.
+ * 
+ * Alongside the history, a per-task index holds each task's sessions with a
+ * running total of their duration, updated as sessions end or history is
+ * loaded, so per-task lookups and totals never scan the whole history.
+ * A start-time index with per-day offsets answers time-range queries the
+ * same way, and a streak engine keeps current and best streaks per
+ * session, day and week, overall and per task.
+ * 
+ * Sessions are appended to the history as they end. Reading it returns an immutable
+ * {@link SessionHistoryView} snapshot that shares storage with the history
+ * instead of copying it, and supports newest-first paging. The history can
+ * be kept as session objects or, for large histories, in a compact columnar
+ * form that materializes sessions only when they are read; see
+ * {@link HistoryStorage}.
+ * 
+ * Every change to the history bumps a version number and is announced as a
+ * {@link SessionHistoryDelta} carrying only the appended or removed
+ * sessions. The most recent deltas are retained so listeners that fell
+ * behind can catch up from the last version they saw.
+ * 
+ * With a retention period set, sessions older than the period are compacted
+ * out of the history into per-day and per-task {@link SessionAggregate}s,
+ * a bounded batch at a time as new sessions arrive. Compaction runs on the
+ * caller's thread, like every other change to the manager: ending a session
+ * compacts at most {@link #COMPACTION_BATCH} sessions, so a timer ending its
+ * session is never held up by a large backlog, while loading history
+ * compacts in proportion to the sessions loaded. Counts, totals, day
+ * summaries and streaks combine the aggregates with the sessions still
+ * kept; queries that return sessions only return the kept ones.
+ * 
+ * Sessions read their times from the manager's clock, so a manager driven
+ * by a simulated clock records simulated days.
  */
 public class SessionManager {
-    private final List<FocusSession> sessionHistory = new ArrayList<>();
+    /**
+     * Number of consecutive work sessions after which a long break is due.
+     */
+    public static final int SESSIONS_BEFORE_LONG_BREAK = 4;
+    
+    /**
+     * Number of recent history deltas kept for listeners to resync from.
+     */
+    public static final int HISTORY_DELTA_RETENTION = 256;
+    
+    /**
+     * Most sessions compacted when a session ends while a retention period
+     * is set. A session end adds one session, so a backlog, as left by
+     * setting a retention period on a long history, is still worked off.
+     */
+    public static final int COMPACTION_BATCH = 16;
+    
+    /**
+     * How the session history is stored in memory.
+     */
+    public enum HistoryStorage {
+        /**
+         * Keeps the session objects themselves. Reading the history returns
+         * the same instances that were added.
+         */
+        OBJECTS,
+        /**
+         * Keeps each session field in a primitive column, using about a
+         * sixth of the memory. Reading the history materializes new session
+         * objects, with times stored to the second.
+         */
+        COLUMNAR
+    }
+    
+    private final SessionStore sessionHistory;
+    private final Clock clock;
+    private final Map<String, TaskSessions> taskIndex = new HashMap<>();
+    private final SessionTimeIndex timeIndex = new SessionTimeIndex();
+    private final StreakEngine streaks;
+    private final SessionArchive archive = new SessionArchive();
+    private int retentionDays;
+    private final Deque<SessionHistoryDelta> recentDeltas = new ArrayDeque<>();
+    private long historyVersion;
     private final List<SessionEventListener> listeners = new ArrayList<>();
     private FocusSession currentSession;
     private FocusSession lastCompletedSession;
+    private FocusSession lastCompletedWorkSession;
     private int consecutiveSessionsCount;
     
     // Configurable break durations and tolerance
@@ -24,6 +115,43 @@ public class SessionManager {
     private int longBreakMinutes = 15;
     private int breakToleranceMinutes = 2;
 
+    /**
+     * Creates a session manager that keeps its history as session objects.
+     */
+    public SessionManager() {
+        this(HistoryStorage.OBJECTS);
+    }
+
+    /**
+     * Creates a session manager with the given history storage.
+     * 
+     * @param storage How the session history is stored
+     * @throws IllegalArgumentException if the storage is null
+     */
+    public SessionManager(HistoryStorage storage) {
+        this(storage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a session manager with the given history storage whose
+     * sessions read their times from the given clock.
+     * 
+     * @param storage How the session history is stored
+     * @param clock The clock new sessions read their times from
+     * @throws IllegalArgumentException if the storage or clock is null
+     */
+    public SessionManager(HistoryStorage storage, Clock clock) {
+        if (storage == null) {
+            throw new IllegalArgumentException("History storage cannot be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+        this.sessionHistory = storage == HistoryStorage.COLUMNAR ? new ColumnarSessionStore() : new SessionLog();
+        this.streaks = new StreakEngine(maxStreakGapSeconds());
+    }
+
     /**
      * Sets the duration for short breaks.
      * 
@@ -46,6 +174,7 @@ public class SessionManager {
             throw new IllegalArgumentException("Break duration must be positive");
         }
         this.longBreakMinutes = minutes;
+        streaks.setMaxGapSeconds(maxStreakGapSeconds());
     }
 
     /**
@@ -58,6 +187,7 @@ public class SessionManager {
             throw new IllegalArgumentException("Tolerance cannot be negative");
         }
         this.breakToleranceMinutes = minutes;
+        streaks.setMaxGapSeconds(maxStreakGapSeconds());
     }
 
     /**
@@ -95,20 +225,42 @@ public class SessionManager {
      * @throws IllegalArgumentException if the task ID is null or empty
      */
     public FocusSession startSession(String associatedTaskId) {
+        return startSession(associatedTaskId, TimerType.WORK);
+    }
+
+    /**
+     * Starts a new session of the given timer type associated with a task.
+     * Break sessions neither extend nor reset the run of consecutive work
+     * sessions, which is measured from the last completed work session.
+     * 
+     * @param associatedTaskId The ID of the task to associate with the session
+     * @param timerType The type of timer the session is recorded as
+     * @return The newly created session
+     * @throws IllegalArgumentException if the task ID is null or empty, or the timer type is null
+     */
+    public FocusSession startSession(String associatedTaskId, TimerType timerType) {
         if (associatedTaskId == null || associatedTaskId.trim().isEmpty()) {
             throw new IllegalArgumentException("Task ID cannot be null or empty");
         }
+        if (timerType == null) {
+            throw new IllegalArgumentException("Timer type cannot be null");
+        }
 
-        currentSession = new FocusSession(associatedTaskId);
+        currentSession = new FocusSession(associatedTaskId, clock);
+        currentSession.setTimerType(timerType);
+        if (timerType.isBreak()) {
+            notifySessionStarted(currentSession);
+            return currentSession;
+        }
         
         // Check if this session should be marked as consecutive
-        if (lastCompletedSession != null) {
+        if (lastCompletedWorkSession != null) {
             // Determine if this should use a short or long break duration
             int breakDuration = shouldUseShortBreak() ? shortBreakMinutes : longBreakMinutes;
             
             // Mark as consecutive if it follows a scheduled break
             if (currentSession.markAsConsecutiveSession(
-                lastCompletedSession.getEndTime(),
+                lastCompletedWorkSession.getEndTime(),
                 breakDuration,
                 breakToleranceMinutes
             )) {
@@ -131,8 +283,19 @@ public class SessionManager {
      * @return true if a short break should be used, false for a long break
      */
     protected boolean shouldUseShortBreak() {
-        // Default implementation: use short break if less than 4 consecutive sessions
-        return getConsecutiveSessionsCount() % 4 != 0;
+        return isShortBreakAfter(getConsecutiveSessionsCount());
+    }
+
+    /**
+     * Applies the default break rule: every {@value #SESSIONS_BEFORE_LONG_BREAK}th
+     * consecutive work session is followed by a long break, all others by a
+     * short break.
+     * 
+     * @param consecutiveSessions The number of consecutive work sessions completed
+     * @return true if a short break should follow, false for a long break
+     */
+    public static boolean isShortBreakAfter(int consecutiveSessions) {
+        return consecutiveSessions % SESSIONS_BEFORE_LONG_BREAK != 0;
     }
 
     /**
@@ -171,11 +334,16 @@ public class SessionManager {
             throw new IllegalStateException("No active session to end");
         }
         currentSession.endSession();
-        sessionHistory.add(currentSession);
+        sessionHistory.append(currentSession);
+        index(currentSession, sessionHistory.view().end() - 1);
         lastCompletedSession = currentSession;  // Track the last completed session
+        if (!StreakEngine.isBreak(currentSession.getTimerType())) {
+            lastCompletedWorkSession = currentSession;
+        }
         notifySessionEnded(currentSession);
-        notifySessionHistoryChanged(sessionHistory);
+        publishHistoryChange(List.of(currentSession), List.of());
         currentSession = null;
+        compactIfRetained(COMPACTION_BATCH);
     }
 
     /**
@@ -187,25 +355,306 @@ public class SessionManager {
         return Optional.ofNullable(currentSession);
     }
 
+    /**
+     * Takes the distractions captured since the last drain from the last
+     * completed session and the current one. When a break starts, the work
+     * session may already have ended and the break have its own session, so
+     * both are drained.
+     * 
+     * @return The newly captured distractions, those of the completed session first
+     */
+    public List<Distraction> drainDistractions() {
+        List<Distraction> drained = new ArrayList<>();
+        if (lastCompletedSession != null) {
+            drained.addAll(lastCompletedSession.drainDistractions());
+        }
+        if (currentSession != null) {
+            drained.addAll(currentSession.drainDistractions());
+        }
+        return drained;
+    }
+
     /**
      * Gets the complete session history.
      * 
-     * @return A list of all sessions, ordered by start time
+     * @return An immutable snapshot of all sessions, ordered by start time
      */
     public List<FocusSession> getSessionHistory() {
-        return new ArrayList<>(sessionHistory);
+        return sessionHistory.view();
+    }
+
+    /**
+     * Gets an immutable snapshot of the session history with paging
+     * support. Taking the snapshot is O(1) and copies nothing.
+     * 
+     * @return The current history view
+     */
+    public SessionHistoryView getHistoryView() {
+        return sessionHistory.view();
+    }
+
+    /**
+     * Gets the current version of the session history. The version starts at
+     * zero and increases by one with every change.
+     * 
+     * @return The history version
+     */
+    public long getHistoryVersion() {
+        return historyVersion;
+    }
+
+    /**
+     * Gets the combined change to the history since the given version, for
+     * listeners that missed deltas. If the version is older than the
+     * retained deltas, the result is a reset carrying the whole history.
+     * 
+     * @param version The last history version the caller has seen
+     * @return The change from that version to the current one
+     * @throws IllegalArgumentException if the version is negative or in the future
+     */
+    public SessionHistoryDelta getHistoryChangesSince(long version) {
+        if (version < 0 || version > historyVersion) {
+            throw new IllegalArgumentException("Unknown history version: " + version);
+        }
+        if (version == historyVersion) {
+            return new SessionHistoryDelta(version, version, List.of(), List.of(), false);
+        }
+        SessionHistoryDelta oldest = recentDeltas.peekFirst();
+        if (oldest == null || version < oldest.getFromVersion()) {
+            return new SessionHistoryDelta(version, historyVersion, sessionHistory.view(), List.of(), true);
+        }
+
+        List<FocusSession> appended = new ArrayList<>();
+        List<FocusSession> removed = new ArrayList<>();
+        // Matched by ID, since columnar storage hands out new instances on every read
+        Set<UUID> appendedIds = new HashSet<>();
+        Set<UUID> cancelledIds = new HashSet<>();
+        for (SessionHistoryDelta delta : recentDeltas) {
+            if (delta.getFromVersion() < version) {
+                continue;
+            }
+            for (FocusSession session : delta.getRemoved()) {
+                // A session appended and removed within the range cancels out
+                if (appendedIds.contains(session.getId())) {
+                    cancelledIds.add(session.getId());
+                } else {
+                    removed.add(session);
+                }
+            }
+            for (FocusSession session : delta.getAppended()) {
+                appended.add(session);
+                appendedIds.add(session.getId());
+            }
+        }
+        if (!cancelledIds.isEmpty()) {
+            appended.removeIf(session -> cancelledIds.contains(session.getId()));
+        }
+        return new SessionHistoryDelta(version, historyVersion,
+            Collections.unmodifiableList(appended), Collections.unmodifiableList(removed), false);
+    }
+
+    /**
+     * Appends previously recorded sessions to the history, for example when
+     * restoring it from storage. Each session is added to the per-task index
+     * as it is appended, and listeners are notified once for the whole load.
+     * 
+     * @param sessions The completed sessions to load, ordered by start time
+     * @throws IllegalArgumentException if a session is null or not completed
+     */
+    public void loadHistory(Collection<FocusSession> sessions) {
+        for (FocusSession session : sessions) {
+            if (session == null || !session.isCompleted()) {
+                throw new IllegalArgumentException("Only completed sessions can be loaded into the history");
+            }
+        }
+        appendAll(sessions);
+    }
+
+    /**
+     * Restores the aggregates of sessions compacted out of a previous
+     * history, for example from the session journal, before the kept
+     * sessions are loaded. Per-task counts and totals include them, and the
+     * streaks are rebuilt over them.
+     * 
+     * @param aggregates The aggregates to restore, each replacing the one kept for its day and task
+     * @throws IllegalArgumentException if the aggregates are null
+     * @throws IllegalStateException if the history is not empty
+     */
+    void loadArchive(Collection<SessionAggregate> aggregates) {
+        if (aggregates == null) {
+            throw new IllegalArgumentException("Aggregates cannot be null");
+        }
+        if (!sessionHistory.view().isEmpty()) {
+            throw new IllegalStateException("Compacted sessions can only be restored into an empty history");
+        }
+        for (SessionAggregate aggregate : aggregates) {
+            archive.restore(aggregate);
+            if (aggregate.getTaskId() != null) {
+                // The task keeps no positions yet, so its compacted sessions just advance the counters
+                TaskSessions task = taskIndex.computeIfAbsent(aggregate.getTaskId(), id -> new TaskSessions());
+                task.totalSeconds += aggregate.getTotalSeconds();
+                task.size += aggregate.getSessionCount();
+                task.first = task.size;
+                task.base = task.size;
+            }
+        }
+        streaks.rebuild(archive, sessionHistory.view());
+    }
+
+    /**
+     * Imports historical sessions in bulk, for example when migrating a
+     * user. Records are converted and validated in parallel across cores,
+     * then sorted by start time, and the history with its indexes, totals,
+     * streaks and consecutive count is built in one pass. Listeners are
+     * notified once, after the whole import. If any record is invalid,
+     * nothing is imported.
+     * 
+     * Imported sessions are appended after the existing history, so history
+     * should be imported before new sessions are recorded.
+     * 
+     * @param <T> The type of the source records
+     * @param records The records to import, in any order
+     * @param parser Converts a record into a completed session; it must be safe to call from several threads
+     * @return The number of sessions imported
+     * @throws IllegalArgumentException if the records or parser are null, or a record does not convert to a completed session
+     */
+    public <T> int importHistory(Collection<? extends T> records, Function<? super T, FocusSession> parser) {
+        if (records == null || parser == null) {
+            throw new IllegalArgumentException("Records and parser cannot be null");
+        }
+        FocusSession[] sessions = records.parallelStream()
+            .map(record -> {
+                FocusSession session = parser.apply(record);
+                if (session == null || !session.isCompleted()) {
+                    throw new IllegalArgumentException("Record is not a completed session: " + record);
+                }
+                return session;
+            })
+            .toArray(FocusSession[]::new);
+        // Stable, so sessions with equal start times keep their input order
+        Arrays.parallelSort(sessions, Comparator.comparing(FocusSession::getStartTime));
+        appendAll(Arrays.asList(sessions));
+        return sessions.length;
+    }
+
+    /**
+     * Sets how many days of sessions are kept in the history, counting back
+     * from the day of the newest session. Older sessions are compacted into
+     * aggregates as new sessions arrive, or through {@link #compact(int)}.
+     * 
+     * @param days The number of days to keep, or 0 to keep all sessions
+     * @throws IllegalArgumentException if the number of days is negative
+     */
+    public void setRetentionDays(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Retention period cannot be negative");
+        }
+        this.retentionDays = days;
+    }
+
+    /**
+     * Gets how many days of sessions are kept in the history.
+     * 
+     * @return The retention period in days, or 0 if all sessions are kept
+     */
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    /**
+     * Compacts up to the given number of the oldest sessions that fall
+     * outside the retention period into aggregates and drops them from the
+     * history. Listeners receive one delta listing the removed sessions.
+     * 
+     * @param maxSessions The most sessions to compact in this step
+     * @return The number of sessions compacted
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public int compact(int maxSessions) {
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("Compaction limit must be positive");
+        }
+        SessionHistoryView history = sessionHistory.view();
+        if (retentionDays == 0 || history.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime newestStart = history.get(history.size() - 1).getStartTime();
+        LocalDateTime cutoff = newestStart.toLocalDate().minusDays(retentionDays - 1L).atStartOfDay();
+        SessionSource source = history.source();
+        int limit = Math.min(maxSessions, history.size());
+        int compacted = 0;
+        while (compacted < limit && source.startsBefore(history.first() + compacted, cutoff)) {
+            FocusSession session = history.get(compacted);
+            archive.fold(session, maxStreakGapSeconds());
+            // Compaction runs in history order, so this is the task's oldest kept session
+            taskIndex.get(session.getAssociatedTaskId()).dropFirst();
+            compacted++;
+        }
+        if (compacted == 0) {
+            return 0;
+        }
+        sessionHistory.dropBefore(history.first() + compacted);
+        timeIndex.dropBefore(history.first() + compacted);
+        publishHistoryChange(List.of(), history.subList(0, compacted));
+        return compacted;
+    }
+
+    /**
+     * Gets the number of sessions compacted out of the history so far.
+     * 
+     * @return The compacted session count
+     */
+    public int getCompactedSessionCount() {
+        return archive.size();
+    }
+
+    SessionArchive getArchive() {
+        return archive;
     }
 
     /**
-     * Gets sessions associated with a specific task.
+     * Summarizes the sessions of a day, combining compacted aggregates with
+     * the sessions still in the history.
+     * 
+     * @param date The day to summarize
+     * @return The day's summary across all tasks
+     * @throws IllegalArgumentException if the date is null
+     */
+    public SessionAggregate getDaySummary(LocalDate date) {
+        return summarize(date, null);
+    }
+
+    /**
+     * Summarizes the sessions of one task on a day, combining compacted
+     * aggregates with the sessions still in the history.
+     * 
+     * @param date The day to summarize
+     * @param taskId The task to summarize
+     * @return The day's summary for the task
+     * @throws IllegalArgumentException if the date or task ID is null
+     */
+    public SessionAggregate getDaySummary(LocalDate date, String taskId) {
+        if (taskId == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+        return summarize(date, taskId);
+    }
+
+    /**
+     * Gets sessions associated with a specific task. Compacted sessions are
+     * not included.
      * 
      * @param taskId The task ID to filter by
-     * @return A list of sessions associated with the task
+     * @return An immutable snapshot of the task's sessions, ordered as in the history
      */
     public List<FocusSession> getSessionsForTask(String taskId) {
-        return sessionHistory.stream()
-            .filter(session -> session.getAssociatedTaskId().equals(taskId))
-            .collect(Collectors.toList());
+        TaskSessions task = taskIndex.get(taskId);
+        if (task == null) {
+            return SessionHistoryView.EMPTY;
+        }
+        SessionHistoryView history = sessionHistory.view();
+        return new SessionHistoryView(new TaskSource(history.source(), task.positions, task.base),
+            task.first, task.size - task.first, history.isOrdered());
     }
 
     /**
@@ -215,9 +664,196 @@ public class SessionManager {
      * @return The total duration in seconds
      */
     public long getTotalTimeForTask(String taskId) {
-        return getSessionsForTask(taskId).stream()
-            .mapToLong(FocusSession::getDurationSeconds)
-            .sum();
+        TaskSessions task = taskIndex.get(taskId);
+        return task == null ? 0 : task.totalSeconds;
+    }
+
+    /**
+     * Gets the number of completed sessions for a task, compacted ones
+     * included.
+     * 
+     * @param taskId The task ID to count sessions for
+     * @return The number of sessions associated with the task
+     */
+    public int getSessionCountForTask(String taskId) {
+        TaskSessions task = taskIndex.get(taskId);
+        return task == null ? 0 : task.size;
+    }
+
+    /**
+     * Gets the sessions that started within a time range, found through the
+     * start-time index in O(log n + k) for k matching sessions. Compacted
+     * sessions are not included.
+     * 
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, exclusive
+     * @return An immutable snapshot of the matching sessions, ordered by start time
+     * @throws IllegalArgumentException if a bound is null or the range ends before it starts
+     */
+    public List<FocusSession> getSessionsBetween(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        SessionHistoryView history = sessionHistory.view();
+        if (!timeIndex.isOrdered()) {
+            List<FocusSession> matching = new ArrayList<>();
+            for (FocusSession session : history) {
+                if (!session.getStartTime().isBefore(from) && session.getStartTime().isBefore(to)) {
+                    matching.add(session);
+                }
+            }
+            return Collections.unmodifiableList(matching);
+        }
+        return history.subList(timeIndex.lowerBound(history.source(), from) - history.first(),
+            timeIndex.lowerBound(history.source(), to) - history.first());
+    }
+
+    /**
+     * Counts the sessions that started within a time range without reading
+     * them. Compacted sessions only keep their day, so they are counted for
+     * every day that overlaps the range.
+     * 
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, exclusive
+     * @return The number of matching sessions
+     * @throws IllegalArgumentException if a bound is null or the range ends before it starts
+     */
+    public int getSessionCountBetween(LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        int compacted = archive.countBetween(from, to);
+        if (!timeIndex.isOrdered()) {
+            return compacted + getSessionsBetween(from, to).size();
+        }
+        SessionSource history = sessionHistory.view().source();
+        return compacted + timeIndex.lowerBound(history, to) - timeIndex.lowerBound(history, from);
+    }
+
+    /**
+     * Counts the sessions that started on a day.
+     * 
+     * @param date The day to count
+     * @return The number of sessions started that day
+     * @throws IllegalArgumentException if the date is null
+     */
+    public int getSessionCountOn(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        if (!timeIndex.isOrdered()) {
+            return getSessionCountBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        }
+        SessionAggregate compacted = archive.get(date, null);
+        return (compacted == null ? 0 : compacted.getSessionCount()) + timeIndex.countOn(date);
+    }
+
+    /**
+     * Gets the user's current and best streaks. They are kept up to date as
+     * sessions end or history is loaded.
+     * 
+     * @return The overall streaks
+     */
+    public SessionStreaks getStreaks() {
+        return streaks.getOverall();
+    }
+
+    /**
+     * Gets the current and best streaks of one task.
+     * 
+     * @param taskId The task ID to get streaks for
+     * @return An Optional containing the task's streaks if it has any work sessions
+     */
+    public Optional<SessionStreaks> getStreaksForTask(String taskId) {
+        return Optional.ofNullable(streaks.getForTask(taskId));
+    }
+
+    /**
+     * Recomputes all streaks from the history in one pass. Changes to the
+     * break durations or tolerance only apply to sessions recorded after
+     * them until the streaks are rebuilt.
+     */
+    public void rebuildStreaks() {
+        streaks.rebuild(archive, sessionHistory.view());
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Range bounds cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range cannot end before it starts");
+        }
+    }
+
+    /**
+     * Appends validated, ordered sessions and their derived state, then
+     * notifies listeners once.
+     */
+    private void appendAll(Collection<FocusSession> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        int loadedFrom = sessionHistory.size();
+        for (FocusSession session : sessions) {
+            sessionHistory.append(session);
+            index(session, sessionHistory.view().end() - 1);
+            lastCompletedSession = session;
+            if (!StreakEngine.isBreak(session.getTimerType())) {
+                lastCompletedWorkSession = session;
+            }
+        }
+        // The run the history ends with carries on into the next session
+        consecutiveSessionsCount = Math.max(1, streaks.getOverall().getCurrent(StreakUnit.SESSION));
+        SessionHistoryView history = sessionHistory.view();
+        publishHistoryChange(history.subList(loadedFrom, history.size()), List.of());
+        compactIfRetained(Math.max(COMPACTION_BATCH, 2 * sessions.size()));
+    }
+
+    private SessionAggregate summarize(LocalDate date, String taskId) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        SessionAggregate compacted = archive.get(date, taskId);
+        SessionAggregate summary = compacted == null ? new SessionAggregate(date, taskId) : compacted.copy();
+        for (FocusSession session : getSessionsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            if (taskId == null || taskId.equals(session.getAssociatedTaskId())) {
+                summary.add(session, maxStreakGapSeconds());
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Runs one compaction step of at most the given number of sessions after
+     * sessions were appended. Each step does work in proportion to its
+     * limit: folding a session into the archive is O(log d) for d archived
+     * days, and listeners receive one delta for the step.
+     */
+    private void compactIfRetained(int maxSessions) {
+        if (retentionDays > 0) {
+            compact(maxSessions);
+        }
+    }
+
+    private void publishHistoryChange(List<FocusSession> appended, List<FocusSession> removed) {
+        SessionHistoryDelta delta = new SessionHistoryDelta(historyVersion, historyVersion + 1,
+            appended, removed, false);
+        historyVersion++;
+        recentDeltas.addLast(delta);
+        if (recentDeltas.size() > HISTORY_DELTA_RETENTION) {
+            recentDeltas.removeFirst();
+        }
+        notifySessionHistoryDelta(delta);
+        notifySessionHistoryChanged(sessionHistory.view());
+    }
+
+    private void index(FocusSession session, int position) {
+        TaskSessions task = taskIndex.computeIfAbsent(session.getAssociatedTaskId(), id -> new TaskSessions());
+        task.add(position);
+        task.totalSeconds += session.getDurationSeconds();
+        timeIndex.add(session.getStartTime());
+        streaks.record(session);
+    }
+
+    private long maxStreakGapSeconds() {
+        return (longBreakMinutes + breakToleranceMinutes) * 60L;
     }
 
     private void notifySessionStarted(FocusSession session) {
@@ -239,4 +875,65 @@ public class SessionManager {
     private void notifySessionHistoryChanged(List<FocusSession> history) {
         listeners.forEach(listener -> listener.onSessionHistoryChanged(history));
     }
+
+    private void notifySessionHistoryDelta(SessionHistoryDelta delta) {
+        listeners.forEach(listener -> listener.onSessionHistoryDelta(delta));
+    }
+
+    /**
+     * The positions of one task's sessions in the history and their running
+     * total. Positions are appended at the end and dropped from the front
+     * as sessions are compacted, and slots are never rewritten, so views
+     * over them stay valid. {@code positions[0]} holds the task's session
+     * number {@code base}.
+     */
+    private static final class TaskSessions {
+        private int[] positions = new int[4];
+        private int base;
+        private int first;
+        private int size;
+        private long totalSeconds;
+
+        void add(int position) {
+            if (size - base == positions.length) {
+                positions = Arrays.copyOfRange(positions, first - base, first - base + Math.max(4, (size - first) * 2));
+                base = first;
+            }
+            positions[size++ - base] = position;
+        }
+
+        void dropFirst() {
+            first++;
+        }
+    }
+
+    /**
+     * Source that reads one task's sessions from the history by position.
+     */
+    private static final class TaskSource implements SessionSource {
+        private final SessionSource history;
+        private final int[] positions;
+        private final int base;
+
+        TaskSource(SessionSource history, int[] positions, int base) {
+            this.history = history;
+            this.positions = positions;
+            this.base = base;
+        }
+
+        @Override
+        public FocusSession get(int index) {
+            return history.get(positions[index - base]);
+        }
+
+        @Override
+        public boolean startsAfter(int index, LocalDateTime time) {
+            return history.startsAfter(positions[index - base], time);
+        }
+
+        @Override
+        public boolean startsBefore(int index, LocalDateTime time) {
+            return history.startsBefore(positions[index - base], time);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.focusflow.core.session;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * One page of session history, newest session first.
+ *
+ * The sessions are a view over the history snapshot the page was read from;
+ * nothing is copied.
+ */
+public final class SessionPage {
+    private final List<FocusSession> sessions;
+    private final SessionCursor nextCursor;
+
+    SessionPage(SessionSource history, int first, int from, int to) {
+        this.sessions = new NewestFirst(history, from, to);
+        this.nextCursor = from > first ? new SessionCursor(from, from - first) : null;
+    }
+
+    /**
+     * Gets the sessions on this page.
+     *
+     * @return An unmodifiable list of sessions, newest first
+     */
+    public List<FocusSession> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Gets the cursor to read the next, older page from.
+     *
+     * @return The next cursor, or null if this is the last page
+     */
+    public SessionCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether older sessions remain after this page.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Read-only view of a slice of the history in reverse order.
+     */
+    private static final class NewestFirst extends AbstractList<FocusSession> implements RandomAccess {
+        private final SessionSource history;
+        private final int from;
+        private final int to;
+
+        NewestFirst(SessionSource history, int from, int to) {
+            this.history = history;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public FocusSession get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return history.get(to - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
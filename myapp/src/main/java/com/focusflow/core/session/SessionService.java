@@ -0,0 +1,236 @@
+package com.focusflow.core.session;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Session tracking for many users at once, safe to use from any thread.
+ *
+ * Each user gets their own {@link SessionManager}, which is confined behind
+ * that user's own lock, so starting, pausing and ending sessions for
+ * different users runs in parallel without ever contending. Users are looked
+ * up in a concurrent map and created on their first session.
+ *
+ * History reads never take a lock: they return the manager's immutable
+ * history snapshot, which is published through a volatile field. The
+ * current session and consecutive count are republished the same way after
+ * every change, so polling them does not block writers either. Derived
+ * queries such as totals and streaks go through {@link #query(String, Function)},
+ * which holds the user's lock only for the duration of the query.
+ *
+ * Listeners added through {@link #query(String, Function)} run on the thread
+ * that made the change, while it holds the user's lock.
+ */
+public class SessionService {
+    private final Map<String, UserSessions> users = new ConcurrentHashMap<>();
+    private final Supplier<SessionManager> managers;
+
+    /**
+     * Creates a service that keeps each user's history in object storage.
+     */
+    public SessionService() {
+        this(SessionManager::new);
+    }
+
+    /**
+     * Creates a service that creates each user's session manager with the
+     * given factory, for example to choose the history storage or break
+     * lengths.
+     *
+     * @param managers Creates a new, unshared session manager for each user
+     * @throws IllegalArgumentException if the factory is null
+     */
+    public SessionService(Supplier<SessionManager> managers) {
+        if (managers == null) {
+            throw new IllegalArgumentException("Session manager factory cannot be null");
+        }
+        this.managers = managers;
+    }
+
+    /**
+     * Starts a new focus session for a user, creating the user if needed.
+     *
+     * @param userId The ID of the user
+     * @param associatedTaskId The ID of the task to associate with the session
+     * @return The newly created focus session
+     * @throws IllegalArgumentException if the user ID or task ID is null or empty
+     */
+    public FocusSession startSession(String userId, String associatedTaskId) {
+        return user(userId, true).update(manager -> manager.startSession(associatedTaskId));
+    }
+
+    /**
+     * Pauses a user's current focus session.
+     *
+     * @param userId The ID of the user
+     * @throws IllegalStateException if the user has no active session
+     */
+    public void pauseSession(String userId) {
+        existing(userId, "pause").update(manager -> {
+            manager.pauseCurrentSession();
+            return null;
+        });
+    }
+
+    /**
+     * Resumes a user's current focus session.
+     *
+     * @param userId The ID of the user
+     * @throws IllegalStateException if the user has no active session
+     */
+    public void resumeSession(String userId) {
+        existing(userId, "resume").update(manager -> {
+            manager.resumeCurrentSession();
+            return null;
+        });
+    }
+
+    /**
+     * Ends a user's current focus session and adds it to their history.
+     *
+     * @param userId The ID of the user
+     * @throws IllegalStateException if the user has no active session
+     */
+    public void endSession(String userId) {
+        existing(userId, "end").update(manager -> {
+            manager.endCurrentSession();
+            return null;
+        });
+    }
+
+    /**
+     * Gets a user's current session without locking.
+     *
+     * @param userId The ID of the user
+     * @return An Optional containing the current session if one exists
+     */
+    public Optional<FocusSession> getCurrentSession(String userId) {
+        UserSessions user = userId == null ? null : users.get(userId);
+        return user == null ? Optional.empty() : Optional.ofNullable(user.currentSession);
+    }
+
+    /**
+     * Gets a user's consecutive session count without locking.
+     *
+     * @param userId The ID of the user
+     * @return The consecutive session count, or 0 for an unknown user
+     */
+    public int getConsecutiveSessionsCount(String userId) {
+        UserSessions user = userId == null ? null : users.get(userId);
+        return user == null ? 0 : user.consecutiveSessionsCount;
+    }
+
+    /**
+     * Gets an immutable snapshot of a user's session history. This never
+     * waits for, or holds up, changes being made for the user.
+     *
+     * @param userId The ID of the user
+     * @return The user's history, or an empty history for an unknown user
+     */
+    public SessionHistoryView getHistory(String userId) {
+        UserSessions user = userId == null ? null : users.get(userId);
+        return user == null ? SessionHistoryView.EMPTY : user.manager.getHistoryView();
+    }
+
+    /**
+     * Runs a query or change against a user's session manager while holding
+     * that user's lock, creating the user if needed. The manager must not be
+     * kept or used after the function returns.
+     *
+     * @param <R> The type of the result
+     * @param userId The ID of the user
+     * @param query The function to run
+     * @return The function's result
+     * @throws IllegalArgumentException if the user ID is null or empty, or the function is null
+     */
+    public <R> R query(String userId, Function<? super SessionManager, R> query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        return user(userId, true).update(query);
+    }
+
+    /**
+     * Checks whether the service tracks a user.
+     *
+     * @param userId The ID of the user
+     * @return true if the user has been created and not removed
+     */
+    public boolean hasUser(String userId) {
+        return userId != null && users.containsKey(userId);
+    }
+
+    /**
+     * Gets the number of users the service tracks.
+     *
+     * @return The user count
+     */
+    public int getUserCount() {
+        return users.size();
+    }
+
+    /**
+     * Stops tracking a user. A session the user still has open is ended
+     * first, so it is kept in the returned manager's history.
+     *
+     * @param userId The ID of the user
+     * @return The user's session manager, if the user was tracked
+     */
+    public Optional<SessionManager> removeUser(String userId) {
+        UserSessions user = userId == null ? null : users.remove(userId);
+        if (user == null) {
+            return Optional.empty();
+        }
+        user.update(manager -> {
+            if (manager.getCurrentSession().isPresent()) {
+                manager.endCurrentSession();
+            }
+            return null;
+        });
+        return Optional.of(user.manager);
+    }
+
+    private UserSessions user(String userId, boolean create) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        return create ? users.computeIfAbsent(userId, id -> new UserSessions(managers.get())) : users.get(userId);
+    }
+
+    private UserSessions existing(String userId, String action) {
+        UserSessions user = user(userId, false);
+        if (user == null) {
+            throw new IllegalStateException("No active session to " + action + " for user " + userId);
+        }
+        return user;
+    }
+
+    /**
+     * One user's session manager, its lock, and the state republished for
+     * lock-free reads.
+     */
+    private static final class UserSessions {
+        private final SessionManager manager;
+        private volatile FocusSession currentSession;
+        private volatile int consecutiveSessionsCount;
+
+        UserSessions(SessionManager manager) {
+            if (manager == null) {
+                throw new IllegalStateException("Session manager factory returned null");
+            }
+            this.manager = manager;
+        }
+
+        synchronized <R> R update(Function<? super SessionManager, R> change) {
+            try {
+                return change.apply(manager);
+            } finally {
+                currentSession = manager.getCurrentSession().orElse(null);
+                consecutiveSessionsCount = manager.getConsecutiveSessionsCount();
+            }
+        }
+    }
+}
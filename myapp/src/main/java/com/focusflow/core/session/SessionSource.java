@@ -0,0 +1,39 @@
+package com.focusflow.core.session;
+
+import java.time.LocalDateTime;
+
+/**
+ * Random access to the sessions behind a history snapshot.
+ *
+ * A source covers at least as many sessions as the views built on it, and
+ * the sessions it returns for those indices never change.
+ */
+interface SessionSource {
+    /**
+     * Gets the session at a position.
+     *
+     * @param index The position of the session
+     * @return The session
+     */
+    FocusSession get(int index);
+
+    /**
+     * Checks whether the session at a position started after a point in
+     * time, without materializing the session where possible.
+     *
+     * @param index The position of the session
+     * @param time The time to compare with
+     * @return true if the session started after the time
+     */
+    boolean startsAfter(int index, LocalDateTime time);
+
+    /**
+     * Checks whether the session at a position started before a point in
+     * time, without materializing the session where possible.
+     *
+     * @param index The position of the session
+     * @param time The time to compare with
+     * @return true if the session started before the time
+     */
+    boolean startsBefore(int index, LocalDateTime time);
+}
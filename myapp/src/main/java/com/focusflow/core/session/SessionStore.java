@@ -0,0 +1,40 @@
+package com.focusflow.core.session;
+
+/**
+ * Backing storage for session history. Sessions are appended at the end and
+ * only ever removed from the front, and keep their position for as long as
+ * they are stored: positions count every session ever appended.
+ *
+ * Appends must come from one thread at a time. Snapshots are immutable and
+ * may be read from any thread.
+ */
+interface SessionStore {
+    /**
+     * Appends a completed session and publishes the new snapshot.
+     *
+     * @param session The session to append
+     */
+    void append(FocusSession session);
+
+    /**
+     * Gets the current snapshot.
+     *
+     * @return An immutable view of the sessions appended so far
+     */
+    SessionHistoryView view();
+
+    /**
+     * Gets the number of sessions in the store.
+     *
+     * @return The session count
+     */
+    int size();
+
+    /**
+     * Removes every session before a position from the store. Snapshots
+     * taken earlier keep seeing them.
+     *
+     * @param position The position of the first session to keep
+     */
+    void dropBefore(int position);
+}
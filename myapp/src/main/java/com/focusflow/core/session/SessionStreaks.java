@@ -0,0 +1,158 @@
+package com.focusflow.core.session;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Current and best focus streaks of a user or of one task.
+ *
+ * Streaks are updated in O(1) per work session from the session's start and
+ * end time alone; break sessions are ignored. The current streak is the one
+ * that includes the latest session. Use {@link #getCurrent(StreakUnit,
+ * LocalDateTime)} to also account for a streak that has lapsed since.
+ */
+public final class SessionStreaks {
+    private static final int UNITS = StreakUnit.values().length;
+
+    private final int[] current = new int[UNITS];
+    private final int[] best = new int[UNITS];
+    private LocalDateTime lastEnd;
+    private long lastDay;
+    private long lastWeek;
+    private long maxGapSeconds;
+
+    SessionStreaks() {
+    }
+
+    /**
+     * Gets the streak that includes the latest session.
+     *
+     * @param unit The streak granularity
+     * @return The current streak length, or 0 if no session was recorded
+     */
+    public int getCurrent(StreakUnit unit) {
+        return current[unit.ordinal()];
+    }
+
+    /**
+     * Gets the current streak as of a point in time. A streak that can no
+     * longer be continued at that time counts as 0: a session streak once
+     * the allowed break has passed, a day or week streak once a whole day or
+     * week went by without a session.
+     *
+     * @param unit The streak granularity
+     * @param now The time to evaluate the streak at
+     * @return The current streak length
+     */
+    public int getCurrent(StreakUnit unit, LocalDateTime now) {
+        if (lastEnd == null) {
+            return 0;
+        }
+        boolean lapsed;
+        switch (unit) {
+            case SESSION:
+                lapsed = Duration.between(lastEnd, now).getSeconds() > maxGapSeconds;
+                break;
+            case DAY:
+                lapsed = dayOf(now) > lastDay + 1;
+                break;
+            default:
+                lapsed = weekOf(now) > lastWeek + 1;
+                break;
+        }
+        return lapsed ? 0 : getCurrent(unit);
+    }
+
+    /**
+     * Gets the longest streak ever recorded.
+     *
+     * @param unit The streak granularity
+     * @return The best streak length
+     */
+    public int getBest(StreakUnit unit) {
+        return best[unit.ordinal()];
+    }
+
+    /**
+     * Adds the next session in start-time order.
+     *
+     * @param start The session start time
+     * @param end The session end time
+     * @param maxGap The longest break, in seconds, that keeps a session streak going
+     */
+    void record(LocalDateTime start, LocalDateTime end, long maxGap) {
+        if (lastEnd == null) {
+            extend(StreakUnit.SESSION, false);
+        } else {
+            long gap = Duration.between(lastEnd, start).getSeconds();
+            extend(StreakUnit.SESSION, gap >= 0 && gap <= maxGap);
+        }
+        recordCalendar(dayOf(start), end, maxGap);
+    }
+
+    /**
+     * Adds a whole day from its aggregate, for days compacted out of the
+     * history. Session runs are taken from the aggregate, so a run that
+     * crossed midnight counts as two.
+     *
+     * @param day The aggregate of the day's sessions
+     * @param maxGap The longest break, in seconds, that keeps a session streak going
+     */
+    void recordDay(SessionAggregate day, long maxGap) {
+        int i = StreakUnit.SESSION.ordinal();
+        current[i] = day.getTrailingRun();
+        best[i] = Math.max(best[i], day.getLongestRun());
+        recordCalendar(day.getDate().toEpochDay(), day.getLastEnd(), maxGap);
+    }
+
+    /**
+     * Forgets all recorded sessions.
+     */
+    void reset() {
+        Arrays.fill(current, 0);
+        Arrays.fill(best, 0);
+        lastEnd = null;
+        lastDay = 0;
+        lastWeek = 0;
+    }
+
+    private void recordCalendar(long day, LocalDateTime end, long maxGap) {
+        long week = weekOf(day);
+        if (lastEnd == null) {
+            extend(StreakUnit.DAY, false);
+            extend(StreakUnit.WEEK, false);
+        } else {
+            // Later sessions on the same day or week leave those streaks unchanged
+            if (day > lastDay) {
+                extend(StreakUnit.DAY, day == lastDay + 1);
+            }
+            if (week > lastWeek) {
+                extend(StreakUnit.WEEK, week == lastWeek + 1);
+            }
+        }
+        lastEnd = lastEnd == null || end.isAfter(lastEnd) ? end : lastEnd;
+        lastDay = Math.max(lastDay, day);
+        lastWeek = Math.max(lastWeek, week);
+        maxGapSeconds = maxGap;
+    }
+
+    private void extend(StreakUnit unit, boolean continues) {
+        int i = unit.ordinal();
+        current[i] = continues ? current[i] + 1 : 1;
+        best[i] = Math.max(best[i], current[i]);
+    }
+
+    private static long dayOf(LocalDateTime time) {
+        return time.toLocalDate().toEpochDay();
+    }
+
+    private static long weekOf(LocalDateTime time) {
+        return weekOf(dayOf(time));
+    }
+
+    private static long weekOf(long day) {
+        // Epoch day 0 was a Thursday; shifting by three makes weeks start on Monday
+        return Math.floorDiv(day + 3, 7);
+    }
+}
@@ -0,0 +1,131 @@
+package com.focusflow.core.session;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Start-time index over the session history, for range queries by time.
+ *
+ * The history is ordered by start time, so the index only needs to remember
+ * where each day begins: one int position per calendar day from the first
+ * kept session's day to the last. A range lookup jumps to the day of each
+ * bound and binary-searches within that day only, which makes finding the
+ * range O(1) for the day plus O(log d) for the d sessions of that day, and
+ * counting sessions on a day O(1). Positions are appended as sessions are
+ * added and dropped from the front with them; nothing is rebuilt.
+ *
+ * If a session is ever added with an earlier start than the one before it,
+ * the order no longer holds and lookups fall back to a linear scan.
+ */
+final class SessionTimeIndex {
+    private int[] dayStarts = new int[16];
+    private int base;
+    private long firstDay;
+    private int days;
+    private int first;
+    private int end;
+    private LocalDateTime lastStart;
+    private boolean ordered = true;
+
+    /**
+     * Adds the next session in the history.
+     *
+     * @param start The start time of the session
+     */
+    void add(LocalDateTime start) {
+        if (lastStart != null && start.isBefore(lastStart)) {
+            ordered = false;
+        }
+        lastStart = start;
+        long day = start.toLocalDate().toEpochDay();
+        if (days == 0) {
+            firstDay = day;
+        }
+        // Every day up to and including this one begins at or before this session
+        while (ordered && firstDay + days <= day) {
+            if (base + days == dayStarts.length) {
+                dayStarts = Arrays.copyOfRange(dayStarts, base, base + Math.max(16, days * 2));
+                base = 0;
+            }
+            dayStarts[base + days++] = end;
+        }
+        end++;
+    }
+
+    /**
+     * Forgets every session before a position, along with the days that
+     * only held such sessions.
+     *
+     * @param position The position of the first session to keep
+     */
+    void dropBefore(int position) {
+        first = Math.max(first, Math.min(position, end));
+        while (days > 1 && dayEnd(firstDay) <= first) {
+            firstDay++;
+            base++;
+            days--;
+        }
+    }
+
+    /**
+     * Checks whether the history is still ordered by start time.
+     *
+     * @return true if range lookups can use the index
+     */
+    boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Finds the position of the first kept session that starts at or after
+     * a time.
+     *
+     * @param sessions The history the index was built on
+     * @param time The time to look up
+     * @return The position, or the end of the history if no session starts that late
+     */
+    int lowerBound(SessionSource sessions, LocalDateTime time) {
+        long day = time.toLocalDate().toEpochDay();
+        if (days == 0 || day < firstDay) {
+            return first;
+        }
+        if (day >= firstDay + days) {
+            return end;
+        }
+        int low = dayStart(day);
+        int high = dayEnd(day);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sessions.startsBefore(mid, time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Counts the kept sessions that started on a day.
+     *
+     * @param date The day to count
+     * @return The number of sessions
+     */
+    int countOn(LocalDate date) {
+        long day = date.toEpochDay();
+        if (days == 0 || day < firstDay || day >= firstDay + days) {
+            return 0;
+        }
+        return dayEnd(day) - dayStart(day);
+    }
+
+    private int dayStart(long day) {
+        return Math.max(first, dayStarts[base + (int) (day - firstDay)]);
+    }
+
+    private int dayEnd(long day) {
+        int next = (int) (day - firstDay) + 1;
+        return Math.max(first, next < days ? dayStarts[base + next] : end);
+    }
+}
@@ -0,0 +1,94 @@
+package com.focusflow.core.session;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Maintains focus streaks overall and per task as sessions are appended.
+ *
+ * Each work session updates the overall streaks and its task's streaks in
+ * O(1), so the engine never rescans history.
+ * {@link #rebuild(SessionArchive, Iterable)} recomputes everything in one
+ * linear pass, for example after the allowed break between sessions has
+ * changed.
+ */
+final class StreakEngine {
+    private final SessionStreaks overall = new SessionStreaks();
+    private final Map<String, SessionStreaks> byTask = new HashMap<>();
+    private long maxGapSeconds;
+
+    /**
+     * Creates an engine with the given allowed break between sessions.
+     *
+     * @param maxGapSeconds The longest break that keeps a session streak going
+     */
+    StreakEngine(long maxGapSeconds) {
+        this.maxGapSeconds = maxGapSeconds;
+    }
+
+    /**
+     * Sets the allowed break between sessions for sessions recorded from now
+     * on.
+     *
+     * @param maxGapSeconds The longest break that keeps a session streak going
+     */
+    void setMaxGapSeconds(long maxGapSeconds) {
+        this.maxGapSeconds = maxGapSeconds;
+    }
+
+    /**
+     * Adds the next completed session in start-time order. Break sessions
+     * are ignored.
+     *
+     * @param session The session to add
+     */
+    void record(FocusSession session) {
+        if (isBreak(session.getTimerType())) {
+            return;
+        }
+        overall.record(session.getStartTime(), session.getEndTime(), maxGapSeconds);
+        byTask.computeIfAbsent(session.getAssociatedTaskId(), id -> new SessionStreaks())
+            .record(session.getStartTime(), session.getEndTime(), maxGapSeconds);
+    }
+
+    /**
+     * Recomputes all streaks in one pass, first over the days compacted
+     * into the archive and then over the sessions still in the history.
+     *
+     * @param archive The aggregates of compacted days
+     * @param history The completed sessions, ordered by start time
+     */
+    void rebuild(SessionArchive archive, Iterable<FocusSession> history) {
+        // Reset in place so streaks handed out earlier stay current
+        overall.reset();
+        byTask.values().forEach(SessionStreaks::reset);
+        for (SessionArchive.Day day : archive.days()) {
+            if (day.all.getWorkSessionCount() > 0) {
+                overall.recordDay(day.all, maxGapSeconds);
+            }
+            for (SessionAggregate task : day.byTask.values()) {
+                if (task.getWorkSessionCount() > 0) {
+                    byTask.computeIfAbsent(task.getTaskId(), id -> new SessionStreaks())
+                        .recordDay(task, maxGapSeconds);
+                }
+            }
+        }
+        for (FocusSession session : history) {
+            record(session);
+        }
+    }
+
+    SessionStreaks getOverall() {
+        return overall;
+    }
+
+    SessionStreaks getForTask(String taskId) {
+        return byTask.get(taskId);
+    }
+
+    static boolean isBreak(TimerType type) {
+        return type != null && type.isBreak();
+    }
+}
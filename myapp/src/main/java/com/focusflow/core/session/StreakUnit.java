@@ -0,0 +1,23 @@
+package com.focusflow.core.session;
+
+/**
+ * Granularity at which focus streaks are counted.
+ */
+public enum StreakUnit {
+    /**
+     * Work sessions that each start within the allowed break after the
+     * previous one ended.
+     */
+    SESSION,
+
+    /**
+     * Consecutive calendar days with at least one work session.
+     */
+    DAY,
+
+    /**
+     * Consecutive ISO weeks, starting on Monday, with at least one work
+     * session.
+     */
+    WEEK
+}
@@ -0,0 +1,366 @@
+package com.focusflow.core.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Timer event dispatcher that isolates listeners from the timing thread.
+ *
+ * Every listener gets its own bounded queue that is drained on a shared
+ * dispatch pool, one listener at a time, so events reach each listener in
+ * order while the thread that produced them never runs consumer code and
+ * never blocks. A slow listener only falls behind on its own queue.
+ *
+ * Technical Notes:
+ * - Queues are lock-free; producers only ever offer and never wait
+ * - Tick events follow a {@link TickPolicy}; state change events are only
+ *   dropped once a listener's queue is completely full
+ * - Callbacks running longer than the slow threshold, and queues filling up,
+ *   mark the listener as lagging in {@link #getStats()}
+ * - Once {@link #enableLatencyStats()} is called, queue delay and callback
+ *   time are kept per listener in {@link LatencyHistogram}s, allocated when
+ *   the listener's next event is delivered
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerEventDispatcher
+ * @see com.focusflow.core.timer.ListenerDispatchStats
+ */
+public class AsyncTimerEventDispatcher implements TimerEventDispatcher {
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long DEFAULT_SLOW_THRESHOLD_MILLIS = 50;
+    private static final int MAX_EVENTS_PER_DRAIN = 32;
+
+    /**
+     * How tick events are queued for a listener.
+     */
+    public enum TickPolicy {
+        /**
+         * At most one tick is pending per listener; newer ticks replace it.
+         * A state event queued behind a pending tick releases it first, so
+         * a tick is never delivered after a later state event.
+         */
+        CONFLATE,
+
+        /**
+         * A tick is dropped while the listener still has events to process.
+         */
+        DROP_WHEN_BUSY,
+
+        /**
+         * Ticks are queued like any other event until the queue is full.
+         */
+        QUEUE
+    }
+
+    /**
+     * Holder for the lazily created pool shared by all default dispatchers.
+     */
+    private static final class SharedPool {
+        private static final ExecutorService INSTANCE = createPool();
+
+        private static ExecutorService createPool() {
+            AtomicInteger threadCount = new AtomicInteger();
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "focusflow-timer-dispatch-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private final Map<TimerEventListener, ListenerChannel> channels = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int queueCapacity;
+    private final TickPolicy tickPolicy;
+    private final long slowThresholdNanos;
+    private volatile boolean latencyStats;
+
+    /**
+     * Creates a dispatcher on the shared dispatch pool that conflates ticks,
+     * queues up to 64 events per listener and flags callbacks slower than 50ms.
+     */
+    public AsyncTimerEventDispatcher() {
+        this(SharedPool.INSTANCE, DEFAULT_QUEUE_CAPACITY, TickPolicy.CONFLATE,
+            DEFAULT_SLOW_THRESHOLD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a dispatcher with the given settings.
+     *
+     * @param executor the executor that runs listener callbacks
+     * @param queueCapacity the maximum number of undelivered events per listener
+     * @param tickPolicy how tick events are queued
+     * @param slowThreshold callbacks running longer than this are counted as slow
+     * @param unit the unit of the slow threshold
+     * @throws IllegalArgumentException if an argument is null or not positive
+     */
+    public AsyncTimerEventDispatcher(Executor executor, int queueCapacity, TickPolicy tickPolicy,
+                                     long slowThreshold, TimeUnit unit) {
+        if (executor == null || tickPolicy == null || unit == null) {
+            throw new IllegalArgumentException("Executor, tick policy and unit cannot be null");
+        }
+        if (queueCapacity <= 0 || slowThreshold <= 0) {
+            throw new IllegalArgumentException("Queue capacity and slow threshold must be positive");
+        }
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.tickPolicy = tickPolicy;
+        this.slowThresholdNanos = unit.toNanos(slowThreshold);
+    }
+
+    @Override
+    public void dispatch(TimerEventListener listener, TimerEvent event) {
+        channels.computeIfAbsent(listener, ListenerChannel::new).offer(event);
+    }
+
+    @Override
+    public void release(TimerEventListener listener) {
+        channels.remove(listener);
+    }
+
+    @Override
+    public void enableLatencyStats() {
+        latencyStats = true;
+    }
+
+    @Override
+    public List<ListenerDispatchStats> getStats() {
+        List<ListenerDispatchStats> stats = new ArrayList<>(channels.size());
+        long now = System.nanoTime();
+        for (ListenerChannel channel : channels.values()) {
+            stats.add(channel.snapshot(now));
+        }
+        return stats;
+    }
+
+    /**
+     * Returns the statistics of the listeners that are currently lagging.
+     *
+     * @return the statistics of lagging listeners
+     */
+    public List<ListenerDispatchStats> getLaggingListeners() {
+        List<ListenerDispatchStats> lagging = new ArrayList<>();
+        for (ListenerDispatchStats stats : getStats()) {
+            if (stats.isLagging()) {
+                lagging.add(stats);
+            }
+        }
+        return lagging;
+    }
+
+    /**
+     * The queue and counters of one listener. Draining is serialised through
+     * the {@code scheduled} flag, so at most one pool thread delivers to a
+     * listener at a time.
+     */
+    private final class ListenerChannel {
+        private final TimerEventListener listener;
+        // Timer events, and the runs standing in for conflated ticks
+        private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicReference<ConflatedTick> pendingTick = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong conflated = new AtomicLong();
+        private final AtomicLong slowCallbacks = new AtomicLong();
+        private final AtomicLong maxCallbackNanos = new AtomicLong();
+        // Allocated by the draining thread once latency stats are enabled
+        private volatile LatencyHistogram queueDelay;
+        private volatile LatencyHistogram callbackTime;
+        private volatile long callbackStartedAt;
+        private volatile boolean lastCallbackSlow;
+
+        ListenerChannel(TimerEventListener listener) {
+            this.listener = listener;
+        }
+
+        void offer(TimerEvent event) {
+            if (event.getKind() == TimerEvent.Kind.TICK) {
+                offerTick(event);
+                return;
+            }
+            if (tickPolicy == TickPolicy.CONFLATE) {
+                // A pending tick goes out before the state change, never after it
+                ConflatedTick pending = pendingTick.getAndSet(null);
+                if (pending != null) {
+                    enqueue(pending.tick);
+                }
+            }
+            enqueue(event);
+        }
+
+        private void offerTick(TimerEvent tick) {
+            switch (tickPolicy) {
+                case CONFLATE:
+                    conflate(tick);
+                    break;
+                case DROP_WHEN_BUSY:
+                    if (size.get() > 0 || callbackStartedAt != 0) {
+                        dropped.incrementAndGet();
+                    } else {
+                        enqueue(tick);
+                    }
+                    break;
+                default:
+                    enqueue(tick);
+                    break;
+            }
+        }
+
+        /**
+         * Replaces the tick pending in the current run, or starts a new run
+         * and queues it in place of the tick.
+         */
+        private void conflate(TimerEvent tick) {
+            while (true) {
+                ConflatedTick pending = pendingTick.get();
+                if (pending != null) {
+                    if (pendingTick.compareAndSet(pending, new ConflatedTick(pending.run, tick))) {
+                        conflated.incrementAndGet();
+                        return;
+                    }
+                } else {
+                    ConflatedTick run = new ConflatedTick(null, tick);
+                    if (pendingTick.compareAndSet(null, run)) {
+                        if (!enqueue(run)) {
+                            takeTick(run);
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Takes the latest tick of a run, unless the run was already flushed
+         * ahead of a state change.
+         */
+        private TimerEvent takeTick(ConflatedTick run) {
+            ConflatedTick pending;
+            while ((pending = pendingTick.get()) != null && pending.run == run) {
+                if (pendingTick.compareAndSet(pending, null)) {
+                    return pending.tick;
+                }
+            }
+            return null;
+        }
+
+        private boolean enqueue(Object event) {
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                dropped.incrementAndGet();
+                return false;
+            }
+            queue.add(event);
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    System.err.println("Error scheduling timer event delivery: " + e.getMessage());
+                }
+            }
+        }
+
+        private void drain() {
+            for (int i = 0; i < MAX_EVENTS_PER_DRAIN; i++) {
+                Object queued = queue.poll();
+                if (queued == null) {
+                    break;
+                }
+                size.decrementAndGet();
+                TimerEvent event = queued instanceof ConflatedTick
+                    ? takeTick((ConflatedTick) queued) : (TimerEvent) queued;
+                if (event != null) {
+                    deliver(event);
+                }
+            }
+            scheduled.set(false);
+            // Events offered after the last poll but before the flag was cleared
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void deliver(TimerEvent event) {
+            long start = System.nanoTime();
+            callbackStartedAt = start;
+            if (latencyStats && callbackTime == null) {
+                queueDelay = new LatencyHistogram();
+                callbackTime = new LatencyHistogram();
+            }
+            LatencyHistogram delays = queueDelay;
+            if (delays != null) {
+                delays.record(start - event.getCreatedAtNanos());
+            }
+            try {
+                event.deliverTo(listener);
+            } catch (RuntimeException e) {
+                System.err.println("Error notifying timer listener: " + e.getMessage());
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                callbackStartedAt = 0;
+                delivered.incrementAndGet();
+                maxCallbackNanos.accumulateAndGet(elapsed, Math::max);
+                LatencyHistogram callbacks = callbackTime;
+                if (callbacks != null) {
+                    callbacks.record(elapsed);
+                }
+                lastCallbackSlow = elapsed > slowThresholdNanos;
+                if (lastCallbackSlow) {
+                    slowCallbacks.incrementAndGet();
+                }
+            }
+        }
+
+        ListenerDispatchStats snapshot(long now) {
+            long startedAt = callbackStartedAt;
+            long runningNanos = startedAt == 0 ? 0 : now - startedAt;
+            int queued = size.get();
+            boolean lagging = lastCallbackSlow
+                || runningNanos > slowThresholdNanos
+                || queued > queueCapacity / 2;
+            return new ListenerDispatchStats(listener, queued, delivered.get(), dropped.get(),
+                conflated.get(), slowCallbacks.get(), maxCallbackNanos.get(), runningNanos, lagging,
+                snapshotOf(queueDelay), snapshotOf(callbackTime));
+        }
+    }
+
+    /**
+     * The latest tick of a run of conflated ticks. The run's first instance
+     * is queued in place of the ticks and identifies the run.
+     */
+    private static final class ConflatedTick {
+        final ConflatedTick run;
+        final TimerEvent tick;
+
+        ConflatedTick(ConflatedTick run, TimerEvent tick) {
+            this.run = run == null ? this : run;
+            this.tick = tick;
+        }
+    }
+
+    private static LatencySnapshot snapshotOf(LatencyHistogram histogram) {
+        return histogram == null ? LatencySnapshot.EMPTY : histogram.snapshot();
+    }
+}
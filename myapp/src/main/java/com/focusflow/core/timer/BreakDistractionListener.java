@@ -0,0 +1,85 @@
+package com.focusflow.core.timer;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.focusflow.core.session.Distraction;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.SessionService;
+
+/**
+ * Surfaces the distractions captured during a work session once its break
+ * starts.
+ *
+ * Capturing a distraction only touches the session's lock-free buffer, so
+ * nothing is delivered while the user is focusing. When a timer starts a
+ * break, either a break timer or a break phase of a {@link PomodoroCycle},
+ * this listener drains everything captured since the last break and hands
+ * it to the consumer in one list. Breaks with nothing captured are skipped.
+ *
+ * Events may arrive on the asynchronous dispatcher's thread, so the
+ * distractions are never read through a session manager directly: they are
+ * drained either from the work session the timer itself published, or
+ * through a {@link SessionService} while holding the user's lock.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.session.FocusSession#captureDistraction(String)
+ */
+public class BreakDistractionListener extends TimerEventListener.Adapter {
+    private final Function<Timer, List<Distraction>> source;
+    private final Consumer<List<Distraction>> consumer;
+
+    /**
+     * Creates a listener that drains the sessions recorded by the timer it
+     * is added to, which must be a {@link PomodoroTimer}.
+     *
+     * @param consumer receives the distractions captured before each break
+     * @throws IllegalArgumentException if the consumer is null
+     */
+    public BreakDistractionListener(Consumer<List<Distraction>> consumer) {
+        this(timer -> ((PomodoroTimer) timer).drainDistractions(), consumer);
+    }
+
+    /**
+     * Creates a listener that drains a user's sessions kept by the given
+     * session service.
+     *
+     * @param sessionService the service holding the user's sessions
+     * @param userId the user whose distractions are drained
+     * @param consumer receives the distractions captured before each break
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public BreakDistractionListener(SessionService sessionService, String userId,
+                                    Consumer<List<Distraction>> consumer) {
+        this(drainUser(sessionService, userId), consumer);
+    }
+
+    private BreakDistractionListener(Function<Timer, List<Distraction>> source,
+                                     Consumer<List<Distraction>> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        this.source = source;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void onTimerStarted(Timer timer) {
+        if (!timer.getType().isBreak()) {
+            return;
+        }
+        List<Distraction> distractions = source.apply(timer);
+        if (!distractions.isEmpty()) {
+            consumer.accept(distractions);
+        }
+    }
+
+    private static Function<Timer, List<Distraction>> drainUser(SessionService sessionService, String userId) {
+        if (sessionService == null || userId == null) {
+            throw new IllegalArgumentException("Session service and user ID cannot be null");
+        }
+        return timer -> sessionService.query(userId, SessionManager::drainDistractions);
+    }
+}
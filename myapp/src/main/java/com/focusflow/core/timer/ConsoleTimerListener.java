@@ -12,6 +12,14 @@
 
 package com.focusflow.core.timer;
 
+/**
+ * Prints one line per timer event to standard output.
+ * 
+ * @deprecated Writes a synchronized console line per tick per timer; use
+ *             {@link TerminalDashboard}, which redraws all timers in place
+ *             at a capped frame rate.
+ */
+@Deprecated
 public class ConsoleTimerListener implements TimerEventListener {
     /**
      * Called when the timer ticks (every second).
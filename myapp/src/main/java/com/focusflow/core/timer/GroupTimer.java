@@ -0,0 +1,309 @@
+package com.focusflow.core.timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.focusflow.core.session.SessionManager;
+
+/**
+ * A shared focus timer that many participants join at once.
+ *
+ * The group has one authoritative deadline and one scheduler registration.
+ * Participants are kept in the group's own map, and a single internal
+ * listener, registered once when the group is created, fans every event out
+ * to them from the group's event dispatcher. Joining or leaving only updates
+ * that map and a count per tick resolution, so it is O(1) and never touches
+ * the listener arrays or the scheduled wakeup. The group only wakes up for
+ * ticks some participant asked for; a participant joining a running group
+ * gets their first tick from the group's next wakeup on. Participant
+ * callbacks run one after another on the fan-out listener's thread, so they
+ * should return quickly.
+ *
+ * Each participant still gets their own focus session in their own
+ * {@link SessionManager}, opened when the group starts (or when they join a
+ * running group) and closed when the group stops or completes (or when they
+ * leave). Sessions are opened and closed under one group lock, together
+ * with adding and removing the participant, so a participant joining while
+ * the group completes either has their session closed by the completion or
+ * never opens one, and receives every event after their session opened.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.PomodoroTimer
+ */
+public class GroupTimer extends PomodoroTimer {
+    private final Map<String, Participant> participants = new ConcurrentHashMap<>();
+    // Number of participants asking for each tick resolution, for planning wakeups
+    private final Map<TickResolution, Integer> tickResolutions = new ConcurrentHashMap<>();
+    private final FanOut fanOut = new FanOut();
+    private final Object sessionLock = new Object();
+
+    /**
+     * Creates a group timer of the given type using its default duration.
+     *
+     * @param type the type of timer to create
+     */
+    public GroupTimer(TimerType type) {
+        this(type, type.getDefaultDuration(), TimerScheduler.shared());
+    }
+
+    /**
+     * Creates a group timer with the given type, duration and scheduler.
+     *
+     * @param type the type of timer to create
+     * @param duration the duration in seconds
+     * @param scheduler the scheduler that drives the group's deadline
+     */
+    public GroupTimer(TimerType type, int duration, TimerScheduler scheduler) {
+        super(type, duration, scheduler);
+        // Ticks reach the fan-out through deliverTick, planned from the participants' resolutions
+        addListener(fanOut, TickResolution.stateChangesOnly());
+    }
+
+    /**
+     * Adds a participant to the group. If the group is already running or
+     * paused, the participant's session starts immediately.
+     *
+     * @param participantId the unique ID of the participant
+     * @param sessionManager the participant's own session manager
+     * @param taskId the ID of the task the participant focuses on
+     * @param listener the participant's listener, or null for none
+     * @param resolution the ticks the participant's listener needs
+     * @throws IllegalArgumentException if the ID, session manager or task ID is missing
+     * @throws IllegalStateException if the participant already joined or the group has completed
+     */
+    public void join(String participantId, SessionManager sessionManager, String taskId,
+                     TimerEventListener listener, TickResolution resolution) {
+        if (participantId == null || sessionManager == null) {
+            throw new IllegalArgumentException("Participant ID and session manager are required");
+        }
+        if (taskId == null || taskId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Task ID cannot be null or empty");
+        }
+        Participant participant = new Participant(sessionManager, taskId, listener,
+            resolution == null ? TickResolution.everyTick() : resolution);
+        synchronized (sessionLock) {
+            if (participants.containsKey(participantId)) {
+                throw new IllegalStateException("Participant " + participantId + " already joined");
+            }
+            TimerState state = getState();
+            if (state == TimerState.COMPLETED) {
+                throw new IllegalStateException("Group timer has already completed");
+            }
+            if (state == TimerState.RUNNING || state == TimerState.PAUSED) {
+                participant.openSession(getType());
+            }
+            participants.put(participantId, participant);
+            if (participant.wantsTicks()) {
+                tickResolutions.merge(participant.resolution, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Adds a participant whose listener receives every tick.
+     *
+     * @param participantId the unique ID of the participant
+     * @param sessionManager the participant's own session manager
+     * @param taskId the ID of the task the participant focuses on
+     * @param listener the participant's listener, or null for none
+     */
+    public void join(String participantId, SessionManager sessionManager, String taskId,
+                     TimerEventListener listener) {
+        join(participantId, sessionManager, taskId, listener, TickResolution.everyTick());
+    }
+
+    /**
+     * Removes a participant from the group, ending their session if one is open.
+     *
+     * @param participantId the ID of the participant
+     * @return true if the participant was in the group
+     */
+    public boolean leave(String participantId) {
+        Participant participant;
+        synchronized (sessionLock) {
+            participant = participants.remove(participantId);
+            if (participant == null) {
+                return false;
+            }
+            if (participant.wantsTicks()) {
+                tickResolutions.computeIfPresent(participant.resolution,
+                    (resolution, count) -> count == 1 ? null : count - 1);
+            }
+            participant.closeSession();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a participant is in the group.
+     *
+     * @param participantId the ID of the participant
+     * @return true if the participant has joined and not left
+     */
+    public boolean isParticipant(String participantId) {
+        return participants.containsKey(participantId);
+    }
+
+    /**
+     * Gets the number of participants in the group.
+     *
+     * @return the participant count
+     */
+    public int getParticipantCount() {
+        return participants.size();
+    }
+
+    @Override
+    protected void openSession() {
+        synchronized (sessionLock) {
+            for (Participant participant : participants.values()) {
+                participant.openSession(getType());
+            }
+        }
+    }
+
+    @Override
+    protected void closeSession() {
+        synchronized (sessionLock) {
+            for (Participant participant : participants.values()) {
+                participant.closeSession();
+            }
+        }
+    }
+
+    @Override
+    protected int nextTickAtOrBelow(int remainingSeconds) {
+        int next = super.nextTickAtOrBelow(remainingSeconds);
+        for (TickResolution resolution : tickResolutions.keySet()) {
+            next = Math.max(next, resolution.nextTickAtOrBelow(remainingSeconds));
+        }
+        return next;
+    }
+
+    @Override
+    protected void deliverTick(int remainingSeconds) {
+        super.deliverTick(remainingSeconds);
+        for (TickResolution resolution : tickResolutions.keySet()) {
+            if (resolution.accepts(remainingSeconds)) {
+                getEventDispatcher().dispatch(fanOut, new TimerEvent(TimerEvent.Kind.TICK, this, remainingSeconds));
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected void recordSuspension(long seconds) {
+        for (Participant participant : participants.values()) {
+            participant.recordSuspension(seconds);
+        }
+    }
+
+    /**
+     * Delivers the group's events to every participant with a listener. It
+     * is the group's only listener for its participants, so each event is
+     * dispatched once however many participants there are, and a listener
+     * shared by several participants gets each participant's events.
+     */
+    private final class FanOut implements TimerEventListener {
+        @Override
+        public void onTimerStarted(Timer timer) {
+            deliver(new TimerEvent(TimerEvent.Kind.STARTED, timer, 0));
+        }
+
+        @Override
+        public void onTimerPaused(Timer timer) {
+            deliver(new TimerEvent(TimerEvent.Kind.PAUSED, timer, 0));
+        }
+
+        @Override
+        public void onTimerResumed(Timer timer) {
+            deliver(new TimerEvent(TimerEvent.Kind.RESUMED, timer, 0));
+        }
+
+        @Override
+        public void onTimerCompleted(Timer timer) {
+            deliver(new TimerEvent(TimerEvent.Kind.COMPLETED, timer, 0));
+        }
+
+        @Override
+        public void onTimerStopped(Timer timer) {
+            deliver(new TimerEvent(TimerEvent.Kind.STOPPED, timer, 0));
+        }
+
+        @Override
+        public void onTimerTick(Timer timer, int remainingSeconds) {
+            deliver(new TimerEvent(TimerEvent.Kind.TICK, timer, remainingSeconds));
+        }
+
+        @Override
+        public void onTimerReset(Timer timer) {
+            deliver(new TimerEvent(TimerEvent.Kind.RESET, timer, 0));
+        }
+
+        @Override
+        public void onTimerStalled(Timer timer, TimerStall stall) {
+            deliver(new TimerEvent(timer, stall));
+        }
+
+        private void deliver(TimerEvent event) {
+            boolean tick = event.getKind() == TimerEvent.Kind.TICK;
+            for (Participant participant : participants.values()) {
+                if (participant.listener == null
+                        || tick && !participant.resolution.accepts(event.getRemainingSeconds())) {
+                    continue;
+                }
+                try {
+                    event.deliverTo(participant.listener);
+                } catch (RuntimeException e) {
+                    System.err.println("Error notifying group participant: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * A participant, their listener, and the state of their focus session.
+     */
+    private static final class Participant {
+        private final SessionManager sessionManager;
+        private final String taskId;
+        private final TimerEventListener listener;
+        private final TickResolution resolution;
+        // Guards against opening or closing twice when a join races a group transition
+        private final AtomicBoolean sessionOpen = new AtomicBoolean();
+
+        Participant(SessionManager sessionManager, String taskId, TimerEventListener listener,
+                    TickResolution resolution) {
+            this.sessionManager = sessionManager;
+            this.taskId = taskId;
+            this.listener = listener;
+            this.resolution = resolution;
+        }
+
+        void openSession(TimerType type) {
+            if (sessionOpen.compareAndSet(false, true)) {
+                sessionManager.startSession(taskId, type);
+            }
+        }
+
+        void closeSession() {
+            if (sessionOpen.compareAndSet(true, false)) {
+                sessionManager.endCurrentSession();
+            }
+        }
+
+        boolean wantsTicks() {
+            return listener != null && resolution.receivesTicks();
+        }
+
+        void recordSuspension(long seconds) {
+            if (sessionOpen.get()) {
+                sessionManager.getCurrentSession()
+                    .filter(session -> !session.isCompleted())
+                    .ifPresent(session -> session.recordSuspension(seconds));
+            }
+        }
+    }
+}
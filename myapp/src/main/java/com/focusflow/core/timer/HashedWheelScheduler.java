@@ -0,0 +1,337 @@
+package com.focusflow.core.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing-wheel implementation of {@link TimerScheduler}.
+ *
+ * Deadlines are hashed into a fixed ring of buckets by tick number. A single
+ * wheel thread advances one bucket per tick and hands every expired task to a
+ * small worker pool, so the cost of scheduling and cancelling is O(1) and the
+ * number of threads stays constant no matter how many timers are registered.
+ * Memory is one entry object per pending deadline.
+ *
+ * Technical Notes:
+ * - New and cancelled registrations go through lock-free queues that only the
+ *   wheel thread drains, so buckets never need locking
+ * - Deadlines further away than one wheel revolution carry a round counter
+ * - Tasks run on the worker pool, never on the wheel thread, so a slow task
+ *   cannot delay other timers' deadlines
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerScheduler
+ */
+public class HashedWheelScheduler implements TimerScheduler {
+    private static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<Entry> pendingEntries = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancelledEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final ExecutorService workers;
+    private final Thread wheelThread;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * Holder for the lazily created process-wide scheduler.
+     */
+    private static final class SharedHolder {
+        private static final HashedWheelScheduler INSTANCE = new HashedWheelScheduler();
+    }
+
+    /**
+     * Creates a scheduler with a 10ms tick, 512 buckets and a worker pool
+     * sized to the available processors.
+     */
+    public HashedWheelScheduler() {
+        this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE,
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Creates a scheduler with the given wheel geometry.
+     *
+     * @param tickDuration the duration of one wheel tick
+     * @param unit the unit of the tick duration
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     * @param workerThreads the number of threads that run expired tasks
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public HashedWheelScheduler(long tickDuration, TimeUnit unit, int wheelSize, int workerThreads) {
+        if (tickDuration <= 0 || wheelSize <= 0 || workerThreads <= 0) {
+            throw new IllegalArgumentException("Tick duration, wheel size and worker threads must be positive");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "focusflow-timer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.startTime = System.nanoTime();
+        this.wheelThread = new Thread(this::runWheel, "focusflow-timer-wheel");
+        this.wheelThread.setDaemon(true);
+        this.wheelThread.start();
+    }
+
+    /**
+     * Returns the process-wide scheduler, creating it on first use.
+     *
+     * @return the shared scheduler
+     */
+    public static HashedWheelScheduler shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    @Override
+    public Registration schedule(Runnable task, long deadlineNanos) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        if (!running) {
+            throw new IllegalStateException("Scheduler has been shut down");
+        }
+        Entry entry = new Entry(task, deadlineNanos);
+        pendingCount.incrementAndGet();
+        pendingEntries.add(entry);
+        return entry;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Returns the number of tasks that are scheduled but have not run yet.
+     *
+     * @return the pending task count
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Returns the duration of one wheel tick, which bounds how late a task
+     * can fire under normal load.
+     *
+     * @return the tick duration in nanoseconds
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Stops the wheel thread and the worker pool. Pending tasks are discarded.
+     *
+     * @throws IllegalStateException if called on the shared scheduler
+     */
+    public void shutdown() {
+        if (this == SharedHolder.INSTANCE) {
+            throw new IllegalStateException("The shared scheduler cannot be shut down");
+        }
+        running = false;
+        LockSupport.unpark(wheelThread);
+        workers.shutdownNow();
+    }
+
+    private void runWheel() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                break;
+            }
+            processCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long tickDeadline = tickNanos * (tick + 1);
+        while (running) {
+            long current = System.nanoTime() - startTime;
+            long sleepNanos = tickDeadline - current;
+            if (sleepNanos <= 0) {
+                return current;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+        return -1;
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Entry entry = pendingEntries.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.state != Entry.PENDING) {
+                continue;
+            }
+            long relativeDeadline = entry.deadlineNanos - startTime;
+            long targetTick = Math.max(relativeDeadline / tickNanos, tick);
+            entry.remainingRounds = (targetTick - tick) / wheel.length;
+            wheel[(int) (targetTick & mask)].add(entry);
+        }
+    }
+
+    private void processCancelled() {
+        Entry entry;
+        while ((entry = cancelledEntries.poll()) != null) {
+            if (entry.bucket != null) {
+                entry.bucket.remove(entry);
+            }
+        }
+    }
+
+    private void fire(Entry entry) {
+        pendingCount.decrementAndGet();
+        try {
+            workers.execute(() -> {
+                try {
+                    entry.task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error running scheduled timer task: " + e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            // Worker pool rejected the task because the scheduler is shutting down
+        }
+    }
+
+    /**
+     * A scheduled task, linked into exactly one bucket once the wheel thread
+     * has picked it up.
+     */
+    private final class Entry implements Registration {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Entry> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private volatile int state = PENDING;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Entry next;
+        private Entry prev;
+
+        Entry(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            pendingCount.decrementAndGet();
+            cancelledEntries.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public long getDeadlineNanos() {
+            return deadlineNanos;
+        }
+
+        boolean expire() {
+            return STATE.compareAndSet(this, PENDING, EXPIRED);
+        }
+    }
+
+    /**
+     * Doubly linked list of entries that hash to the same wheel slot. Only
+     * ever touched by the wheel thread.
+     */
+    private final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            if (head == null) {
+                head = entry;
+                tail = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+                tail = entry;
+            }
+        }
+
+        void expire(long now) {
+            Entry entry = head;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.isCancelled()) {
+                    remove(entry);
+                } else if (entry.remainingRounds <= 0 && entry.deadlineNanos - startTime <= now) {
+                    remove(entry);
+                    if (entry.expire()) {
+                        fire(entry);
+                    }
+                } else {
+                    entry.remainingRounds--;
+                }
+                entry = next;
+            }
+        }
+
+        void remove(Entry entry) {
+            if (entry.bucket != this) {
+                return;
+            }
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            } else {
+                tail = entry.prev;
+            }
+            entry.next = null;
+            entry.prev = null;
+            entry.bucket = null;
+        }
+    }
+}
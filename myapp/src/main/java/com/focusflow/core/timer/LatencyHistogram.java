@@ -0,0 +1,91 @@
+package com.focusflow.core.timer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Low-overhead, thread-safe histogram of latencies in nanoseconds.
+ *
+ * Values are counted in log-linear buckets: every power of two is split into
+ * eight equal sub-buckets, so any recorded value is reported within 12.5% of
+ * its true value. Only the range timer lateness realistically covers is
+ * bucketed, from about one microsecond to a little over an hour, which takes
+ * 257 counters or about 2 KB: shorter values share the lowest bucket and
+ * longer ones the highest, while the maximum is still kept exactly.
+ * Recording is a handful of atomic increments and never allocates or locks,
+ * so it is cheap enough to run on every timer wakeup and listener callback.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.LatencySnapshot
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 2^10 ns is about a microsecond, 2^42 ns about 73 minutes
+    static final int MIN_EXPONENT = 10;
+    static final int MAX_EXPONENT = 41;
+    static final int BUCKET_COUNT = 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency. Negative values are recorded as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the values recorded so far. Values recorded while
+     * the snapshot is taken may or may not be included.
+     *
+     * @return the snapshot
+     */
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            recorded += copy[i];
+        }
+        return new LatencySnapshot(copy, recorded, total.get(), max.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < 1L << MIN_EXPONENT) {
+            return 0;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket == 0) {
+            return (1L << MIN_EXPONENT) - 1;
+        }
+        if (bucket == BUCKET_COUNT - 1) {
+            // Also holds every longer value, so only the true maximum bounds it
+            return Long.MAX_VALUE;
+        }
+        int exponent = (bucket - 1) / SUB_BUCKETS + MIN_EXPONENT;
+        long subBucket = (bucket - 1) % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
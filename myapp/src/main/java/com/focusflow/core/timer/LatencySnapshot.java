@@ -0,0 +1,107 @@
+package com.focusflow.core.timer;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}.
+ *
+ * Percentiles are computed from the histogram buckets and are reported as
+ * the upper bound of the bucket they fall into, capped at the true maximum,
+ * so they never understate a latency.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.LatencyHistogram
+ */
+public final class LatencySnapshot {
+    /**
+     * Snapshot with nothing recorded, reported where no histogram is kept.
+     */
+    static final LatencySnapshot EMPTY = new LatencySnapshot(new long[0], 0, 0, 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the value count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the value below which the given share of recorded values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the median of the recorded values.
+     *
+     * @return the 50th percentile in nanoseconds
+     */
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    /**
+     * Gets the 99th percentile of the recorded values.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d p50=%.2fms p99=%.2fms max=%.2fms", count,
+            getP50Nanos() / 1_000_000.0, getP99Nanos() / 1_000_000.0, maxNanos / 1_000_000.0);
+    }
+}
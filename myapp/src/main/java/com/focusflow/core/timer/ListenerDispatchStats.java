@@ -0,0 +1,155 @@
+package com.focusflow.core.timer;
+
+/**
+ * Point-in-time dispatch statistics for one timer event listener.
+ *
+ * Produced by {@link AsyncTimerEventDispatcher#getStats()} to show which
+ * listeners are keeping up with their events and which are lagging.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.AsyncTimerEventDispatcher
+ */
+public final class ListenerDispatchStats {
+    private final TimerEventListener listener;
+    private final int queuedEvents;
+    private final long deliveredEvents;
+    private final long droppedEvents;
+    private final long conflatedTicks;
+    private final long slowCallbacks;
+    private final long maxCallbackNanos;
+    private final long currentCallbackNanos;
+    private final boolean lagging;
+    private final LatencySnapshot queueDelay;
+    private final LatencySnapshot callbackTime;
+
+    ListenerDispatchStats(TimerEventListener listener, int queuedEvents, long deliveredEvents,
+                          long droppedEvents, long conflatedTicks, long slowCallbacks,
+                          long maxCallbackNanos, long currentCallbackNanos, boolean lagging,
+                          LatencySnapshot queueDelay, LatencySnapshot callbackTime) {
+        this.listener = listener;
+        this.queuedEvents = queuedEvents;
+        this.deliveredEvents = deliveredEvents;
+        this.droppedEvents = droppedEvents;
+        this.conflatedTicks = conflatedTicks;
+        this.slowCallbacks = slowCallbacks;
+        this.maxCallbackNanos = maxCallbackNanos;
+        this.currentCallbackNanos = currentCallbackNanos;
+        this.lagging = lagging;
+        this.queueDelay = queueDelay;
+        this.callbackTime = callbackTime;
+    }
+
+    /**
+     * Gets the listener these statistics describe.
+     *
+     * @return the listener
+     */
+    public TimerEventListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the number of events waiting to be delivered.
+     *
+     * @return the queue depth
+     */
+    public int getQueuedEvents() {
+        return queuedEvents;
+    }
+
+    /**
+     * Gets the number of events delivered so far.
+     *
+     * @return the delivered event count
+     */
+    public long getDeliveredEvents() {
+        return deliveredEvents;
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was full, or
+     * because of the tick policy.
+     *
+     * @return the dropped event count
+     */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+
+    /**
+     * Gets the number of ticks replaced by a newer tick before delivery.
+     *
+     * @return the conflated tick count
+     */
+    public long getConflatedTicks() {
+        return conflatedTicks;
+    }
+
+    /**
+     * Gets the number of callbacks that exceeded the slow threshold.
+     *
+     * @return the slow callback count
+     */
+    public long getSlowCallbacks() {
+        return slowCallbacks;
+    }
+
+    /**
+     * Gets the duration of the slowest callback so far.
+     *
+     * @return the longest callback duration in nanoseconds
+     */
+    public long getMaxCallbackNanos() {
+        return maxCallbackNanos;
+    }
+
+    /**
+     * Gets how long the callback currently in progress has been running.
+     *
+     * @return the running time in nanoseconds, or 0 if no callback is running
+     */
+    public long getCurrentCallbackNanos() {
+        return currentCallbackNanos;
+    }
+
+    /**
+     * Gets how long events waited between being produced and their callback
+     * starting. Nothing is recorded unless the dispatcher's latency stats
+     * are enabled.
+     *
+     * @return the queue delay histogram
+     */
+    public LatencySnapshot getQueueDelay() {
+        return queueDelay;
+    }
+
+    /**
+     * Gets how long the listener's callbacks took. Nothing is recorded
+     * unless the dispatcher's latency stats are enabled.
+     *
+     * @return the callback time histogram
+     */
+    public LatencySnapshot getCallbackTime() {
+        return callbackTime;
+    }
+
+    /**
+     * Checks whether the listener is falling behind: its last or current
+     * callback is slow, or its queue is more than half full.
+     *
+     * @return true if the listener is lagging
+     */
+    public boolean isLagging() {
+        return lagging;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: queued=%d delivered=%d dropped=%d conflated=%d slow=%d max=%.1fms"
+                + " queueDelay[%s] callback[%s]%s",
+            listener.getClass().getName(), queuedEvents, deliveredEvents, droppedEvents,
+            conflatedTicks, slowCallbacks, maxCallbackNanos / 1_000_000.0, queueDelay, callbackTime,
+            lagging ? " LAGGING" : "");
+    }
+}
@@ -0,0 +1,144 @@
+package com.focusflow.core.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.focusflow.core.session.SessionManager;
+
+/**
+ * A complete Pomodoro cycle scheduled as a single timer.
+ *
+ * The whole work/break sequence is computed up front: every work session is
+ * followed by a short break, except every fourth which is followed by a long
+ * break, using the same rule as {@link SessionManager#isShortBreakAfter(int)}.
+ * The cycle then counts down each phase in turn and moves to the next one at
+ * the previous phase's deadline, holding one scheduler registration for the
+ * whole cycle instead of replacing the timer on every phase.
+ *
+ * Listeners see each phase complete and the next one start, and
+ * {@link #getType()} always reports the current phase. Persistence, where
+ * enabled, records the cycle's shape and current phase, and the cycle is
+ * restored at that phase.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.PomodoroTimer
+ */
+public class PomodoroCycle extends PomodoroTimer {
+    private final TimerType[] phases;
+    private final int[] durations;
+    private final TimerRecord.Cycle shape;
+
+    /**
+     * Creates a cycle of the given number of work sessions using the default
+     * duration of each timer type.
+     *
+     * @param workSessions the number of work sessions in the cycle
+     */
+    public PomodoroCycle(int workSessions) {
+        this(workSessions, TimerType.WORK.getDefaultDuration(), TimerType.SHORT_BREAK.getDefaultDuration(),
+            TimerType.LONG_BREAK.getDefaultDuration(), TimerScheduler.shared());
+    }
+
+    /**
+     * Creates a cycle with custom phase durations.
+     *
+     * @param workSessions the number of work sessions in the cycle
+     * @param workSeconds the duration of each work phase in seconds
+     * @param shortBreakSeconds the duration of each short break in seconds
+     * @param longBreakSeconds the duration of each long break in seconds
+     * @param scheduler the scheduler that drives the cycle
+     * @throws IllegalArgumentException if the number of work sessions is not positive
+     */
+    public PomodoroCycle(int workSessions, int workSeconds, int shortBreakSeconds, int longBreakSeconds,
+                         TimerScheduler scheduler) {
+        super(TimerType.WORK, workSeconds, scheduler);
+        this.shape = new TimerRecord.Cycle(workSessions, workSeconds, shortBreakSeconds, longBreakSeconds);
+        List<TimerType> plan = planPhases(workSessions);
+        this.phases = plan.toArray(new TimerType[0]);
+        this.durations = new int[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            switch (phases[i]) {
+                case SHORT_BREAK:
+                    durations[i] = shortBreakSeconds;
+                    break;
+                case LONG_BREAK:
+                    durations[i] = longBreakSeconds;
+                    break;
+                default:
+                    durations[i] = workSeconds;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Computes the phase sequence for the given number of work sessions.
+     *
+     * @param workSessions the number of work sessions
+     * @return the phases in order, each work session followed by its break
+     * @throws IllegalArgumentException if the number of work sessions is not positive
+     */
+    public static List<TimerType> planPhases(int workSessions) {
+        if (workSessions <= 0) {
+            throw new IllegalArgumentException("A cycle needs at least one work session");
+        }
+        List<TimerType> plan = new ArrayList<>(workSessions * 2);
+        for (int session = 1; session <= workSessions; session++) {
+            plan.add(TimerType.WORK);
+            plan.add(SessionManager.isShortBreakAfter(session) ? TimerType.SHORT_BREAK : TimerType.LONG_BREAK);
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the phases of this cycle.
+     *
+     * @return an unmodifiable list of the phases in order
+     */
+    public List<TimerType> getPhases() {
+        return List.of(phases);
+    }
+
+    /**
+     * Gets the index of the phase currently counting down.
+     *
+     * @return the zero-based phase index
+     */
+    public int getPhaseIndex() {
+        return getCurrentSegment();
+    }
+
+    /**
+     * Gets the total duration of the cycle.
+     *
+     * @return the sum of all phase durations in seconds
+     */
+    public long getTotalDurationSeconds() {
+        long total = 0;
+        for (int duration : durations) {
+            total += duration;
+        }
+        return total;
+    }
+
+    @Override
+    protected int getSegmentCount() {
+        return phases.length;
+    }
+
+    @Override
+    protected TimerType getSegmentType(int segment) {
+        return phases[segment];
+    }
+
+    @Override
+    protected int getSegmentDuration(int segment) {
+        return durations[segment];
+    }
+
+    @Override
+    protected TimerRecord.Cycle getCycleShape() {
+        return shape;
+    }
+}
@@ -8,11 +8,14 @@
 // TODO: Refactor internal timer reset
 package com.focusflow.core.timer;
 
-import java.util.ArrayList;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.TimerTask;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import com.focusflow.core.session.Distraction;
+import com.focusflow.core.session.FocusSession;
 import com.focusflow.core.session.SessionManager;
 
 /**
@@ -22,23 +25,63 @@ import com.focusflow.core.session.SessionManager;
  * supporting work sessions, short breaks, and long breaks. It includes event-based
  * notification system and full state management.
  * 
+ * Timers do not own a thread. Each second of the countdown is registered as a
+ * deadline with a {@link TimerScheduler}, which by default is the process-wide
+ * scheduler shared by every timer.
+ * 
+ * The countdown is anchored to an absolute deadline on the scheduler's
+ * monotonic clock. Remaining and elapsed time are computed from that deadline
+ * when asked for, so late ticks never accumulate into drift and completion
+ * fires exactly once, at the deadline.
+ * 
+ * All state lives in one immutable {@code Phase} that is swapped with a
+ * compare-and-set following the {@link TimerState} transition table, so
+ * start, pause, stop and completion may race from any thread without locks:
+ * exactly one of them wins each transition, and only the winner touches the
+ * session or notifies listeners.
+ * 
+ * Listener callbacks are delivered through an {@link AsyncTimerEventDispatcher}
+ * by default, so a slow listener never delays the timer or the scheduler.
+ * 
+ * Each wakeup checks how late it fired and whether the wall clock moved in
+ * step with the monotonic clock. A stall or clock jump is recorded as a
+ * {@link TimerStall} and reported once, followed by a single catch-up tick
+ * instead of one tick per missed second. Wall-clock time that passed while
+ * the machine was suspended is recorded against the current session.
+ * 
+ * Once {@link #enableLatencyStats()} is called, how late each tick and
+ * completion runs after its deadline is kept in latency histograms,
+ * available with the per-listener dispatch times from
+ * {@link #getLatencyStats()}. The histograms are not allocated before then,
+ * so timers that nobody measures stay small.
+ * 
  * @author Miles Baack
  * @version 1.0
  * @see com.focusflow.core.timer.Timer
  * @see com.focusflow.core.timer.TimerEventListener
  */
 public class PomodoroTimer implements Timer {
-    private final List<TimerEventListener> listeners = new ArrayList<>();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long STALL_THRESHOLD_NANOS = 2 * NANOS_PER_SECOND;
+    private static final AtomicReferenceFieldUpdater<PomodoroTimer, Lateness> LATENESS =
+        AtomicReferenceFieldUpdater.newUpdater(PomodoroTimer.class, Lateness.class, "lateness");
+    
+    private final TimerListeners listeners = new TimerListeners(new AsyncTimerEventDispatcher());
     private final TimerType type;
     private final int duration;
-    private final AtomicInteger remainingSeconds;
-    private TimerState state = TimerState.INACTIVE;
-    private java.util.Timer internalTimer;
-    private long startTime;
-    private long pauseTime;
-    private long elapsedTime;
+    private final AtomicReference<Phase> phase;
+    private final AtomicReference<Wakeup> wakeup = new AtomicReference<>();
+    private final List<TimerStall> stalls = new CopyOnWriteArrayList<>();
+    // Null until latency stats are enabled
+    private volatile Lateness lateness;
+    private final TimerScheduler scheduler;
     private final SessionManager sessionManager;
+    // Published for threads other than the one that owns the session manager
+    private volatile FocusSession lastWorkSession;
     private String currentTaskId;
+    private volatile TimerStore store;
+    private volatile String timerId;
     
     /**
      * Creates a new PomodoroTimer with the specified type.
@@ -56,10 +99,89 @@ public class PomodoroTimer implements Timer {
      * @param duration the duration in seconds
      */
     public PomodoroTimer(TimerType type, int duration) {
+        this(type, duration, TimerScheduler.shared());
+    }
+    
+    /**
+     * Creates a new PomodoroTimer driven by the given scheduler.
+     * 
+     * @param type the type of timer to create
+     * @param duration the duration in seconds
+     * @param scheduler the scheduler that fires the timer's ticks
+     */
+    public PomodoroTimer(TimerType type, int duration, TimerScheduler scheduler) {
+        if (scheduler == null) {
+            throw new IllegalArgumentException("Scheduler cannot be null");
+        }
         this.type = type;
         this.duration = duration;
-        this.remainingSeconds = new AtomicInteger(duration);
-        this.sessionManager = new SessionManager();
+        this.phase = new AtomicReference<>(Phase.halted(TimerState.INACTIVE, duration * NANOS_PER_SECOND, 0));
+        this.sessionManager = new SessionManager(SessionManager.HistoryStorage.OBJECTS, scheduler.clock());
+        this.scheduler = scheduler;
+    }
+    
+    /**
+     * Recreates a timer from its persisted record. A running timer resumes
+     * counting towards its original wall-clock deadline, so time that passed
+     * while the process was down is not lost; a paused timer keeps its
+     * remaining time. A cycle is recreated as a {@link PomodoroCycle} at the
+     * recorded phase. A new session is opened for the task either way.
+     * 
+     * @param record the persisted timer
+     * @param scheduler the scheduler to register the timer's deadline with
+     * @return the restored timer
+     */
+    public static PomodoroTimer restore(TimerRecord record, TimerScheduler scheduler) {
+        TimerRecord.Cycle cycle = record.getCycle();
+        PomodoroTimer timer = cycle == null
+            ? new PomodoroTimer(record.getType(), record.getDurationSeconds(), scheduler)
+            : new PomodoroCycle(cycle.getWorkSessions(), cycle.getWorkSeconds(), cycle.getShortBreakSeconds(),
+                cycle.getLongBreakSeconds(), scheduler);
+        timer.setCurrentTaskId(record.getTaskId());
+        
+        long remaining = record.remainingMillisAt(scheduler.currentTimeMillis()) * NANOS_PER_MILLI;
+        Phase restored = record.getState() == TimerState.RUNNING
+            ? Phase.running(scheduler.nanoTime() + remaining, record.getSegment())
+            : Phase.halted(TimerState.PAUSED, remaining, record.getSegment());
+        timer.phase.set(restored);
+        // Opened once the phase is set, so the session takes the segment's type
+        if (record.getTaskId() != null) {
+            timer.openSession();
+        }
+        if (restored.state == TimerState.RUNNING) {
+            timer.scheduleNextTick(restored, toWholeSeconds(remaining));
+        }
+        return timer;
+    }
+    
+    /**
+     * Persists this timer to the given store. From now on every start, pause,
+     * resume and stop is recorded, and the record is removed once the timer
+     * completes, stops or is reset.
+     * 
+     * @param store the store to persist to
+     * @param timerId the unique ID to store the timer under
+     */
+    public void enablePersistence(TimerStore store, String timerId) {
+        if (store == null || timerId == null || timerId.isEmpty()) {
+            throw new IllegalArgumentException("Store and timer ID are required");
+        }
+        attachStore(store, timerId);
+        persist();
+    }
+    
+    /**
+     * Gets the ID this timer is persisted under.
+     * 
+     * @return the timer ID, or null if persistence is not enabled
+     */
+    public String getTimerId() {
+        return timerId;
+    }
+    
+    void attachStore(TimerStore store, String timerId) {
+        this.timerId = timerId;
+        this.store = store;
     }
     
     /**
@@ -71,138 +193,327 @@ public class PomodoroTimer implements Timer {
         this.currentTaskId = taskId;
     }
     
+    /**
+     * Replaces the dispatcher used to deliver events to listeners.
+     * 
+     * @param dispatcher the dispatcher to deliver events through
+     */
+    public void setEventDispatcher(TimerEventDispatcher dispatcher) {
+        listeners.setDispatcher(dispatcher);
+        if (lateness != null) {
+            dispatcher.enableLatencyStats();
+        }
+    }
+    
+    /**
+     * Gets the dispatcher used to deliver events to listeners.
+     * 
+     * @return the current event dispatcher
+     */
+    public TimerEventDispatcher getEventDispatcher() {
+        return listeners.getDispatcher();
+    }
+    
     @Override
     public void start() {
-        if (state == TimerState.RUNNING) {
-            return;
-        }
-        
-        if (state == TimerState.PAUSED) {
-            resume();
+        while (true) {
+            Phase current = awaitSettled();
+            if (current.state == TimerState.RUNNING) {
+                return;
+            }
+            
+            if (current.state == TimerState.PAUSED) {
+                resume();
+                return;
+            }
+            
+            // A completed timer starts over from its first segment
+            int segment = current.state == TimerState.COMPLETED ? 0 : current.segment;
+            long remaining = current.state == TimerState.COMPLETED ? segmentDurationNanos(0) : current.remainingNanos;
+            Phase opening = Phase.opening(scheduler.nanoTime() + remaining, segment);
+            if (!transition(current, opening)) {
+                continue;
+            }
+            
+            // Start new session while other transitions wait for the opening phase to settle
+            try {
+                openSession();
+            } catch (RuntimeException e) {
+                phase.set(current);
+                throw e;
+            }
+            
+            Phase running = Phase.running(opening.deadlineNanos, segment);
+            phase.set(running);
+            scheduleNextTick(running, toWholeSeconds(remaining));
+            persist();
+            
+            notifyStarted();
             return;
         }
-        
-        state = TimerState.RUNNING;
-        startTime = System.currentTimeMillis();
-        internalTimer = new java.util.Timer();
-        
-        // Start new session
-        sessionManager.startSession(currentTaskId);
-        
-        internalTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                int remaining = remainingSeconds.decrementAndGet();
-                notifyTick(remaining);
-                
-                if (remaining <= 0) {
-                    complete();
-                }
-            }
-        }, 0, 1000);
-        
-        notifyStarted();
     }
     
     @Override
     public void pause() {
-        if (state != TimerState.RUNNING) {
-            return;
+        while (true) {
+            Phase current = awaitSettled();
+            if (current.state != TimerState.RUNNING) {
+                return;
+            }
+            
+            Phase paused = Phase.halted(TimerState.PAUSED, remainingAt(current), current.segment);
+            if (transition(current, paused)) {
+                cancelWakeup();
+                persist();
+                notifyPaused();
+                return;
+            }
         }
-        
-        state = TimerState.PAUSED;
-        pauseTime = System.currentTimeMillis();
-        internalTimer.cancel();
-        internalTimer = null;
-        
-        notifyPaused();
     }
     
     @Override
     public void resume() {
-        if (state != TimerState.PAUSED) {
-            return;
-        }
-        
-        state = TimerState.RUNNING;
-        long pauseDuration = System.currentTimeMillis() - pauseTime;
-        startTime += pauseDuration;
-        
-        internalTimer = new java.util.Timer();
-        internalTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                int remaining = remainingSeconds.decrementAndGet();
-                notifyTick(remaining);
-                
-                if (remaining <= 0) {
-                    complete();
-                }
+        while (true) {
+            Phase current = awaitSettled();
+            if (current.state != TimerState.PAUSED) {
+                return;
             }
-        }, 0, 1000);
-        
-        notifyResumed();
+            
+            Phase running = Phase.running(scheduler.nanoTime() + current.remainingNanos, current.segment);
+            if (transition(current, running)) {
+                scheduleNextTick(running, toWholeSeconds(current.remainingNanos));
+                persist();
+                notifyResumed();
+                return;
+            }
+        }
     }
     
     @Override
     public void stop() {
-        if (state == TimerState.INACTIVE || state == TimerState.STOPPED) {
-            return;
-        }
-        
-        state = TimerState.STOPPED;
-        if (internalTimer != null) {
-            internalTimer.cancel();
-            internalTimer = null;
+        while (true) {
+            Phase current = awaitSettled();
+            if (current.state != TimerState.RUNNING && current.state != TimerState.PAUSED) {
+                return;
+            }
+            
+            Phase stopped = Phase.halted(TimerState.STOPPED, remainingAt(current), current.segment);
+            if (transition(current, stopped)) {
+                cancelWakeup();
+                persist();
+                
+                // End current session
+                closeSession();
+                
+                notifyStopped();
+                return;
+            }
         }
-        
-        // End current session
-        sessionManager.endCurrentSession();
-        
-        notifyStopped();
     }
     
     @Override
     public void reset() {
-        stop();
-        state = TimerState.INACTIVE;
-        remainingSeconds.set(duration);
-        elapsedTime = 0;
-        
-        notifyReset();
+        while (true) {
+            stop();
+            Phase current = awaitSettled();
+            if (current.state == TimerState.RUNNING || current.state == TimerState.PAUSED) {
+                // Restarted concurrently; stop it again
+                continue;
+            }
+            
+            if (current.state == TimerState.INACTIVE
+                    || transition(current, Phase.halted(TimerState.INACTIVE, segmentDurationNanos(0), 0))) {
+                stalls.clear();
+                notifyReset();
+                return;
+            }
+        }
     }
     
     @Override
     public long getElapsedTime() {
-        if (state == TimerState.INACTIVE) {
+        Phase current = phase.get();
+        if (current.state == TimerState.INACTIVE) {
             return 0;
         }
         
-        if (state == TimerState.PAUSED) {
-            return pauseTime - startTime;
-        }
-        
-        return System.currentTimeMillis() - startTime;
+        return (segmentDurationNanos(current.segment) - remainingAt(current)) / NANOS_PER_MILLI;
     }
     
     @Override
     public int getRemainingTime() {
-        return remainingSeconds.get();
+        return toWholeSeconds(remainingAt(phase.get()));
+    }
+    
+    /**
+     * Gets the stalls and clock jumps detected since the timer was created
+     * or last reset.
+     * 
+     * @return an unmodifiable list of the detected stalls, oldest first
+     */
+    public List<TimerStall> getStalls() {
+        return List.copyOf(stalls);
+    }
+    
+    /**
+     * Starts keeping latency histograms for this timer's ticks and
+     * completions, and for its listeners' event delivery. Calling it again
+     * has no effect.
+     */
+    public void enableLatencyStats() {
+        LATENESS.compareAndSet(this, null, new Lateness());
+        getEventDispatcher().enableLatencyStats();
+    }
+    
+    /**
+     * Gets the precision statistics of this timer: how late ticks and
+     * completions ran, and how long each listener's events took to deliver.
+     * The histograms are empty unless latency stats are enabled.
+     * 
+     * @return a snapshot of the latency statistics
+     */
+    public TimerLatencyStats getLatencyStats() {
+        Lateness recorded = lateness;
+        return new TimerLatencyStats(
+            recorded == null ? LatencySnapshot.EMPTY : recorded.ticks.snapshot(),
+            recorded == null ? LatencySnapshot.EMPTY : recorded.completions.snapshot(),
+            getEventDispatcher().getStats());
     }
     
     @Override
     public TimerState getState() {
-        return state;
+        return phase.get().state;
     }
     
     @Override
     public TimerType getType() {
+        return getSegmentType(phase.get().segment);
+    }
+    
+    /**
+     * Returns the number of back-to-back segments this timer counts down.
+     * A plain timer has one; subclasses such as {@link PomodoroCycle} chain
+     * several, each starting at the previous one's deadline.
+     * 
+     * @return the number of segments
+     */
+    protected int getSegmentCount() {
+        return 1;
+    }
+    
+    /**
+     * Returns the timer type of a segment.
+     * 
+     * @param segment the zero-based segment index
+     * @return the type of the segment
+     */
+    protected TimerType getSegmentType(int segment) {
         return type;
     }
     
+    /**
+     * Returns the duration of a segment.
+     * 
+     * @param segment the zero-based segment index
+     * @return the duration of the segment in seconds
+     */
+    protected int getSegmentDuration(int segment) {
+        return duration;
+    }
+    
+    /**
+     * Returns the shape persisted with this timer's record, so that it can
+     * be restored as the same kind of timer.
+     * 
+     * @return the cycle shape, or null for a single timer
+     */
+    protected TimerRecord.Cycle getCycleShape() {
+        return null;
+    }
+    
+    /**
+     * Opens the focus session for a segment that starts running, recorded
+     * with the segment's timer type. Called once per start and per segment,
+     * by the thread that won the transition.
+     */
+    protected void openSession() {
+        FocusSession session = sessionManager.startSession(currentTaskId, getType());
+        if (!session.getTimerType().isBreak()) {
+            lastWorkSession = session;
+        }
+    }
+    
+    /**
+     * Closes the focus session of a segment that stopped or completed.
+     * Called once per opened session, by the thread that won the transition.
+     */
+    protected void closeSession() {
+        sessionManager.endCurrentSession();
+    }
+    
+    /**
+     * Gets the session manager that records this timer's sessions, one per
+     * segment. It is not thread-safe: read it from a listener delivered
+     * synchronously, or while the timer is not running.
+     * 
+     * @return the timer's session manager
+     */
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+    
+    /**
+     * Drains the distractions captured during the most recent work segment.
+     * Unlike the session manager, this is safe to call from any thread,
+     * including listeners on the asynchronous dispatcher.
+     * 
+     * @return the distractions captured since the last drain, in capture order
+     */
+    public List<Distraction> drainDistractions() {
+        FocusSession session = lastWorkSession;
+        return session == null ? List.of() : session.drainDistractions();
+    }
+    
+    /**
+     * Records wall-clock time that passed while the machine was suspended
+     * against the open focus session, so it does not count as focus time.
+     * 
+     * @param seconds the suspended time in seconds
+     */
+    protected void recordSuspension(long seconds) {
+        sessionManager.getCurrentSession()
+            .filter(session -> !session.isCompleted())
+            .ifPresent(session -> session.recordSuspension(seconds));
+    }
+    
+    /**
+     * Returns the index of the segment currently counting down.
+     * 
+     * @return the zero-based segment index
+     */
+    protected int getCurrentSegment() {
+        return phase.get().segment;
+    }
+    
     @Override
     public void addListener(TimerEventListener listener) {
-        listeners.add(listener);
+        addListener(listener, TickResolution.everyTick());
+    }
+    
+    @Override
+    public void addListener(TimerEventListener listener, TickResolution resolution) {
+        listeners.add(listener, resolution);
+        
+        // The pending wakeup may have been planned without this listener's ticks
+        Wakeup planned = wakeup.get();
+        Phase current = phase.get();
+        if (planned != null && planned.phase == current && current.state == TimerState.RUNNING) {
+            Wakeup replanned = newWakeup(current, toWholeSeconds(remainingAt(current)));
+            if (wakeup.compareAndSet(planned, replanned)) {
+                planned.cancel();
+                replanned.register();
+            }
+        }
     }
     
     @Override
@@ -210,59 +521,348 @@ public class PomodoroTimer implements Timer {
         listeners.remove(listener);
     }
     
-    private void complete() {
-        state = TimerState.COMPLETED;
-        if (internalTimer != null) {
-            internalTimer.cancel();
-            internalTimer = null;
+    /**
+     * Returns the latest upcoming tick the timer has to wake up for. By
+     * default these are the ticks the listeners' resolutions accept.
+     * 
+     * @param remainingSeconds the remaining time to search down from
+     * @return the next wanted remaining time, or -1 if nothing wants a tick
+     */
+    protected int nextTickAtOrBelow(int remainingSeconds) {
+        return listeners.nextTickAtOrBelow(remainingSeconds);
+    }
+    
+    /**
+     * Delivers a tick to the listeners whose resolution accepts it. Called on
+     * the thread that ran the wakeup, which must not run listener code.
+     * 
+     * @param remainingSeconds the remaining time of the tick
+     */
+    protected void deliverTick(int remainingSeconds) {
+        listeners.tick(this, remainingSeconds);
+    }
+    
+    /**
+     * Atomically moves from one phase to the next, enforcing the
+     * {@link TimerState} transition table.
+     */
+    private boolean transition(Phase expected, Phase next) {
+        if (!expected.state.canTransitionTo(next.state)) {
+            throw new IllegalStateException("Illegal timer transition " + expected.state + " -> " + next.state);
+        }
+        return phase.compareAndSet(expected, next);
+    }
+    
+    /**
+     * Returns the current phase once it is no longer the short-lived opening
+     * phase published by {@link #start()} while the session is created.
+     */
+    private Phase awaitSettled() {
+        Phase current = phase.get();
+        while (current.opening) {
+            Thread.onSpinWait();
+            current = phase.get();
+        }
+        return current;
+    }
+    
+    private long remainingAt(Phase current) {
+        if (current.state == TimerState.RUNNING) {
+            return Math.max(0, current.deadlineNanos - scheduler.nanoTime());
+        }
+        return current.remainingNanos;
+    }
+    
+    /**
+     * Writes the current phase to the store, if persistence is enabled. Only
+     * running and paused timers are kept; any other state removes the record.
+     * Reading the phase under the store's lock keeps racing transitions from
+     * persisting out of order.
+     */
+    private void persist() {
+        TimerStore target = store;
+        if (target == null) {
+            return;
+        }
+        try {
+            synchronized (target) {
+                Phase current = phase.get();
+                TimerType segmentType = getSegmentType(current.segment);
+                int segmentDuration = getSegmentDuration(current.segment);
+                if (current.state == TimerState.RUNNING) {
+                    long deadline = scheduler.currentTimeMillis() + remainingAt(current) / NANOS_PER_MILLI;
+                    target.put(new TimerRecord(timerId, segmentType, segmentDuration, currentTaskId,
+                        TimerState.RUNNING, deadline, 0, current.segment, getCycleShape()));
+                } else if (current.state == TimerState.PAUSED) {
+                    target.put(new TimerRecord(timerId, segmentType, segmentDuration, currentTaskId,
+                        TimerState.PAUSED, 0, current.remainingNanos / NANOS_PER_MILLI, current.segment,
+                        getCycleShape()));
+                } else {
+                    target.remove(timerId);
+                }
+            }
+        } catch (UncheckedIOException | IllegalStateException e) {
+            System.err.println("Error persisting timer " + timerId + ": " + e.getMessage());
+        }
+    }
+    
+    private long segmentDurationNanos(int segment) {
+        return getSegmentDuration(segment) * NANOS_PER_SECOND;
+    }
+    
+    private static int toWholeSeconds(long nanos) {
+        return (int) ((nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+    
+    /**
+     * Registers the next whole-second boundary below {@code remainingSeconds}
+     * for the given running phase.
+     */
+    private void scheduleNextTick(Phase running, int remainingSeconds) {
+        Wakeup next = newWakeup(running, remainingSeconds);
+        Wakeup previous = wakeup.getAndSet(next);
+        if (previous != null) {
+            previous.cancel();
+        }
+        // A transition may have won the race while the wakeup was being published
+        if (phase.get() != running && wakeup.compareAndSet(next, null)) {
+            return;
+        }
+        next.register();
+    }
+    
+    /**
+     * Creates a wakeup at the next whole-second boundary below
+     * {@code remainingSeconds} that some listener wants a tick for. Boundaries
+     * nobody subscribed to are skipped, and the final boundary is always the
+     * deadline itself. The wakeup is registered with the scheduler only
+     * once it has been published, since a wakeup that is already due can run
+     * right away and is dropped unless it is the published one.
+     */
+    private Wakeup newWakeup(Phase running, int remainingSeconds) {
+        int nextTick = Math.max(0, nextTickAtOrBelow(remainingSeconds - 1));
+        return new Wakeup(running, nextTick, running.deadlineNanos - (long) nextTick * NANOS_PER_SECOND);
+    }
+    
+    private void cancelWakeup() {
+        Wakeup previous = wakeup.getAndSet(null);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+    
+    private void onWakeup(Wakeup fired) {
+        Phase running = fired.phase;
+        if (phase.get() != running || wakeup.get() != fired) {
+            // Superseded by a transition or a replanned wakeup
+            return;
         }
-        elapsedTime = duration * 1000;
         
-        // End current session
-        sessionManager.endCurrentSession();
+        long now = scheduler.nanoTime();
+        int remaining = toWholeSeconds(Math.max(0, running.deadlineNanos - now));
+        Lateness recorded = lateness;
+        if (recorded != null) {
+            (remaining > 0 ? recorded.ticks : recorded.completions).record(now - fired.deadlineNanos);
+        }
+        detectStall(fired, now, remaining);
+        if (remaining > 0) {
+            // Re-arm before notifying so a slow listener cannot shift the schedule
+            Wakeup next = newWakeup(running, remaining);
+            if (!wakeup.compareAndSet(fired, next)) {
+                return;
+            }
+            next.register();
+            notifyTick(remaining);
+            return;
+        }
         
-        notifyCompleted();
+        wakeup.compareAndSet(fired, null);
+        int nextSegment = running.segment + 1;
+        if (nextSegment < getSegmentCount()) {
+            advance(running, nextSegment);
+            return;
+        }
+        
+        Phase completed = Phase.halted(TimerState.COMPLETED, 0, running.segment);
+        if (transition(running, completed)) {
+            persist();
+            notifyTick(0);
+            
+            // End current session
+            closeSession();
+            
+            notifyCompleted();
+        }
     }
     
-    private void notifyStarted() {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerStarted(this);
+    /**
+     * Compares the time a wakeup fired with the time it was planned for, on
+     * both the monotonic and the wall clock. Anything beyond the stall
+     * threshold is recorded and reported; the regular tick that follows
+     * serves as the single catch-up tick.
+     */
+    private void detectStall(Wakeup fired, long now, int remaining) {
+        long lateNanos = now - fired.deadlineNanos;
+        long skewMillis = (scheduler.currentTimeMillis() - fired.plannedAtMillis)
+            - (now - fired.plannedAtNanos) / NANOS_PER_MILLI;
+        boolean clockJump = Math.abs(skewMillis) * NANOS_PER_MILLI > STALL_THRESHOLD_NANOS;
+        if (!clockJump && lateNanos <= STALL_THRESHOLD_NANOS) {
+            return;
+        }
+        
+        TimerStall stall = new TimerStall(
+            clockJump ? TimerStall.Kind.CLOCK_JUMP : TimerStall.Kind.LATE_WAKEUP,
+            scheduler.currentTimeMillis(),
+            Math.max(0, lateNanos / NANOS_PER_MILLI),
+            skewMillis,
+            Math.max(0, fired.tick - remaining),
+            remaining);
+        stalls.add(stall);
+        if (clockJump && skewMillis > 0) {
+            recordSuspension(skewMillis / 1000);
         }
+        // The persisted wall-clock deadline is stale after a clock jump
+        persist();
+        listeners.dispatch(new TimerEvent(this, stall));
+    }
+    
+    private void notifyStarted() {
+        listeners.dispatch(this, TimerEvent.Kind.STARTED, getRemainingTime());
     }
     
     private void notifyPaused() {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerPaused(this);
-        }
+        listeners.dispatch(this, TimerEvent.Kind.PAUSED, getRemainingTime());
     }
     
     private void notifyResumed() {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerResumed(this);
-        }
+        listeners.dispatch(this, TimerEvent.Kind.RESUMED, getRemainingTime());
     }
     
     private void notifyCompleted() {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerCompleted(this);
-        }
+        listeners.dispatch(this, TimerEvent.Kind.COMPLETED, getRemainingTime());
     }
     
     private void notifyStopped() {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerStopped(this);
-        }
+        listeners.dispatch(this, TimerEvent.Kind.STOPPED, getRemainingTime());
     }
     
     private void notifyTick(int remainingSeconds) {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerTick(this, remainingSeconds);
-        }
+        deliverTick(remainingSeconds);
     }
     
     private void notifyReset() {
-        for (TimerEventListener listener : listeners) {
-            listener.onTimerReset(this);
+        listeners.dispatch(this, TimerEvent.Kind.RESET, getRemainingTime());
+    }
+    
+    /**
+     * Moves from a finished segment straight into the next one. The next
+     * deadline is derived from the previous deadline rather than the clock,
+     * so lateness in one segment does not push back the rest of the chain.
+     * Listeners see the finished segment complete and the next one start.
+     */
+    private void advance(Phase finished, int nextSegment) {
+        long deadline = finished.deadlineNanos + segmentDurationNanos(nextSegment);
+        Phase opening = Phase.opening(deadline, nextSegment);
+        // RUNNING to RUNNING is a segment change, not a state change, so the transition table does not apply
+        if (!phase.compareAndSet(finished, opening)) {
+            return;
+        }
+        
+        notifyTick(0);
+        closeSession();
+        try {
+            openSession();
+        } finally {
+            Phase running = Phase.running(deadline, nextSegment);
+            phase.set(running);
+            scheduleNextTick(running, toWholeSeconds(remainingAt(running)));
+            persist();
+        }
+        
+        notifyCompleted();
+        notifyStarted();
+    }
+    
+    /**
+     * Immutable snapshot of the timer state. While running the countdown is
+     * an absolute deadline; otherwise it is the remaining time.
+     */
+    private static final class Phase {
+        private final TimerState state;
+        private final long deadlineNanos;
+        private final long remainingNanos;
+        private final int segment;
+        // Set while a session is being opened; other transitions wait for it
+        private final boolean opening;
+        
+        private Phase(TimerState state, long deadlineNanos, long remainingNanos, int segment, boolean opening) {
+            this.state = state;
+            this.deadlineNanos = deadlineNanos;
+            this.remainingNanos = remainingNanos;
+            this.segment = segment;
+            this.opening = opening;
+        }
+        
+        static Phase opening(long deadlineNanos, int segment) {
+            return new Phase(TimerState.RUNNING, deadlineNanos, 0, segment, true);
+        }
+        
+        static Phase running(long deadlineNanos, int segment) {
+            return new Phase(TimerState.RUNNING, deadlineNanos, 0, segment, false);
+        }
+        
+        static Phase halted(TimerState state, long remainingNanos, int segment) {
+            return new Phase(state, 0, remainingNanos, segment, false);
+        }
+    }
+    
+    /**
+     * How late ticks and completions ran, kept once latency stats are enabled.
+     */
+    private static final class Lateness {
+        private final LatencyHistogram ticks = new LatencyHistogram();
+        private final LatencyHistogram completions = new LatencyHistogram();
+    }
+    
+    /**
+     * A scheduler registration bound to the running phase it was planned for.
+     */
+    private final class Wakeup implements Runnable {
+        private final Phase phase;
+        private final int tick;
+        private final long deadlineNanos;
+        private final long plannedAtNanos;
+        private final long plannedAtMillis;
+        private volatile TimerScheduler.Registration registration;
+        private volatile boolean cancelled;
+        
+        Wakeup(Phase phase, int tick, long deadlineNanos) {
+            this.phase = phase;
+            this.tick = tick;
+            this.deadlineNanos = deadlineNanos;
+            this.plannedAtNanos = scheduler.nanoTime();
+            this.plannedAtMillis = scheduler.currentTimeMillis();
+        }
+        
+        @Override
+        public void run() {
+            onWakeup(this);
+        }
+        
+        void register() {
+            registration = scheduler.schedule(this, deadlineNanos);
+            // Cancelled while being registered
+            if (cancelled) {
+                registration.cancel();
+            }
+        }
+        
+        void cancel() {
+            cancelled = true;
+            TimerScheduler.Registration current = registration;
+            if (current != null) {
+                current.cancel();
+            }
         }
     }
 }
\ No newline at end of file
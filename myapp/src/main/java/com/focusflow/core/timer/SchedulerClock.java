@@ -0,0 +1,43 @@
+package com.focusflow.core.timer;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Clock that reads a scheduler's wall-clock time, so sessions recorded by
+ * timers on a {@link VirtualTimeScheduler} carry simulated timestamps.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerScheduler#clock()
+ */
+final class SchedulerClock extends Clock {
+    private final TimerScheduler scheduler;
+    private final ZoneId zone;
+
+    SchedulerClock(TimerScheduler scheduler, ZoneId zone) {
+        this.scheduler = scheduler;
+        this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new SchedulerClock(scheduler, zone);
+    }
+
+    @Override
+    public long millis() {
+        return scheduler.currentTimeMillis();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+}
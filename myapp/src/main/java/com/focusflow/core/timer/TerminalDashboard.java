@@ -0,0 +1,312 @@
+package com.focusflow.core.timer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-place terminal view of many timers at once.
+ *
+ * Instead of printing a line per tick per timer like
+ * {@link ConsoleTimerListener}, the dashboard subscribes to state changes
+ * only and renders all tracked timers into one frame, which it redraws over
+ * the previous frame using ANSI cursor control. Frames are rendered at most
+ * at the configured frame rate, only while something changed, and each frame
+ * reaches the terminal as a single write and flush on one buffered channel,
+ * so console output stays cheap with hundreds of timers.
+ *
+ * Technical Notes:
+ * - Frames are driven by a {@link TimerScheduler}, not by timer ticks
+ * - A frame identical to the previous one is not written at all
+ * - Rows beyond the configured maximum are summarised in one line
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.ConsoleTimerListener
+ */
+public class TerminalDashboard implements Closeable {
+    private static final String ESC = "\u001b[";
+    private static final String CLEAR_LINE = ESC + "2K";
+    private static final String CLEAR_BELOW = ESC + "J";
+    private static final int DEFAULT_FRAMES_PER_SECOND = 4;
+    private static final int DEFAULT_MAX_ROWS = 40;
+    private static final int BAR_WIDTH = 20;
+
+    private final List<Row> rows = new CopyOnWriteArrayList<>();
+    private final TimerEventListener stateListener = new StateListener();
+    private final TimerScheduler scheduler;
+    private final Writer out;
+    private final long frameIntervalNanos;
+    private final int maxRows;
+    private final StringBuilder frame = new StringBuilder();
+    private String lastFrame = "";
+    private int lastFrameLines;
+    private long lastFrameAt = Long.MIN_VALUE;
+    private TimerScheduler.Registration pendingFrame;
+    private long framesWritten;
+    private boolean closed;
+
+    /**
+     * Creates a dashboard on standard output with the shared scheduler, four
+     * frames per second and up to 40 timer rows.
+     */
+    public TerminalDashboard() {
+        this(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out),
+            StandardCharsets.UTF_8)), TimerScheduler.shared(), DEFAULT_FRAMES_PER_SECOND, DEFAULT_MAX_ROWS);
+    }
+
+    /**
+     * Creates a dashboard with the given output and settings.
+     *
+     * @param out the writer frames are written to; it is flushed once per frame but never closed
+     * @param scheduler the scheduler that drives frame rendering
+     * @param maxFramesPerSecond the maximum number of frames rendered per second
+     * @param maxRows the maximum number of timer rows shown
+     * @throws IllegalArgumentException if the writer or scheduler is null, or a limit is not positive
+     */
+    public TerminalDashboard(Writer out, TimerScheduler scheduler, int maxFramesPerSecond, int maxRows) {
+        if (out == null || scheduler == null) {
+            throw new IllegalArgumentException("Writer and scheduler cannot be null");
+        }
+        if (maxFramesPerSecond <= 0 || maxRows <= 0) {
+            throw new IllegalArgumentException("Frame rate and row limit must be positive");
+        }
+        this.out = out;
+        this.scheduler = scheduler;
+        this.frameIntervalNanos = TimeUnit.SECONDS.toNanos(1) / maxFramesPerSecond;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Starts showing a timer on the dashboard.
+     *
+     * @param timer the timer to show
+     * @param label the label shown next to the timer
+     * @throws IllegalArgumentException if the timer or label is null
+     */
+    public void track(Timer timer, String label) {
+        if (timer == null || label == null) {
+            throw new IllegalArgumentException("Timer and label cannot be null");
+        }
+        rows.add(new Row(timer, label));
+        timer.addListener(stateListener, TickResolution.stateChangesOnly());
+        requestFrame();
+    }
+
+    /**
+     * Stops showing a timer on the dashboard.
+     *
+     * @param timer the timer to remove
+     */
+    public void untrack(Timer timer) {
+        if (rows.removeIf(row -> row.timer == timer)) {
+            timer.removeListener(stateListener);
+            requestFrame();
+        }
+    }
+
+    /**
+     * Gets the number of timers on the dashboard.
+     *
+     * @return the tracked timer count
+     */
+    public int getTrackedCount() {
+        return rows.size();
+    }
+
+    /**
+     * Gets the number of frames written to the terminal so far.
+     *
+     * @return the written frame count
+     */
+    public synchronized long getFramesWritten() {
+        return framesWritten;
+    }
+
+    /**
+     * Renders a frame immediately, regardless of the frame rate.
+     */
+    public synchronized void render() {
+        if (closed) {
+            return;
+        }
+        lastFrameAt = scheduler.nanoTime();
+        String next = buildFrame();
+        if (next.equals(lastFrame)) {
+            return;
+        }
+
+        frame.setLength(0);
+        if (lastFrameLines > 0) {
+            // Move back to the first line of the previous frame
+            frame.append(ESC).append(lastFrameLines).append('F');
+        }
+        frame.append(next).append(CLEAR_BELOW);
+        try {
+            out.write(frame.toString());
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing timer dashboard: " + e.getMessage());
+        }
+        lastFrame = next;
+        lastFrameLines = countLines(next);
+        framesWritten++;
+    }
+
+    /**
+     * Renders a final frame and stops tracking all timers. The output
+     * writer is flushed but left open.
+     */
+    @Override
+    public void close() {
+        render();
+        synchronized (this) {
+            closed = true;
+            if (pendingFrame != null) {
+                pendingFrame.cancel();
+                pendingFrame = null;
+            }
+        }
+        for (Row row : rows) {
+            row.timer.removeListener(stateListener);
+        }
+        rows.clear();
+    }
+
+    /**
+     * Schedules the next frame no sooner than one frame interval after the
+     * previous one. Requests made while a frame is pending are coalesced
+     * into it.
+     */
+    private synchronized void requestFrame() {
+        if (closed || pendingFrame != null) {
+            return;
+        }
+        long earliest = lastFrameAt == Long.MIN_VALUE ? scheduler.nanoTime() : lastFrameAt + frameIntervalNanos;
+        pendingFrame = scheduler.schedule(this::onFrame, Math.max(scheduler.nanoTime(), earliest));
+    }
+
+    private void onFrame() {
+        synchronized (this) {
+            pendingFrame = null;
+        }
+        render();
+        // Keep redrawing while a countdown is visible
+        for (Row row : rows) {
+            if (row.timer.getState() == TimerState.RUNNING) {
+                requestFrame();
+                return;
+            }
+        }
+    }
+
+    private String buildFrame() {
+        int running = 0;
+        int paused = 0;
+        for (Row row : rows) {
+            TimerState state = row.timer.getState();
+            if (state == TimerState.RUNNING) {
+                running++;
+            } else if (state == TimerState.PAUSED) {
+                paused++;
+            }
+        }
+
+        StringBuilder text = new StringBuilder(64 * (Math.min(rows.size(), maxRows) + 2));
+        text.append(CLEAR_LINE).append("FocusFlow timers: ").append(rows.size()).append(" tracked, ")
+            .append(running).append(" running, ").append(paused).append(" paused\n");
+        int shown = 0;
+        for (Row row : rows) {
+            if (shown == maxRows) {
+                text.append(CLEAR_LINE).append("... and ").append(rows.size() - shown).append(" more\n");
+                break;
+            }
+            appendRow(text, row);
+            shown++;
+        }
+        return text.toString();
+    }
+
+    private static void appendRow(StringBuilder text, Row row) {
+        Timer timer = row.timer;
+        int remaining = timer.getRemainingTime();
+        long elapsedSeconds = timer.getElapsedTime() / 1000;
+        long total = elapsedSeconds + remaining;
+        int filled = total == 0 ? 0 : (int) (BAR_WIDTH * elapsedSeconds / total);
+
+        text.append(CLEAR_LINE).append(String.format("%-20.20s %-11s %-9s %02d:%02d [",
+            row.label, timer.getType(), timer.getState(), remaining / 60, remaining % 60));
+        for (int i = 0; i < BAR_WIDTH; i++) {
+            text.append(i < filled ? '#' : '.');
+        }
+        text.append("]\n");
+    }
+
+    private static int countLines(String text) {
+        int lines = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static final class Row {
+        private final Timer timer;
+        private final String label;
+
+        Row(Timer timer, String label) {
+            this.timer = timer;
+            this.label = label;
+        }
+    }
+
+    /**
+     * Requests a frame on every state change of a tracked timer.
+     */
+    private final class StateListener implements TimerEventListener {
+        @Override
+        public void onTimerStarted(Timer timer) {
+            requestFrame();
+        }
+
+        @Override
+        public void onTimerPaused(Timer timer) {
+            requestFrame();
+        }
+
+        @Override
+        public void onTimerResumed(Timer timer) {
+            requestFrame();
+        }
+
+        @Override
+        public void onTimerCompleted(Timer timer) {
+            requestFrame();
+        }
+
+        @Override
+        public void onTimerStopped(Timer timer) {
+            requestFrame();
+        }
+
+        @Override
+        public void onTimerTick(Timer timer, int remainingSeconds) {
+            // Subscribed to state changes only; the frame loop reads the remaining time itself
+        }
+
+        @Override
+        public void onTimerReset(Timer timer) {
+            requestFrame();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.focusflow.core.timer;
+
+/**
+ * The tick cadence a {@link TimerEventListener} subscribes to.
+ *
+ * State change events (start, pause, completion and so on) are always
+ * delivered. The resolution only controls which {@code onTimerTick} calls a
+ * listener receives, which lets timers skip tick dispatch, and the scheduler
+ * wakeups behind it, for listeners that do not need them.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.Timer#addListener(TimerEventListener, TickResolution)
+ */
+public final class TickResolution {
+    private static final int FINAL_MINUTE_SECONDS = 60;
+
+    private static final TickResolution EVERY_TICK = new TickResolution(1, Integer.MAX_VALUE);
+    private static final TickResolution STATE_CHANGES_ONLY = new TickResolution(0, -1);
+    private static final TickResolution FINAL_MINUTE = new TickResolution(1, FINAL_MINUTE_SECONDS);
+
+    private final int intervalSeconds;
+    private final int windowSeconds;
+
+    private TickResolution(int intervalSeconds, int windowSeconds) {
+        this.intervalSeconds = intervalSeconds;
+        this.windowSeconds = windowSeconds;
+    }
+
+    /**
+     * Subscribes to every one-second tick.
+     *
+     * @return the every-tick resolution
+     */
+    public static TickResolution everyTick() {
+        return EVERY_TICK;
+    }
+
+    /**
+     * Subscribes to ticks whose remaining time is a multiple of the interval.
+     *
+     * @param seconds the interval between delivered ticks in seconds
+     * @return a resolution delivering every {@code seconds} seconds
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public static TickResolution everySeconds(int seconds) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Tick interval must be positive");
+        }
+        return seconds == 1 ? EVERY_TICK : new TickResolution(seconds, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Subscribes to state changes only; no ticks are delivered.
+     *
+     * @return the state-changes-only resolution
+     */
+    public static TickResolution stateChangesOnly() {
+        return STATE_CHANGES_ONLY;
+    }
+
+    /**
+     * Subscribes to every tick during the last minute of the countdown.
+     *
+     * @return the final-minute resolution
+     */
+    public static TickResolution finalMinute() {
+        return FINAL_MINUTE;
+    }
+
+    /**
+     * Checks whether this resolution ever receives ticks.
+     *
+     * @return true if at least some ticks are delivered
+     */
+    public boolean receivesTicks() {
+        return windowSeconds >= 0;
+    }
+
+    /**
+     * Checks whether a tick with the given remaining time is delivered.
+     *
+     * @param remainingSeconds the remaining time of the tick
+     * @return true if the tick should be delivered
+     */
+    public boolean accepts(int remainingSeconds) {
+        return remainingSeconds <= windowSeconds && remainingSeconds % intervalSeconds == 0;
+    }
+
+    /**
+     * Returns the latest upcoming tick this resolution accepts, that is the
+     * largest accepted remaining time not above the given one.
+     *
+     * @param remainingSeconds the remaining time to search down from
+     * @return the next accepted remaining time, or -1 if there is none
+     */
+    public int nextTickAtOrBelow(int remainingSeconds) {
+        if (!receivesTicks() || remainingSeconds < 0) {
+            return -1;
+        }
+        int candidate = Math.min(remainingSeconds, windowSeconds);
+        return candidate - candidate % intervalSeconds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TickResolution)) {
+            return false;
+        }
+        TickResolution resolution = (TickResolution) other;
+        return intervalSeconds == resolution.intervalSeconds && windowSeconds == resolution.windowSeconds;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * intervalSeconds + windowSeconds;
+    }
+
+    @Override
+    public String toString() {
+        if (!receivesTicks()) {
+            return "TickResolution[stateChangesOnly]";
+        }
+        if (windowSeconds != Integer.MAX_VALUE) {
+            return "TickResolution[every " + intervalSeconds + "s, final " + windowSeconds + "s]";
+        }
+        return "TickResolution[every " + intervalSeconds + "s]";
+    }
+}
@@ -67,12 +67,21 @@ public interface Timer {
     TimerType getType();
     
     /**
-     * Adds a listener to be notified of timer events.
+     * Adds a listener to be notified of timer events, including every tick.
      * 
      * @param listener the listener to add
      */
     void addListener(TimerEventListener listener);
     
+    /**
+     * Adds a listener that only receives the ticks selected by the given
+     * resolution. State change events are always delivered.
+     * 
+     * @param listener the listener to add
+     * @param resolution the tick cadence the listener needs
+     */
+    void addListener(TimerEventListener listener, TickResolution resolution);
+    
     /**
      * Removes a listener from the timer.
      * 
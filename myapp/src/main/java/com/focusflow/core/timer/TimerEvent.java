@@ -0,0 +1,148 @@
+package com.focusflow.core.timer;
+
+/**
+ * A single timer event on its way to a {@link TimerEventListener}.
+ *
+ * Events are immutable, so one instance is shared by every listener the
+ * event is delivered to, and they can be queued and handed between threads
+ * by a {@link TimerEventDispatcher}.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerEventDispatcher
+ */
+public final class TimerEvent {
+    /**
+     * The kinds of timer events, one per {@link TimerEventListener} callback.
+     */
+    public enum Kind {
+        STARTED,
+        PAUSED,
+        RESUMED,
+        COMPLETED,
+        STOPPED,
+        TICK,
+        RESET,
+        STALLED
+    }
+
+    private final Kind kind;
+    private final Timer timer;
+    private final int remainingSeconds;
+    private final TimerStall stall;
+    private final long createdAtNanos = System.nanoTime();
+
+    /**
+     * Creates a new timer event.
+     *
+     * @param kind the kind of event
+     * @param timer the timer the event happened on
+     * @param remainingSeconds the remaining time when the event happened
+     */
+    public TimerEvent(Kind kind, Timer timer, int remainingSeconds) {
+        this.kind = kind;
+        this.timer = timer;
+        this.remainingSeconds = remainingSeconds;
+        this.stall = null;
+    }
+
+    /**
+     * Creates a new stall event.
+     *
+     * @param timer the timer that stalled
+     * @param stall the detected stall
+     */
+    public TimerEvent(Timer timer, TimerStall stall) {
+        this.kind = Kind.STALLED;
+        this.timer = timer;
+        this.remainingSeconds = stall.getRemainingSeconds();
+        this.stall = stall;
+    }
+
+    /**
+     * Gets the kind of this event.
+     *
+     * @return the event kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the timer this event happened on.
+     *
+     * @return the timer
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Gets the remaining time when the event happened.
+     *
+     * @return the remaining time in seconds
+     */
+    public int getRemainingSeconds() {
+        return remainingSeconds;
+    }
+
+    /**
+     * Gets the time this event was created, used to measure how long it
+     * waited before delivery.
+     *
+     * @return the creation time in {@link System#nanoTime()} units
+     */
+    public long getCreatedAtNanos() {
+        return createdAtNanos;
+    }
+
+    /**
+     * Gets the stall carried by a {@link Kind#STALLED} event.
+     *
+     * @return the stall, or null for other kinds of event
+     */
+    public TimerStall getStall() {
+        return stall;
+    }
+
+    /**
+     * Invokes the listener callback matching this event's kind.
+     *
+     * @param listener the listener to deliver to
+     */
+    public void deliverTo(TimerEventListener listener) {
+        switch (kind) {
+            case STARTED:
+                listener.onTimerStarted(timer);
+                break;
+            case PAUSED:
+                listener.onTimerPaused(timer);
+                break;
+            case RESUMED:
+                listener.onTimerResumed(timer);
+                break;
+            case COMPLETED:
+                listener.onTimerCompleted(timer);
+                break;
+            case STOPPED:
+                listener.onTimerStopped(timer);
+                break;
+            case TICK:
+                listener.onTimerTick(timer, remainingSeconds);
+                break;
+            case RESET:
+                listener.onTimerReset(timer);
+                break;
+            case STALLED:
+                listener.onTimerStalled(timer, stall);
+                break;
+            default:
+                throw new IllegalStateException("Unknown event kind: " + kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimerEvent[" + kind + ", remaining=" + remainingSeconds + "s]";
+    }
+}
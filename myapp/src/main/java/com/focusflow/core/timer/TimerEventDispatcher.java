@@ -0,0 +1,66 @@
+package com.focusflow.core.timer;
+
+import java.util.List;
+
+/**
+ * Strategy for delivering timer events to listeners.
+ *
+ * Timers hand every event to their dispatcher instead of calling listeners
+ * directly, which decides on which thread, and whether at all, the listener
+ * callback runs.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.AsyncTimerEventDispatcher
+ */
+public interface TimerEventDispatcher {
+    /**
+     * Delivers an event to a listener.
+     *
+     * @param listener the listener to deliver to
+     * @param event the event to deliver
+     */
+    void dispatch(TimerEventListener listener, TimerEvent event);
+
+    /**
+     * Releases any per-listener resources after the listener was removed.
+     *
+     * @param listener the removed listener
+     */
+    default void release(TimerEventListener listener) {
+    }
+
+    /**
+     * Returns a snapshot of the dispatch statistics of every listener.
+     *
+     * @return the per-listener statistics, empty if the dispatcher keeps none
+     */
+    default List<ListenerDispatchStats> getStats() {
+        return List.of();
+    }
+
+    /**
+     * Starts keeping queue delay and callback time histograms for each
+     * listener, if the dispatcher measures them at all. They are off by
+     * default because every histogram takes a couple of kilobytes.
+     */
+    default void enableLatencyStats() {
+    }
+
+    /**
+     * Returns a dispatcher that calls listeners directly on the thread that
+     * produced the event. Exceptions thrown by a listener are logged and do
+     * not prevent delivery to the remaining listeners.
+     *
+     * @return the synchronous dispatcher
+     */
+    static TimerEventDispatcher synchronous() {
+        return (listener, event) -> {
+            try {
+                event.deliverTo(listener);
+            } catch (RuntimeException e) {
+                System.err.println("Error notifying timer listener: " + e.getMessage());
+            }
+        };
+    }
+}
@@ -62,6 +62,16 @@ public interface TimerEventListener {
      */
     void onTimerReset(Timer timer);
     
+    /**
+     * Called when a running timer detects a stall or clock jump. The ticks
+     * missed during the stall are not replayed; a single catch-up tick with
+     * the current remaining time follows this callback.
+     * 
+     * @param timer the timer that stalled
+     * @param stall the detected stall
+     */
+    default void onTimerStalled(Timer timer, TimerStall stall) {}
+    
     /**
      * Base implementation that does nothing for all events.
      * Extend this class to override only the methods you need.
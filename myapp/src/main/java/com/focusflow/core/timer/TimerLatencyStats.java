@@ -0,0 +1,84 @@
+package com.focusflow.core.timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time precision statistics of one timer.
+ *
+ * Lateness is measured for every wakeup as the difference between the
+ * deadline it was scheduled for and the moment it actually ran, separately
+ * for ticks and for segment completions. The per-listener breakdown shows
+ * how long events waited in each listener's queue and how long its callbacks
+ * took, as far as the timer's dispatcher measures them. All histograms stay
+ * empty until {@link PomodoroTimer#enableLatencyStats()} is called.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.PomodoroTimer#getLatencyStats()
+ */
+public final class TimerLatencyStats {
+    private final LatencySnapshot tickLateness;
+    private final LatencySnapshot completionLateness;
+    private final List<ListenerDispatchStats> listenerStats;
+
+    TimerLatencyStats(LatencySnapshot tickLateness, LatencySnapshot completionLateness,
+                      List<ListenerDispatchStats> listenerStats) {
+        this.tickLateness = tickLateness;
+        this.completionLateness = completionLateness;
+        this.listenerStats = List.copyOf(listenerStats);
+    }
+
+    /**
+     * Gets how late tick wakeups ran after their scheduled deadline.
+     *
+     * @return the tick lateness histogram
+     */
+    public LatencySnapshot getTickLateness() {
+        return tickLateness;
+    }
+
+    /**
+     * Gets how late completions ran after the segment deadline.
+     *
+     * @return the completion lateness histogram
+     */
+    public LatencySnapshot getCompletionLateness() {
+        return completionLateness;
+    }
+
+    /**
+     * Gets the dispatch statistics of each listener, including queue delay
+     * and callback time histograms.
+     *
+     * @return the per-listener statistics, empty if the dispatcher keeps none
+     */
+    public List<ListenerDispatchStats> getListenerStats() {
+        return listenerStats;
+    }
+
+    /**
+     * Checks whether timer precision has degraded past a threshold: the 99th
+     * percentile of tick or completion lateness exceeds it.
+     *
+     * @param threshold the acceptable lateness
+     * @param unit the unit of the threshold
+     * @return true if either 99th percentile exceeds the threshold
+     */
+    public boolean isDegraded(long threshold, TimeUnit unit) {
+        long thresholdNanos = unit.toNanos(threshold);
+        return tickLateness.getP99Nanos() > thresholdNanos
+            || completionLateness.getP99Nanos() > thresholdNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("ticks: ").append(tickLateness)
+            .append("\ncompletions: ").append(completionLateness);
+        for (ListenerDispatchStats stats : listenerStats) {
+            builder.append('\n').append(stats);
+        }
+        return builder.toString();
+    }
+}
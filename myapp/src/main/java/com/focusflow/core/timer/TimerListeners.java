@@ -0,0 +1,179 @@
+package com.focusflow.core.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener registry shared by the timer implementations.
+ *
+ * Each listener is stored together with its {@link TickResolution}. Listeners
+ * that do not want ticks are kept out of the tick array entirely, so the
+ * per-second fan-out only touches interested subscribers. Registration copies
+ * the arrays, which is cheap because listeners change far less often than
+ * ticks fire.
+ *
+ * Callbacks are not invoked directly but handed to the configured
+ * {@link TimerEventDispatcher}.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ */
+final class TimerListeners {
+    private static final Subscription[] EMPTY = new Subscription[0];
+
+    private volatile Subscription[] all = EMPTY;
+    private volatile Subscription[] tickSubscribers = EMPTY;
+    private volatile TimerEventDispatcher dispatcher;
+
+    /**
+     * Creates an empty registry that delivers through the given dispatcher.
+     *
+     * @param dispatcher the dispatcher to deliver events through
+     */
+    TimerListeners(TimerEventDispatcher dispatcher) {
+        setDispatcher(dispatcher);
+    }
+
+    /**
+     * Replaces the dispatcher used for subsequent events.
+     *
+     * @param dispatcher the dispatcher to deliver events through
+     */
+    void setDispatcher(TimerEventDispatcher dispatcher) {
+        if (dispatcher == null) {
+            throw new IllegalArgumentException("Dispatcher cannot be null");
+        }
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Gets the dispatcher events are delivered through.
+     *
+     * @return the current dispatcher
+     */
+    TimerEventDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Adds a listener with the given tick resolution. Adding a listener that
+     * is already registered replaces its resolution.
+     *
+     * @param listener the listener to add
+     * @param resolution the ticks the listener wants
+     */
+    synchronized void add(TimerEventListener listener, TickResolution resolution) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (resolution == null) {
+            throw new IllegalArgumentException("Tick resolution cannot be null");
+        }
+        List<Subscription> updated = copyWithout(listener);
+        updated.add(new Subscription(listener, resolution));
+        publish(updated);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    synchronized void remove(TimerEventListener listener) {
+        publish(copyWithout(listener));
+        dispatcher.release(listener);
+    }
+
+    /**
+     * Delivers a state change event to every listener.
+     *
+     * @param timer the timer the event happened on
+     * @param kind the kind of event
+     * @param remainingSeconds the remaining time when the event happened
+     */
+    void dispatch(Timer timer, TimerEvent.Kind kind, int remainingSeconds) {
+        if (all.length > 0) {
+            dispatch(new TimerEvent(kind, timer, remainingSeconds));
+        }
+    }
+
+    /**
+     * Delivers a prepared event to every listener.
+     *
+     * @param event the event to deliver
+     */
+    void dispatch(TimerEvent event) {
+        Subscription[] subscriptions = all;
+        TimerEventDispatcher target = dispatcher;
+        for (Subscription subscription : subscriptions) {
+            target.dispatch(subscription.listener, event);
+        }
+    }
+
+    /**
+     * Delivers a tick to the listeners whose resolution accepts it.
+     *
+     * @param timer the timer that ticked
+     * @param remainingSeconds the remaining time of the tick
+     */
+    void tick(Timer timer, int remainingSeconds) {
+        TimerEvent event = null;
+        TimerEventDispatcher target = dispatcher;
+        for (Subscription subscription : tickSubscribers) {
+            if (subscription.resolution.accepts(remainingSeconds)) {
+                if (event == null) {
+                    event = new TimerEvent(TimerEvent.Kind.TICK, timer, remainingSeconds);
+                }
+                target.dispatch(subscription.listener, event);
+            }
+        }
+    }
+
+    /**
+     * Returns the latest upcoming tick any listener is interested in.
+     *
+     * @param remainingSeconds the remaining time to search down from
+     * @return the next wanted remaining time, or -1 if no listener wants one
+     */
+    int nextTickAtOrBelow(int remainingSeconds) {
+        int next = -1;
+        for (Subscription subscription : tickSubscribers) {
+            next = Math.max(next, subscription.resolution.nextTickAtOrBelow(remainingSeconds));
+            if (next == remainingSeconds) {
+                break;
+            }
+        }
+        return next;
+    }
+
+    private List<Subscription> copyWithout(TimerEventListener listener) {
+        List<Subscription> copy = new ArrayList<>(all.length + 1);
+        for (Subscription subscription : all) {
+            if (subscription.listener != listener) {
+                copy.add(subscription);
+            }
+        }
+        return copy;
+    }
+
+    private void publish(List<Subscription> subscriptions) {
+        List<Subscription> ticking = new ArrayList<>(subscriptions.size());
+        for (Subscription subscription : subscriptions) {
+            if (subscription.resolution.receivesTicks()) {
+                ticking.add(subscription);
+            }
+        }
+        tickSubscribers = ticking.toArray(EMPTY);
+        all = subscriptions.toArray(EMPTY);
+    }
+
+    private static final class Subscription {
+        private final TimerEventListener listener;
+        private final TickResolution resolution;
+
+        Subscription(TimerEventListener listener, TickResolution resolution) {
+            this.listener = listener;
+            this.resolution = resolution;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.focusflow.core.timer;
+
+/**
+ * Persisted form of a running or paused timer.
+ *
+ * Running timers are stored by their absolute wall-clock deadline, so the
+ * countdown keeps going while the process is down; paused timers are stored
+ * by their remaining time. A {@link PomodoroCycle} also records its shape
+ * and the index of the phase counting down, so it is restored as a cycle
+ * at that phase.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerStore
+ */
+public final class TimerRecord {
+    private final String timerId;
+    private final TimerType type;
+    private final int durationSeconds;
+    private final String taskId;
+    private final TimerState state;
+    private final long deadlineEpochMillis;
+    private final long remainingMillis;
+    private final int segment;
+    private final Cycle cycle;
+
+    /**
+     * Creates a new record of a single timer.
+     *
+     * @param timerId the unique ID of the timer
+     * @param type the timer type
+     * @param durationSeconds the full duration of the timer in seconds
+     * @param taskId the ID of the task being timed, or null
+     * @param state the state of the timer, either RUNNING or PAUSED
+     * @param deadlineEpochMillis the wall-clock deadline if running
+     * @param remainingMillis the remaining time if paused
+     * @throws IllegalArgumentException if the ID or type is missing, or the state is not RUNNING or PAUSED
+     */
+    public TimerRecord(String timerId, TimerType type, int durationSeconds, String taskId,
+                       TimerState state, long deadlineEpochMillis, long remainingMillis) {
+        this(timerId, type, durationSeconds, taskId, state, deadlineEpochMillis, remainingMillis, 0, null);
+    }
+
+    /**
+     * Creates a new timer record, for a cycle if the cycle shape is given.
+     *
+     * @param timerId the unique ID of the timer
+     * @param type the type of the current segment
+     * @param durationSeconds the full duration of the current segment in seconds
+     * @param taskId the ID of the task being timed, or null
+     * @param state the state of the timer, either RUNNING or PAUSED
+     * @param deadlineEpochMillis the wall-clock deadline of the current segment if running
+     * @param remainingMillis the remaining time of the current segment if paused
+     * @param segment the zero-based index of the current segment
+     * @param cycle the shape of the cycle, or null for a single timer
+     * @throws IllegalArgumentException if the ID or type is missing, the state is not RUNNING or PAUSED,
+     *         or the segment is out of range
+     */
+    public TimerRecord(String timerId, TimerType type, int durationSeconds, String taskId,
+                       TimerState state, long deadlineEpochMillis, long remainingMillis,
+                       int segment, Cycle cycle) {
+        if (timerId == null || timerId.isEmpty()) {
+            throw new IllegalArgumentException("Timer ID cannot be null or empty");
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Timer type cannot be null");
+        }
+        if (state != TimerState.RUNNING && state != TimerState.PAUSED) {
+            throw new IllegalArgumentException("Only running or paused timers can be persisted");
+        }
+        if (segment < 0 || segment >= (cycle == null ? 1 : cycle.getPhaseCount())) {
+            throw new IllegalArgumentException("Segment " + segment + " is out of range");
+        }
+        this.timerId = timerId;
+        this.type = type;
+        this.durationSeconds = durationSeconds;
+        this.taskId = taskId;
+        this.state = state;
+        this.deadlineEpochMillis = deadlineEpochMillis;
+        this.remainingMillis = remainingMillis;
+        this.segment = segment;
+        this.cycle = cycle;
+    }
+
+    /**
+     * Gets the unique ID of the timer.
+     *
+     * @return the timer ID
+     */
+    public String getTimerId() {
+        return timerId;
+    }
+
+    /**
+     * Gets the timer type.
+     *
+     * @return the timer type
+     */
+    public TimerType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the full duration of the timer.
+     *
+     * @return the duration in seconds
+     */
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * Gets the ID of the task being timed.
+     *
+     * @return the task ID, or null if none was set
+     */
+    public String getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * Gets the persisted state, either RUNNING or PAUSED.
+     *
+     * @return the timer state
+     */
+    public TimerState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the wall-clock deadline of a running timer.
+     *
+     * @return the deadline in epoch milliseconds
+     */
+    public long getDeadlineEpochMillis() {
+        return deadlineEpochMillis;
+    }
+
+    /**
+     * Gets the remaining time of a paused timer.
+     *
+     * @return the remaining time in milliseconds
+     */
+    public long getRemainingMillis() {
+        return remainingMillis;
+    }
+
+    /**
+     * Gets the index of the segment counting down, always 0 for a single
+     * timer.
+     *
+     * @return the zero-based segment index
+     */
+    public int getSegment() {
+        return segment;
+    }
+
+    /**
+     * Gets the shape of the cycle this record belongs to.
+     *
+     * @return the cycle shape, or null for a single timer
+     */
+    public Cycle getCycle() {
+        return cycle;
+    }
+
+    /**
+     * Computes the remaining time at the given wall-clock instant.
+     *
+     * @param nowEpochMillis the current time in epoch milliseconds
+     * @return the remaining time in milliseconds, never negative
+     */
+    public long remainingMillisAt(long nowEpochMillis) {
+        if (state == TimerState.RUNNING) {
+            return Math.max(0, deadlineEpochMillis - nowEpochMillis);
+        }
+        return Math.max(0, remainingMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "TimerRecord[" + timerId + ", " + type + ", " + state
+            + (cycle == null ? "" : ", phase " + segment + " of " + cycle.getPhaseCount()) + "]";
+    }
+
+    /**
+     * The shape of a {@link PomodoroCycle}, enough to plan its phases again.
+     */
+    public static final class Cycle {
+        private final int workSessions;
+        private final int workSeconds;
+        private final int shortBreakSeconds;
+        private final int longBreakSeconds;
+
+        /**
+         * Creates a cycle shape.
+         *
+         * @param workSessions the number of work sessions in the cycle
+         * @param workSeconds the duration of each work phase in seconds
+         * @param shortBreakSeconds the duration of each short break in seconds
+         * @param longBreakSeconds the duration of each long break in seconds
+         * @throws IllegalArgumentException if the number of work sessions is not positive
+         */
+        public Cycle(int workSessions, int workSeconds, int shortBreakSeconds, int longBreakSeconds) {
+            if (workSessions <= 0) {
+                throw new IllegalArgumentException("A cycle needs at least one work session");
+            }
+            this.workSessions = workSessions;
+            this.workSeconds = workSeconds;
+            this.shortBreakSeconds = shortBreakSeconds;
+            this.longBreakSeconds = longBreakSeconds;
+        }
+
+        /**
+         * Gets the number of work sessions in the cycle.
+         *
+         * @return the work session count
+         */
+        public int getWorkSessions() {
+            return workSessions;
+        }
+
+        /**
+         * Gets the duration of each work phase.
+         *
+         * @return the duration in seconds
+         */
+        public int getWorkSeconds() {
+            return workSeconds;
+        }
+
+        /**
+         * Gets the duration of each short break.
+         *
+         * @return the duration in seconds
+         */
+        public int getShortBreakSeconds() {
+            return shortBreakSeconds;
+        }
+
+        /**
+         * Gets the duration of each long break.
+         *
+         * @return the duration in seconds
+         */
+        public int getLongBreakSeconds() {
+            return longBreakSeconds;
+        }
+
+        /**
+         * Gets the number of phases, each work session followed by a break.
+         *
+         * @return the phase count
+         */
+        public int getPhaseCount() {
+            return workSessions * 2;
+        }
+    }
+}
@@ -0,0 +1,561 @@
+package com.focusflow.core.timer;
+
+import java.util.Arrays;
+
+/**
+ * Compact registry for very large numbers of concurrent timers.
+ *
+ * Where a {@link PomodoroTimer} is a full object with listeners, sessions
+ * and its own scheduler registration, a timer in the registry is just a slot
+ * in a set of primitive parallel arrays: deadline, duration, state, type,
+ * owner, generation and heap position, plus its share of the heap and free
+ * list, about 38 bytes per timer. Callers refer to timers
+ * by an opaque {@code long} handle that combines the slot with a generation
+ * counter, so a handle to a released timer is rejected instead of silently
+ * reaching whichever timer reuses its slot.
+ *
+ * Running timers are ordered in a binary min-heap of deadlines, and only the
+ * earliest deadline is registered with the {@link TimerScheduler}, rounded up
+ * to the next whole second of the scheduler's clock. When it fires, every
+ * timer that is due is popped in one pass and handed to the
+ * {@link ExpirationHandler} as a single {@link ExpiredTimers} batch, so
+ * thousands of timers expiring in the same second cost one wakeup and one
+ * callback, however their deadlines are spread within it.
+ *
+ * Technical Notes:
+ * - All operations are O(1) or O(log n) under a single lock
+ * - The expiration handler runs outside the lock, on the scheduler's thread
+ * - Expired timers keep their slot in the COMPLETED state until released
+ * - A timer expires up to a second after its deadline, never before it
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerScheduler
+ */
+public class TimerRegistry {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final TimerState[] STATES = TimerState.values();
+    private static final TimerType[] TYPES = TimerType.values();
+    private static final byte FREE = -1;
+
+    /**
+     * Receives batches of expired timers.
+     */
+    @FunctionalInterface
+    public interface ExpirationHandler {
+        /**
+         * Called once for every batch of timers that reached their deadline.
+         *
+         * @param expired the timers that expired, in deadline order
+         */
+        void onExpired(ExpiredTimers expired);
+    }
+
+    private final TimerScheduler scheduler;
+    private final ExpirationHandler handler;
+
+    // Parallel arrays indexed by slot; while running, deadlines holds the
+    // absolute deadline, otherwise the remaining time
+    private long[] deadlines;
+    private long[] owners;
+    private int[] durations;
+    private int[] generations;
+    private int[] heapPositions;
+    private byte[] states;
+    private byte[] types;
+
+    private int[] heap;
+    private int heapSize;
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
+    private int size;
+
+    private TimerScheduler.Registration armed;
+    private long armedDeadline;
+
+    /**
+     * Creates a registry on the shared scheduler.
+     *
+     * @param handler the handler that receives expired timers
+     */
+    public TimerRegistry(ExpirationHandler handler) {
+        this(TimerScheduler.shared(), handler, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a registry with the given scheduler and initial capacity.
+     *
+     * @param scheduler the scheduler that fires the earliest deadline
+     * @param handler the handler that receives expired timers
+     * @param initialCapacity the number of timers to allocate room for up front
+     * @throws IllegalArgumentException if the scheduler or handler is null, or the capacity is not positive
+     */
+    public TimerRegistry(TimerScheduler scheduler, ExpirationHandler handler, int initialCapacity) {
+        if (scheduler == null || handler == null) {
+            throw new IllegalArgumentException("Scheduler and handler cannot be null");
+        }
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.scheduler = scheduler;
+        this.handler = handler;
+        this.deadlines = new long[initialCapacity];
+        this.owners = new long[initialCapacity];
+        this.durations = new int[initialCapacity];
+        this.generations = new int[initialCapacity];
+        this.heapPositions = new int[initialCapacity];
+        this.states = new byte[initialCapacity];
+        this.types = new byte[initialCapacity];
+        this.heap = new int[initialCapacity];
+        this.freeSlots = new int[initialCapacity];
+    }
+
+    /**
+     * Creates an inactive timer.
+     *
+     * @param type the type of timer
+     * @param ownerId the ID of the user or tenant owning the timer
+     * @param durationSeconds the duration in seconds
+     * @return the handle of the new timer
+     * @throws IllegalArgumentException if the type is null or the duration is not positive
+     */
+    public synchronized long create(TimerType type, long ownerId, int durationSeconds) {
+        if (type == null) {
+            throw new IllegalArgumentException("Timer type cannot be null");
+        }
+        if (durationSeconds <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        int slot = allocateSlot();
+        deadlines[slot] = durationSeconds * NANOS_PER_SECOND;
+        owners[slot] = ownerId;
+        durations[slot] = durationSeconds;
+        heapPositions[slot] = -1;
+        states[slot] = (byte) TimerState.INACTIVE.ordinal();
+        types[slot] = (byte) type.ordinal();
+        size++;
+        return handleOf(slot);
+    }
+
+    /**
+     * Creates a timer of the given type with its default duration.
+     *
+     * @param type the type of timer
+     * @param ownerId the ID of the user or tenant owning the timer
+     * @return the handle of the new timer
+     */
+    public long create(TimerType type, long ownerId) {
+        return create(type, ownerId, type.getDefaultDuration());
+    }
+
+    /**
+     * Starts a timer. A stopped timer continues from where it stopped, a
+     * completed timer starts over, and a paused timer resumes.
+     *
+     * @param handle the timer handle
+     * @return true if the timer started, false if it was already running
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized boolean start(long handle) {
+        int slot = slotOf(handle);
+        TimerState state = STATES[states[slot]];
+        if (state == TimerState.RUNNING) {
+            return false;
+        }
+        long remaining = state == TimerState.COMPLETED ? durations[slot] * NANOS_PER_SECOND : deadlines[slot];
+        run(slot, remaining);
+        return true;
+    }
+
+    /**
+     * Pauses a running timer.
+     *
+     * @param handle the timer handle
+     * @return true if the timer was paused, false if it was not running
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized boolean pause(long handle) {
+        return halt(slotOf(handle), TimerState.PAUSED);
+    }
+
+    /**
+     * Resumes a paused timer.
+     *
+     * @param handle the timer handle
+     * @return true if the timer was resumed, false if it was not paused
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized boolean resume(long handle) {
+        int slot = slotOf(handle);
+        if (STATES[states[slot]] != TimerState.PAUSED) {
+            return false;
+        }
+        run(slot, deadlines[slot]);
+        return true;
+    }
+
+    /**
+     * Stops a running or paused timer.
+     *
+     * @param handle the timer handle
+     * @return true if the timer was stopped, false if it was neither running nor paused
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized boolean stop(long handle) {
+        int slot = slotOf(handle);
+        if (STATES[states[slot]] == TimerState.PAUSED) {
+            states[slot] = (byte) TimerState.STOPPED.ordinal();
+            return true;
+        }
+        return halt(slot, TimerState.STOPPED);
+    }
+
+    /**
+     * Removes a timer from the registry and frees its slot. The handle is
+     * invalid afterwards.
+     *
+     * @param handle the timer handle
+     * @throws IllegalArgumentException if the handle is unknown or already released
+     */
+    public synchronized void release(long handle) {
+        int slot = slotOf(handle);
+        if (heapPositions[slot] >= 0) {
+            heapRemove(heapPositions[slot]);
+        }
+        states[slot] = FREE;
+        generations[slot]++;
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    /**
+     * Checks whether a handle refers to a timer that has not been released.
+     *
+     * @param handle the timer handle
+     * @return true if the handle is valid
+     */
+    public synchronized boolean contains(long handle) {
+        int slot = (int) handle;
+        return slot >= 0 && slot < slotCount && states[slot] != FREE && generations[slot] == (int) (handle >>> 32);
+    }
+
+    /**
+     * Gets the state of a timer.
+     *
+     * @param handle the timer handle
+     * @return the timer state
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized TimerState getState(long handle) {
+        return STATES[states[slotOf(handle)]];
+    }
+
+    /**
+     * Gets the type of a timer.
+     *
+     * @param handle the timer handle
+     * @return the timer type
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized TimerType getType(long handle) {
+        return TYPES[types[slotOf(handle)]];
+    }
+
+    /**
+     * Gets the owner of a timer.
+     *
+     * @param handle the timer handle
+     * @return the owner ID
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized long getOwnerId(long handle) {
+        return owners[slotOf(handle)];
+    }
+
+    /**
+     * Gets the remaining time of a timer.
+     *
+     * @param handle the timer handle
+     * @return the remaining time in seconds, rounded up
+     * @throws IllegalArgumentException if the handle is unknown or released
+     */
+    public synchronized int getRemainingSeconds(long handle) {
+        int slot = slotOf(handle);
+        long remaining = STATES[states[slot]] == TimerState.RUNNING
+            ? Math.max(0, deadlines[slot] - scheduler.nanoTime())
+            : deadlines[slot];
+        return (int) ((remaining + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Gets the number of timers in the registry.
+     *
+     * @return the timer count
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of timers currently running.
+     *
+     * @return the running timer count
+     */
+    public synchronized int getRunningCount() {
+        return heapSize;
+    }
+
+    private void run(int slot, long remainingNanos) {
+        deadlines[slot] = scheduler.nanoTime() + remainingNanos;
+        states[slot] = (byte) TimerState.RUNNING.ordinal();
+        heapInsert(slot);
+        if (heapPositions[slot] == 0) {
+            rearm();
+        }
+    }
+
+    private boolean halt(int slot, TimerState target) {
+        if (STATES[states[slot]] != TimerState.RUNNING) {
+            return false;
+        }
+        deadlines[slot] = Math.max(0, deadlines[slot] - scheduler.nanoTime());
+        states[slot] = (byte) target.ordinal();
+        heapRemove(heapPositions[slot]);
+        return true;
+    }
+
+    /**
+     * Pops every due timer in one pass and hands them to the handler as a
+     * single batch.
+     */
+    private void expire() {
+        ExpiredTimers expired;
+        synchronized (this) {
+            armed = null;
+            long now = scheduler.nanoTime();
+            int due = 0;
+            int capacity = Math.min(heapSize, 16);
+            long[] handles = new long[capacity];
+            long[] expiredOwners = new long[capacity];
+            byte[] expiredTypes = new byte[capacity];
+            while (heapSize > 0 && deadlines[heap[0]] <= now) {
+                int slot = heap[0];
+                heapRemove(0);
+                deadlines[slot] = 0;
+                states[slot] = (byte) TimerState.COMPLETED.ordinal();
+                if (due == handles.length) {
+                    handles = Arrays.copyOf(handles, due * 2);
+                    expiredOwners = Arrays.copyOf(expiredOwners, due * 2);
+                    expiredTypes = Arrays.copyOf(expiredTypes, due * 2);
+                }
+                handles[due] = handleOf(slot);
+                expiredOwners[due] = owners[slot];
+                expiredTypes[due] = types[slot];
+                due++;
+            }
+            rearm();
+            if (due == 0) {
+                return;
+            }
+            expired = new ExpiredTimers(this, due, handles, expiredOwners, expiredTypes);
+        }
+        try {
+            handler.onExpired(expired);
+        } catch (RuntimeException e) {
+            System.err.println("Error handling expired timers: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registers the earliest deadline with the scheduler, replacing a later
+     * registration if the heap's head moved forward. The wakeup is coalesced
+     * to the end of the second the deadline falls in.
+     */
+    private void rearm() {
+        if (heapSize == 0) {
+            return;
+        }
+        long earliest = coalesce(deadlines[heap[0]]);
+        if (armed != null) {
+            if (armedDeadline <= earliest) {
+                return;
+            }
+            armed.cancel();
+        }
+        armedDeadline = earliest;
+        armed = scheduler.schedule(this::expire, earliest);
+    }
+
+    private static long coalesce(long deadline) {
+        long second = Math.floorDiv(deadline, NANOS_PER_SECOND) * NANOS_PER_SECOND;
+        if (second == deadline || second > Long.MAX_VALUE - NANOS_PER_SECOND) {
+            return deadline;
+        }
+        return second + NANOS_PER_SECOND;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == deadlines.length) {
+            grow();
+        }
+        return slotCount++;
+    }
+
+    private void grow() {
+        int capacity = deadlines.length * 2;
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        heapPositions = Arrays.copyOf(heapPositions, capacity);
+        states = Arrays.copyOf(states, capacity);
+        types = Arrays.copyOf(types, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    private long handleOf(int slot) {
+        return ((long) generations[slot] << 32) | slot;
+    }
+
+    private int slotOf(long handle) {
+        int slot = (int) handle;
+        if (slot < 0 || slot >= slotCount || states[slot] == FREE || generations[slot] != (int) (handle >>> 32)) {
+            throw new IllegalArgumentException("Unknown or released timer handle: " + handle);
+        }
+        return slot;
+    }
+
+    private void heapInsert(int slot) {
+        heap[heapSize] = slot;
+        heapPositions[slot] = heapSize;
+        siftUp(heapSize++);
+    }
+
+    private void heapRemove(int position) {
+        int removed = heap[position];
+        heapPositions[removed] = -1;
+        heapSize--;
+        if (position == heapSize) {
+            return;
+        }
+        int last = heap[heapSize];
+        heap[position] = last;
+        heapPositions[last] = position;
+        siftDown(position);
+        siftUp(heapPositions[last]);
+    }
+
+    private void siftUp(int position) {
+        int slot = heap[position];
+        long deadline = deadlines[slot];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentSlot = heap[parent];
+            if (deadlines[parentSlot] <= deadline) {
+                break;
+            }
+            heap[position] = parentSlot;
+            heapPositions[parentSlot] = position;
+            position = parent;
+        }
+        heap[position] = slot;
+        heapPositions[slot] = position;
+    }
+
+    private void siftDown(int position) {
+        int slot = heap[position];
+        long deadline = deadlines[slot];
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < heapSize && deadlines[heap[right]] < deadlines[heap[child]]) {
+                child = right;
+            }
+            int childSlot = heap[child];
+            if (deadline <= deadlines[childSlot]) {
+                break;
+            }
+            heap[position] = childSlot;
+            heapPositions[childSlot] = position;
+            position = child;
+        }
+        heap[position] = slot;
+        heapPositions[slot] = position;
+    }
+
+    /**
+     * A batch of timers that expired together, held in parallel arrays like
+     * the registry itself.
+     */
+    public static final class ExpiredTimers {
+        private final TimerRegistry registry;
+        private final int size;
+        private final long[] handles;
+        private final long[] owners;
+        private final byte[] types;
+
+        ExpiredTimers(TimerRegistry registry, int size, long[] handles, long[] owners, byte[] types) {
+            this.registry = registry;
+            this.size = size;
+            this.handles = handles;
+            this.owners = owners;
+            this.types = types;
+        }
+
+        /**
+         * Gets the number of expired timers in the batch.
+         *
+         * @return the batch size
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Gets the handle of an expired timer.
+         *
+         * @param index the index within the batch
+         * @return the timer handle
+         */
+        public long getHandle(int index) {
+            return handles[index];
+        }
+
+        /**
+         * Gets the owner of an expired timer.
+         *
+         * @param index the index within the batch
+         * @return the owner ID
+         */
+        public long getOwnerId(int index) {
+            return owners[index];
+        }
+
+        /**
+         * Gets the type of an expired timer.
+         *
+         * @param index the index within the batch
+         * @return the timer type
+         */
+        public TimerType getType(int index) {
+            return TYPES[types[index]];
+        }
+
+        /**
+         * Gets the registry the timers belong to, for example to restart or
+         * release them.
+         *
+         * @return the registry
+         */
+        public TimerRegistry getRegistry() {
+            return registry;
+        }
+    }
+}
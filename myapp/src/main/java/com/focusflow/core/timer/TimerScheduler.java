@@ -0,0 +1,108 @@
+package com.focusflow.core.timer;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service that timers register their deadlines with.
+ *
+ * Instead of every timer owning a {@code java.util.Timer} (and therefore an
+ * OS thread), timers hand their next deadline to a scheduler, which fires the
+ * associated task once the deadline has passed. A single scheduler can drive
+ * any number of timers from a small, fixed set of threads.
+ *
+ * Deadlines are absolute values on the scheduler's own monotonic clock, as
+ * returned by {@link #nanoTime()}.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.HashedWheelScheduler
+ * @see com.focusflow.core.timer.PomodoroTimer
+ */
+public interface TimerScheduler {
+    /**
+     * Schedules a task to run once the given deadline has passed.
+     *
+     * @param task the task to run
+     * @param deadlineNanos the absolute deadline, in {@link #nanoTime()} units
+     * @return a registration that can be used to cancel the task
+     */
+    Registration schedule(Runnable task, long deadlineNanos);
+
+    /**
+     * Schedules a task to run after the given delay.
+     *
+     * @param task the task to run
+     * @param delay the delay before the task runs
+     * @param unit the unit of the delay
+     * @return a registration that can be used to cancel the task
+     */
+    default Registration schedule(Runnable task, long delay, TimeUnit unit) {
+        return schedule(task, nanoTime() + unit.toNanos(delay));
+    }
+
+    /**
+     * Returns the current value of the scheduler's monotonic clock.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Returns the current wall-clock time, used where a deadline has to
+     * survive a restart of the process.
+     *
+     * @return the current time in epoch milliseconds
+     */
+    default long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Returns a clock in the default time zone that reads
+     * {@link #currentTimeMillis()}, for recording sessions at the
+     * scheduler's time.
+     *
+     * @return the scheduler's wall clock
+     */
+    default Clock clock() {
+        return new SchedulerClock(this, ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the process-wide scheduler shared by all timers that are not
+     * given an explicit scheduler.
+     *
+     * @return the shared scheduler
+     */
+    static TimerScheduler shared() {
+        return HashedWheelScheduler.shared();
+    }
+
+    /**
+     * Handle to a scheduled task.
+     */
+    interface Registration {
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return true if the task was cancelled, false if it already ran or was cancelled
+         */
+        boolean cancel();
+
+        /**
+         * Checks whether the task has been cancelled.
+         *
+         * @return true if the task was cancelled
+         */
+        boolean isCancelled();
+
+        /**
+         * Returns the absolute deadline of the task.
+         *
+         * @return the deadline in scheduler nanoseconds
+         */
+        long getDeadlineNanos();
+    }
+}
@@ -0,0 +1,118 @@
+package com.focusflow.core.timer;
+
+/**
+ * Record of a stall a running timer detected and recovered from.
+ *
+ * A stall is either a late wakeup, where the process was not scheduled for a
+ * while (a long GC pause or an overloaded machine), or a clock jump, where
+ * the wall clock moved by a different amount than the monotonic clock the
+ * timer counts on (a laptop suspend, or the system clock being changed).
+ *
+ * The ticks missed during the stall are never replayed; the timer delivers
+ * one catch-up tick with the current remaining time instead.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerEventListener#onTimerStalled(Timer, TimerStall)
+ */
+public final class TimerStall {
+    /**
+     * The kinds of stall a timer can detect.
+     */
+    public enum Kind {
+        /** The wakeup fired well after its deadline on the monotonic clock. */
+        LATE_WAKEUP,
+        /** The wall clock and the monotonic clock disagree about elapsed time. */
+        CLOCK_JUMP
+    }
+
+    private final Kind kind;
+    private final long detectedAtEpochMillis;
+    private final long lateMillis;
+    private final long clockSkewMillis;
+    private final int missedTicks;
+    private final int remainingSeconds;
+
+    /**
+     * Creates a new stall record.
+     *
+     * @param kind the kind of stall
+     * @param detectedAtEpochMillis the wall-clock time the stall was detected
+     * @param lateMillis how late the wakeup fired on the monotonic clock
+     * @param clockSkewMillis wall-clock time minus monotonic time elapsed since the wakeup was planned
+     * @param missedTicks the number of whole-second ticks collapsed into the catch-up tick
+     * @param remainingSeconds the remaining time after the stall
+     */
+    public TimerStall(Kind kind, long detectedAtEpochMillis, long lateMillis, long clockSkewMillis,
+                      int missedTicks, int remainingSeconds) {
+        this.kind = kind;
+        this.detectedAtEpochMillis = detectedAtEpochMillis;
+        this.lateMillis = lateMillis;
+        this.clockSkewMillis = clockSkewMillis;
+        this.missedTicks = missedTicks;
+        this.remainingSeconds = remainingSeconds;
+    }
+
+    /**
+     * Gets the kind of stall.
+     *
+     * @return the stall kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the wall-clock time the stall was detected.
+     *
+     * @return the detection time in epoch milliseconds
+     */
+    public long getDetectedAtEpochMillis() {
+        return detectedAtEpochMillis;
+    }
+
+    /**
+     * Gets how late the wakeup fired on the monotonic clock.
+     *
+     * @return the lateness in milliseconds
+     */
+    public long getLateMillis() {
+        return lateMillis;
+    }
+
+    /**
+     * Gets how much more wall-clock time than monotonic time passed. A
+     * positive value means wall-clock time passed that the timer did not
+     * count, as during a suspend; a negative value means the wall clock was
+     * set back.
+     *
+     * @return the skew in milliseconds
+     */
+    public long getClockSkewMillis() {
+        return clockSkewMillis;
+    }
+
+    /**
+     * Gets the number of ticks that were collapsed into the catch-up tick.
+     *
+     * @return the missed tick count
+     */
+    public int getMissedTicks() {
+        return missedTicks;
+    }
+
+    /**
+     * Gets the remaining time after the stall.
+     *
+     * @return the remaining time in seconds
+     */
+    public int getRemainingSeconds() {
+        return remainingSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "TimerStall[" + kind + ", late=" + lateMillis + "ms, skew=" + clockSkewMillis
+            + "ms, missedTicks=" + missedTicks + "]";
+    }
+}
@@ -35,5 +35,30 @@ public enum TimerState {
     /**
      * Timer has been stopped before completion.
      */
-    STOPPED
+    STOPPED;
+    
+    /**
+     * Checks whether a timer in this state may move to the target state.
+     * 
+     * Running timers can be paused, stopped or complete; paused timers can be
+     * resumed or stopped; finished timers can be restarted or reset.
+     * 
+     * @param target the state to move to
+     * @return true if the transition is allowed
+     */
+    public boolean canTransitionTo(TimerState target) {
+        switch (this) {
+            case INACTIVE:
+                return target == RUNNING;
+            case RUNNING:
+                return target == PAUSED || target == COMPLETED || target == STOPPED;
+            case PAUSED:
+                return target == RUNNING || target == STOPPED;
+            case COMPLETED:
+            case STOPPED:
+                return target == RUNNING || target == INACTIVE;
+            default:
+                return false;
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,272 @@
+package com.focusflow.core.timer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact file store for running and paused timers.
+ *
+ * Every change is appended to a binary journal as a small fixed-order record
+ * and flushed immediately, so the latest state of each timer survives a
+ * process crash. Opening the store replays the journal in one sequential
+ * pass, drops a torn trailing record if the crash happened mid-write, and
+ * rewrites the file with only the live records. Version 2 records also
+ * carry the segment index and cycle shape of a {@link PomodoroCycle};
+ * version 1 files are still read, as single timers.
+ *
+ * Restoring timers only registers their deadlines with a scheduler; no
+ * thread is created for a timer until its deadline is actually due.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerRecord
+ * @see com.focusflow.core.timer.PomodoroTimer#enablePersistence(TimerStore, String)
+ */
+public class TimerStore implements Closeable {
+    private static final int MAGIC = 0x46465453;
+    private static final byte VERSION = 2;
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private final Path path;
+    private final Map<String, TimerRecord> records = new LinkedHashMap<>();
+    private DataOutputStream journal;
+
+    private TimerStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens the store at the given path, creating it if it does not exist.
+     *
+     * @param path the journal file
+     * @return the opened store
+     * @throws IOException if the journal cannot be read or written
+     */
+    public static TimerStore open(Path path) throws IOException {
+        TimerStore store = new TimerStore(path);
+        if (Files.exists(path)) {
+            store.replay(Files.readAllBytes(path));
+        }
+        store.compact();
+        return store;
+    }
+
+    /**
+     * Records the current state of a timer, replacing any earlier record.
+     *
+     * @param record the timer record to store
+     * @throws IllegalStateException if the store is closed
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    public synchronized void put(TimerRecord record) {
+        ensureOpen();
+        records.put(record.getTimerId(), record);
+        try {
+            writePut(journal, record);
+            journal.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist timer " + record.getTimerId(), e);
+        }
+    }
+
+    /**
+     * Removes the record of a timer that is no longer running or paused.
+     *
+     * @param timerId the ID of the timer
+     * @throws IllegalStateException if the store is closed
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    public synchronized void remove(String timerId) {
+        ensureOpen();
+        if (records.remove(timerId) == null) {
+            return;
+        }
+        try {
+            journal.writeByte(OP_REMOVE);
+            journal.writeUTF(timerId);
+            journal.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove timer " + timerId, e);
+        }
+    }
+
+    /**
+     * Gets the record of a timer.
+     *
+     * @param timerId the ID of the timer
+     * @return the record, or null if the timer is not stored
+     */
+    public synchronized TimerRecord get(String timerId) {
+        return records.get(timerId);
+    }
+
+    /**
+     * Gets all stored records.
+     *
+     * @return a list of the stored records
+     */
+    public synchronized List<TimerRecord> getRecords() {
+        return new ArrayList<>(records.values());
+    }
+
+    /**
+     * Gets the number of stored timers.
+     *
+     * @return the record count
+     */
+    public synchronized int size() {
+        return records.size();
+    }
+
+    /**
+     * Restores every stored timer in one pass. Running timers are registered
+     * with the scheduler at their original deadline, which fires right away
+     * for deadlines that passed while the process was down. Restored timers
+     * keep persisting their changes to this store.
+     *
+     * @param scheduler the scheduler to register the restored timers with
+     * @return the restored timers
+     */
+    public List<PomodoroTimer> restoreAll(TimerScheduler scheduler) {
+        List<TimerRecord> snapshot = getRecords();
+        List<PomodoroTimer> timers = new ArrayList<>(snapshot.size());
+        for (TimerRecord record : snapshot) {
+            PomodoroTimer timer = PomodoroTimer.restore(record, scheduler);
+            timer.attachStore(this, record.getTimerId());
+            timers.add(timer);
+        }
+        return timers;
+    }
+
+    /**
+     * Rewrites the journal so that it only contains the live records.
+     *
+     * @throws IOException if the journal cannot be rewritten
+     */
+    public synchronized void compact() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            for (TimerRecord record : records.values()) {
+                writePut(out, record);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        OutputStream append = Files.newOutputStream(path, StandardOpenOption.APPEND);
+        journal = new DataOutputStream(new BufferedOutputStream(append));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void ensureOpen() {
+        if (journal == null) {
+            throw new IllegalStateException("Timer store is closed");
+        }
+    }
+
+    private void replay(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a timer store: " + path);
+            }
+            byte version = in.readByte();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Unsupported timer store version " + version + ": " + path);
+            }
+            while (in.available() > 0) {
+                byte op = in.readByte();
+                if (op == OP_PUT) {
+                    TimerRecord record = readPut(in, version);
+                    records.put(record.getTimerId(), record);
+                } else if (op == OP_REMOVE) {
+                    records.remove(in.readUTF());
+                } else {
+                    throw new IOException("Corrupt timer store record in " + path);
+                }
+            }
+        } catch (EOFException e) {
+            // Torn final record from a crash mid-write; everything before it is intact
+        }
+    }
+
+    private static void writePut(DataOutputStream out, TimerRecord record) throws IOException {
+        out.writeByte(OP_PUT);
+        out.writeUTF(record.getTimerId());
+        out.writeByte(record.getType().ordinal());
+        out.writeByte(record.getState().ordinal());
+        out.writeInt(record.getDurationSeconds());
+        out.writeLong(record.getDeadlineEpochMillis());
+        out.writeLong(record.getRemainingMillis());
+        out.writeBoolean(record.getTaskId() != null);
+        if (record.getTaskId() != null) {
+            out.writeUTF(record.getTaskId());
+        }
+        out.writeInt(record.getSegment());
+        TimerRecord.Cycle cycle = record.getCycle();
+        out.writeBoolean(cycle != null);
+        if (cycle != null) {
+            out.writeInt(cycle.getWorkSessions());
+            out.writeInt(cycle.getWorkSeconds());
+            out.writeInt(cycle.getShortBreakSeconds());
+            out.writeInt(cycle.getLongBreakSeconds());
+        }
+    }
+
+    private TimerRecord readPut(DataInputStream in, byte version) throws IOException {
+        String timerId = in.readUTF();
+        TimerType type = TimerType.values()[in.readUnsignedByte()];
+        TimerState state = TimerState.values()[in.readUnsignedByte()];
+        int duration = in.readInt();
+        long deadline = in.readLong();
+        long remaining = in.readLong();
+        String taskId = in.readBoolean() ? in.readUTF() : null;
+        if (version < 2) {
+            return new TimerRecord(timerId, type, duration, taskId, state, deadline, remaining);
+        }
+        int segment = in.readInt();
+        boolean hasCycle = in.readBoolean();
+        int[] shape = new int[4];
+        if (hasCycle) {
+            for (int i = 0; i < shape.length; i++) {
+                shape[i] = in.readInt();
+            }
+        }
+        try {
+            TimerRecord.Cycle cycle = hasCycle ? new TimerRecord.Cycle(shape[0], shape[1], shape[2], shape[3]) : null;
+            return new TimerRecord(timerId, type, duration, taskId, state, deadline, remaining, segment, cycle);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt timer store record in " + path, e);
+        }
+    }
+}
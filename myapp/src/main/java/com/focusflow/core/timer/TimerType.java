@@ -56,4 +56,13 @@ public enum TimerType {
     public int getDefaultDuration() {
         return defaultDuration;
     }
+    
+    /**
+     * Checks whether this type of timer is a break.
+     * 
+     * @return true for short, long and plain breaks
+     */
+    public boolean isBreak() {
+        return this == SHORT_BREAK || this == LONG_BREAK || this == BREAK;
+    }
 } 
\ No newline at end of file
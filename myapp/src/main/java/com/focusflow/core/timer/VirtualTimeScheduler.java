@@ -0,0 +1,246 @@
+package com.focusflow.core.timer;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Deterministic scheduler whose clocks only move when told to.
+ *
+ * Time starts at zero on the monotonic clock and at a chosen instant on the
+ * wall clock, and advances only through {@link #advance(long, TimeUnit)} and
+ * the other stepping methods, which run every task that falls due on the
+ * calling thread, in deadline order and first-come-first-served for equal
+ * deadlines. Each task runs with the clock set to its own deadline, exactly
+ * as if a real scheduler had fired it on time.
+ *
+ * Timers created by {@link #newTimer(TimerType, int)} run the production
+ * {@link PomodoroTimer} logic on this scheduler and deliver events
+ * synchronously, so they fire the same {@link TimerEventListener} callbacks
+ * in the same order as in production, and a full day of pomodoros runs in
+ * milliseconds.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerScheduler
+ */
+public class VirtualTimeScheduler implements TimerScheduler {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final AtomicIntegerFieldUpdater<Task> TASK_STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private final long startEpochMillis;
+    private long nanos;
+    private long wallOffsetNanos;
+    private long sequence;
+
+    /**
+     * Creates a scheduler whose wall clock starts at the current time.
+     */
+    public VirtualTimeScheduler() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a scheduler whose wall clock starts at the given instant.
+     *
+     * @param startEpochMillis the initial wall-clock time in epoch milliseconds
+     */
+    public VirtualTimeScheduler(long startEpochMillis) {
+        this.startEpochMillis = startEpochMillis;
+    }
+
+    /**
+     * Creates a timer driven by this scheduler that delivers its events
+     * synchronously on the thread advancing the clock.
+     *
+     * @param type the type of timer to create
+     * @param duration the duration in seconds
+     * @return the new timer
+     */
+    public PomodoroTimer newTimer(TimerType type, int duration) {
+        PomodoroTimer timer = new PomodoroTimer(type, duration, this);
+        timer.setEventDispatcher(TimerEventDispatcher.synchronous());
+        return timer;
+    }
+
+    /**
+     * Creates a timer of the given type with its default duration.
+     *
+     * @param type the type of timer to create
+     * @return the new timer
+     */
+    public PomodoroTimer newTimer(TimerType type) {
+        return newTimer(type, type.getDefaultDuration());
+    }
+
+    @Override
+    public synchronized Registration schedule(Runnable task, long deadlineNanos) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        Task scheduled = new Task(task, deadlineNanos, sequence++);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public synchronized long nanoTime() {
+        return nanos;
+    }
+
+    @Override
+    public synchronized long currentTimeMillis() {
+        return startEpochMillis + (nanos + wallOffsetNanos) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Moves both clocks forward, running every task that falls due on the
+     * way with the clock set to the task's deadline.
+     *
+     * @param amount the time to advance by
+     * @param unit the unit of the amount
+     * @return the number of tasks that ran
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public int advance(long amount, TimeUnit unit) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Cannot advance by a negative amount");
+        }
+        long target;
+        synchronized (this) {
+            target = nanos + unit.toNanos(amount);
+        }
+        int ran = 0;
+        while (runNextDueBy(target)) {
+            ran++;
+        }
+        synchronized (this) {
+            nanos = Math.max(nanos, target);
+        }
+        return ran;
+    }
+
+    /**
+     * Jumps from task to task until no task is pending. Timers that keep
+     * rescheduling, such as a running timer, are run to completion.
+     *
+     * @return the number of tasks that ran
+     */
+    public int runUntilIdle() {
+        int ran = 0;
+        while (runNextDueBy(Long.MAX_VALUE)) {
+            ran++;
+        }
+        return ran;
+    }
+
+    /**
+     * Moves both clocks forward without running any task, as if the process
+     * had been frozen. Tasks that became due run late on the next advance.
+     *
+     * @param amount the duration of the stall
+     * @param unit the unit of the amount
+     */
+    public synchronized void stall(long amount, TimeUnit unit) {
+        nanos += unit.toNanos(amount);
+    }
+
+    /**
+     * Moves only the wall clock forward, as if the machine had been
+     * suspended while the monotonic clock stood still.
+     *
+     * @param amount the duration of the suspend
+     * @param unit the unit of the amount
+     */
+    public synchronized void suspend(long amount, TimeUnit unit) {
+        wallOffsetNanos += unit.toNanos(amount);
+    }
+
+    /**
+     * Gets the number of tasks waiting to run. Cancelled tasks stay queued
+     * until they come due and are skipped then, but are not counted.
+     *
+     * @return the pending task count
+     */
+    public synchronized int getPendingCount() {
+        int pending = 0;
+        for (Task task : tasks) {
+            if (task.state == Task.PENDING) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Runs the earliest task due by the given time, outside the lock so the
+     * task can schedule further tasks.
+     */
+    private boolean runNextDueBy(long limitNanos) {
+        Task next;
+        synchronized (this) {
+            do {
+                next = tasks.peek();
+                if (next == null || next.deadlineNanos > limitNanos) {
+                    return false;
+                }
+                tasks.poll();
+            } while (!next.claim());
+            nanos = Math.max(nanos, next.deadlineNanos);
+        }
+        try {
+            next.runnable.run();
+        } catch (RuntimeException e) {
+            System.err.println("Error running virtual timer task: " + e.getMessage());
+        }
+        return true;
+    }
+
+    private final class Task implements Registration, Comparable<Task> {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int RAN = 2;
+
+        private final Runnable runnable;
+        private final long deadlineNanos;
+        private final long sequence;
+        private volatile int state = PENDING;
+
+        Task(Runnable runnable, long deadlineNanos, long sequence) {
+            this.runnable = runnable;
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean cancel() {
+            // Left in the queue, which skips it once it comes due
+            return TASK_STATE.compareAndSet(this, PENDING, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Marks the task as run, unless it was cancelled first.
+         */
+        boolean claim() {
+            return TASK_STATE.compareAndSet(this, PENDING, RAN);
+        }
+
+        @Override
+        public long getDeadlineNanos() {
+            return deadlineNanos;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byDeadline = Long.compare(deadlineNanos, other.deadlineNanos);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.focusflow.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionHistoryView;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.SessionPage;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for the columnar session history storage.
+ * 
+ * This class contains unit tests for verifying that sessions kept in
+ * columns read back with the same values, and that the per-task index and
+ * paging work on top of them.
+ * 
+ * @see com.focusflow.core.session.SessionManager.HistoryStorage#COLUMNAR
+ */
+class ColumnarSessionStoreTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SessionManager sessionManager;
+    private List<FocusSession> sessions;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager(SessionManager.HistoryStorage.COLUMNAR);
+        sessions = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            LocalDateTime start = START.plusHours(i);
+            TimerType type = i % 2 == 0 ? TimerType.WORK : TimerType.SHORT_BREAK;
+            sessions.add(new FocusSession("task-" + (i % 3), start, start.plusMinutes(25 + i), type));
+        }
+        sessionManager.loadHistory(sessions);
+    }
+
+    @Test
+    void testSessionsReadBackWithSameValues() {
+        List<FocusSession> history = sessionManager.getSessionHistory();
+        assertEquals(sessions.size(), history.size());
+        for (int i = 0; i < sessions.size(); i++) {
+            FocusSession expected = sessions.get(i);
+            FocusSession actual = history.get(i);
+            assertNotSame(expected, actual);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getAssociatedTaskId(), actual.getAssociatedTaskId());
+            assertEquals(expected.getStartTime(), actual.getStartTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getDurationSeconds(), actual.getDurationSeconds());
+            assertEquals(expected.getTimerType(), actual.getTimerType());
+            assertTrue(actual.isCompleted());
+            assertFalse(actual.isPaused());
+        }
+    }
+
+    @Test
+    void testLiveSessionKeepsPausedAndSuspendedTime() {
+        FocusSession live = sessionManager.startSession("task-live");
+        live.recordSuspension(30);
+        live.setTimerType(null);
+        sessionManager.endCurrentSession();
+
+        FocusSession stored = sessionManager.getSessionsForTask("task-live").get(0);
+        assertEquals(live.getId(), stored.getId());
+        assertEquals(30, stored.getSuspendedDurationSeconds());
+        assertEquals(live.getDurationSeconds(), stored.getDurationSeconds());
+        assertNull(stored.getTimerType());
+        assertEquals(live.getStartTime().withNano(0), stored.getStartTime());
+    }
+
+    @Test
+    void testTaskIndexReadsFromColumns() {
+        List<FocusSession> task = sessionManager.getSessionsForTask("task-1");
+        assertEquals(13, task.size());
+        assertEquals(13, sessionManager.getSessionCountForTask("task-1"));
+        assertEquals(sessions.get(1).getId(), task.get(0).getId());
+        assertEquals(sessions.get(37).getId(), task.get(12).getId());
+
+        long total = 0;
+        for (FocusSession session : task) {
+            total += session.getDurationSeconds();
+        }
+        assertEquals(total, sessionManager.getTotalTimeForTask("task-1"));
+        assertTrue(sessionManager.getSessionsForTask("unknown").isEmpty());
+    }
+
+    @Test
+    void testPagingFromTimeUsesStoredStartTimes() {
+        SessionHistoryView view = sessionManager.getHistoryView();
+        SessionPage page = view.newestFirstFrom(START.plusHours(10).plusSeconds(30), 3);
+
+        assertEquals(sessions.get(10).getId(), page.getSessions().get(0).getId());
+        assertEquals(sessions.get(8).getId(), page.getSessions().get(2).getId());
+        assertEquals(8, page.getNextCursor().getRemaining());
+    }
+
+    @Test
+    void testSnapshotSurvivesGrowth() {
+        SessionHistoryView before = sessionManager.getHistoryView();
+        List<FocusSession> more = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime start = START.plusDays(5).plusHours(i);
+            more.add(new FocusSession("task-new-" + i, start, start.plusMinutes(25), TimerType.WORK));
+        }
+        sessionManager.loadHistory(more);
+
+        assertEquals(40, before.size());
+        assertEquals(sessions.get(39).getId(), before.get(39).getId());
+        assertEquals(140, sessionManager.getHistoryView().size());
+        assertEquals("task-new-99", sessionManager.getHistoryView().get(139).getAssociatedTaskId());
+        assertThrows(IllegalArgumentException.class, () -> new SessionManager(null));
+    }
+}
@@ -0,0 +1,131 @@
+package com.focusflow.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.Distraction;
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionManager;
+
+/**
+ * Test class for distraction capture.
+ *
+ * This class contains unit tests for verifying that distractions captured
+ * from several threads are drained in bulk, that a full buffer refuses
+ * captures, and that drained distractions stay with their session.
+ *
+ * @see com.focusflow.core.session.FocusSession#captureDistraction(String)
+ */
+class DistractionCaptureTest {
+    private static final int THREADS = 4;
+
+    @Test
+    void testDrainTakesOnlyNewDistractions() {
+        FocusSession session = new FocusSession("task-1");
+        assertTrue(session.drainDistractions().isEmpty());
+
+        session.captureDistraction("email");
+        session.captureDistraction("phone");
+        List<Distraction> first = session.drainDistractions();
+        session.captureDistraction("chat");
+
+        assertEquals(List.of("email", "phone"), notes(first));
+        assertEquals(List.of("chat"), notes(session.drainDistractions()));
+        assertTrue(session.drainDistractions().isEmpty());
+        assertEquals(List.of("email", "phone", "chat"), notes(session.getDistractions()));
+        assertThrows(IllegalArgumentException.class, () -> session.captureDistraction(null));
+    }
+
+    @Test
+    void testFullBufferRefusesCaptures() {
+        FocusSession session = new FocusSession("task-1");
+        int captured = 0;
+        while (session.captureDistraction("note " + captured)) {
+            captured++;
+        }
+
+        assertEquals(1, session.getDroppedDistractionCount());
+        assertEquals(captured, session.drainDistractions().size());
+        assertTrue(session.captureDistraction("after drain"));
+    }
+
+    @Test
+    void testConcurrentCaptures() throws Exception {
+        FocusSession session = new FocusSession("task-1");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Distraction> drained = new ArrayList<>();
+        try {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                producers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        while (!session.captureDistraction(thread + ":" + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            while (!producers.stream().allMatch(Future::isDone)) {
+                drained.addAll(session.drainDistractions());
+            }
+            for (Future<?> producer : producers) {
+                producer.get(10, TimeUnit.SECONDS);
+            }
+            drained.addAll(session.drainDistractions());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * 1000, drained.size());
+        int[] next = new int[THREADS];
+        for (Distraction distraction : drained) {
+            String[] parts = distraction.getNote().split(":");
+            int thread = Integer.parseInt(parts[0]);
+            // Each thread's captures arrive in the order it made them
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]));
+        }
+        assertEquals(THREADS * 1000, session.getDistractions().size());
+    }
+
+    @Test
+    void testManagerDrainsEndedAndCurrentSessions() {
+        for (SessionManager.HistoryStorage storage : SessionManager.HistoryStorage.values()) {
+            SessionManager sessionManager = new SessionManager(storage);
+            FocusSession work = sessionManager.startSession("task-1");
+            work.captureDistraction("email");
+            sessionManager.endCurrentSession();
+            FocusSession rest = sessionManager.startSession("task-1");
+            rest.captureDistraction("phone");
+
+            assertEquals(List.of("email", "phone"), notes(sessionManager.drainDistractions()));
+            assertTrue(sessionManager.drainDistractions().isEmpty());
+            // Drained distractions stay with the stored session
+            assertEquals(List.of("email"), notes(sessionManager.getSessionHistory().get(0).getDistractions()));
+            assertFalse(sessionManager.getSessionHistory().get(0).getDistractions().isEmpty());
+        }
+    }
+
+    private static List<String> notes(List<Distraction> distractions) {
+        List<String> notes = new ArrayList<>();
+        for (Distraction distraction : distractions) {
+            notes.add(distraction.getNote());
+        }
+        return notes;
+    }
+}
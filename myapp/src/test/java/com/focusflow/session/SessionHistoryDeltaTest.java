@@ -0,0 +1,159 @@
+package com.focusflow.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionEventListener;
+import com.focusflow.core.session.SessionHistoryDelta;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for the SessionHistoryDelta class.
+ * 
+ * This class contains unit tests for verifying that history changes are
+ * announced as versioned deltas and that listeners can resync after
+ * missing some of them.
+ * 
+ * @see com.focusflow.core.session.SessionHistoryDelta
+ */
+class SessionHistoryDeltaTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SessionManager sessionManager;
+    private List<SessionHistoryDelta> deltas;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager();
+        deltas = new ArrayList<>();
+        sessionManager.addListener(new SessionEventListener() {
+            @Override
+            public void onSessionStarted(FocusSession session) {}
+
+            @Override
+            public void onSessionPaused(FocusSession session) {}
+
+            @Override
+            public void onSessionResumed(FocusSession session) {}
+
+            @Override
+            public void onSessionEnded(FocusSession session) {}
+
+            @Override
+            public void onSessionHistoryDelta(SessionHistoryDelta delta) {
+                deltas.add(delta);
+            }
+        });
+    }
+
+    @Test
+    void testDeltaCarriesOnlyTheNewSession() {
+        assertEquals(0, sessionManager.getHistoryVersion());
+        FocusSession first = completeSession();
+        FocusSession second = completeSession();
+
+        assertEquals(2, sessionManager.getHistoryVersion());
+        assertEquals(2, deltas.size());
+        SessionHistoryDelta delta = deltas.get(1);
+        assertEquals(1, delta.getFromVersion());
+        assertEquals(2, delta.getToVersion());
+        assertEquals(List.of(second), delta.getAppended());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertFalse(delta.isReset());
+        assertSame(first, deltas.get(0).getAppended().get(0));
+    }
+
+    @Test
+    void testLoadHistoryEmitsOneDelta() {
+        completeSession();
+        List<FocusSession> loaded = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            LocalDateTime start = START.plusHours(i);
+            loaded.add(new FocusSession(TEST_TASK_ID, start, start.plusMinutes(25), TimerType.WORK));
+        }
+        sessionManager.loadHistory(loaded);
+
+        assertEquals(2, deltas.size());
+        assertEquals(loaded, deltas.get(1).getAppended());
+        assertEquals(2, sessionManager.getHistoryVersion());
+    }
+
+    @Test
+    void testChangesSinceMergesMissedDeltas() {
+        completeSession();
+        FocusSession second = completeSession();
+        FocusSession third = completeSession();
+
+        SessionHistoryDelta changes = sessionManager.getHistoryChangesSince(1);
+        assertEquals(1, changes.getFromVersion());
+        assertEquals(3, changes.getToVersion());
+        assertEquals(List.of(second, third), changes.getAppended());
+        assertFalse(changes.isReset());
+
+        SessionHistoryDelta current = sessionManager.getHistoryChangesSince(3);
+        assertTrue(current.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.getHistoryChangesSince(4));
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.getHistoryChangesSince(-1));
+    }
+
+    @Test
+    void testChangesSinceExpiredVersionIsReset() {
+        for (int i = 0; i <= SessionManager.HISTORY_DELTA_RETENTION; i++) {
+            completeSession();
+        }
+
+        SessionHistoryDelta changes = sessionManager.getHistoryChangesSince(0);
+        assertTrue(changes.isReset());
+        assertEquals(SessionManager.HISTORY_DELTA_RETENTION + 1, changes.getAppended().size());
+        assertEquals(sessionManager.getHistoryVersion(), changes.getToVersion());
+        assertFalse(sessionManager.getHistoryChangesSince(1).isReset());
+    }
+
+    @Test
+    void testChangesSinceMatchesColumnarSessionsById() {
+        SessionManager columnar = new SessionManager(SessionManager.HistoryStorage.COLUMNAR);
+        LocalDateTime old = LocalDateTime.now().minusDays(40);
+        List<FocusSession> loaded = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LocalDateTime start = old.plusHours(i);
+            loaded.add(new FocusSession(TEST_TASK_ID, start, start.plusMinutes(25), TimerType.WORK));
+        }
+        LocalDateTime recentStart = old.plusDays(39);
+        FocusSession recent = new FocusSession(TEST_TASK_ID, recentStart, recentStart.plusMinutes(25), TimerType.WORK);
+        loaded.add(recent);
+        columnar.loadHistory(loaded);
+        long loadedVersion = columnar.getHistoryVersion();
+        columnar.setRetentionDays(7);
+        columnar.compact(1000);
+
+        // Sessions appended and compacted within the range cancel out
+        assertEquals(1, columnar.getHistoryView().size());
+        SessionHistoryDelta changes = columnar.getHistoryChangesSince(0);
+        assertEquals(1, changes.getAppended().size());
+        assertEquals(recent.getId(), changes.getAppended().get(0).getId());
+        assertTrue(changes.getRemoved().isEmpty());
+
+        SessionHistoryDelta compacted = columnar.getHistoryChangesSince(loadedVersion);
+        assertTrue(compacted.getAppended().isEmpty());
+        assertEquals(3, compacted.getRemoved().size());
+    }
+
+    private FocusSession completeSession() {
+        sessionManager.startSession(TEST_TASK_ID);
+        FocusSession session = sessionManager.getCurrentSession().orElseThrow();
+        sessionManager.endCurrentSession();
+        return session;
+    }
+}
@@ -0,0 +1,113 @@
+package com.focusflow.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionHistoryView;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.SessionPage;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for the SessionHistoryView class.
+ * 
+ * This class contains unit tests for verifying that history snapshots stay
+ * consistent while sessions are appended, and for newest-first pagination.
+ * 
+ * @see com.focusflow.core.session.SessionHistoryView
+ */
+class SessionHistoryViewTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SessionManager sessionManager;
+    private List<FocusSession> sessions;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager();
+        sessions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            LocalDateTime start = START.plusHours(i);
+            sessions.add(new FocusSession(TEST_TASK_ID, start, start.plusMinutes(25), TimerType.WORK));
+        }
+        sessionManager.loadHistory(sessions);
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterSessions() {
+        SessionHistoryView before = sessionManager.getHistoryView();
+        sessionManager.startSession(TEST_TASK_ID);
+        sessionManager.endCurrentSession();
+
+        assertEquals(10, before.size());
+        assertEquals(11, sessionManager.getHistoryView().size());
+        assertSame(sessions.get(9), before.get(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> before.get(10));
+        assertThrows(UnsupportedOperationException.class, () -> before.add(sessions.get(0)));
+    }
+
+    @Test
+    void testPagesWalkNewestFirst() {
+        SessionHistoryView view = sessionManager.getHistoryView();
+        SessionPage first = view.newestFirst(4);
+        assertEquals(List.of(sessions.get(9), sessions.get(8), sessions.get(7), sessions.get(6)), first.getSessions());
+        assertTrue(first.hasMore());
+
+        // Sessions appended between pages do not shift the cursor
+        sessionManager.startSession(TEST_TASK_ID);
+        sessionManager.endCurrentSession();
+
+        SessionPage second = sessionManager.getHistoryView().page(first.getNextCursor(), 4);
+        assertEquals(List.of(sessions.get(5), sessions.get(4), sessions.get(3), sessions.get(2)), second.getSessions());
+        SessionPage last = view.page(second.getNextCursor(), 4);
+        assertEquals(List.of(sessions.get(1), sessions.get(0)), last.getSessions());
+        assertFalse(last.hasMore());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void testPageFromTimestamp() {
+        SessionHistoryView view = sessionManager.getHistoryView();
+        SessionPage page = view.newestFirstFrom(START.plusHours(3).plusMinutes(30), 2);
+        assertEquals(List.of(sessions.get(3), sessions.get(2)), page.getSessions());
+        assertEquals(2, page.getNextCursor().getRemaining());
+
+        assertTrue(view.newestFirstFrom(START.minusDays(1), 5).getSessions().isEmpty());
+        assertEquals(5, view.newestFirstFrom(START.plusYears(1), 5).getSessions().size());
+        assertThrows(IllegalArgumentException.class, () -> view.newestFirst(0));
+    }
+
+    @Test
+    void testPageFromTimestampInUnorderedHistory() {
+        for (SessionManager.HistoryStorage storage : SessionManager.HistoryStorage.values()) {
+            SessionManager unordered = new SessionManager(storage);
+            unordered.loadHistory(sessions);
+            LocalDateTime late = START.plusHours(20);
+            LocalDateTime early = START.plusHours(2).plusMinutes(30);
+            unordered.loadHistory(List.of(
+                new FocusSession(TEST_TASK_ID, late, late.plusMinutes(25), TimerType.WORK),
+                new FocusSession(TEST_TASK_ID, early, early.plusMinutes(25), TimerType.WORK)));
+
+            LocalDateTime from = START.plusHours(15);
+            SessionHistoryView view = unordered.getHistoryView();
+            List<FocusSession> page = view.newestFirstFrom(from, 2).getSessions();
+            assertEquals(sessions.get(9).getStartTime(), page.get(0).getStartTime());
+            assertEquals(sessions.get(8).getStartTime(), page.get(1).getStartTime());
+            for (FocusSession session : view.newestFirstFrom(from, 20).getSessions()) {
+                assertFalse(session.getStartTime().isAfter(from));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.focusflow.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionEventListener;
+import com.focusflow.core.session.SessionHistoryDelta;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.StreakUnit;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for bulk history import.
+ *
+ * This class contains unit tests for verifying that imported records are
+ * validated, ordered by start time and folded into the history and its
+ * derived state with a single change notification.
+ *
+ * @see com.focusflow.core.session.SessionManager#importHistory
+ */
+class SessionImportTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 4, 9, 0);
+    private static final int SESSIONS = 2000;
+
+    @Test
+    void testImportSortsAndIndexesRecords() {
+        for (SessionManager.HistoryStorage storage : SessionManager.HistoryStorage.values()) {
+            SessionManager sessionManager = new SessionManager(storage);
+            List<String> records = records();
+            Collections.shuffle(records, new Random(42));
+
+            assertEquals(SESSIONS, sessionManager.importHistory(records, SessionImportTest::parse));
+
+            List<FocusSession> history = sessionManager.getSessionHistory();
+            assertEquals(SESSIONS, history.size());
+            for (int i = 1; i < history.size(); i++) {
+                assertFalse(history.get(i).getStartTime().isBefore(history.get(i - 1).getStartTime()));
+            }
+            assertEquals(SESSIONS / 4, sessionManager.getSessionCountForTask("task-0"));
+            assertEquals(SESSIONS / 4 * 25 * 60L, sessionManager.getTotalTimeForTask("task-0"));
+            assertEquals(SESSIONS, sessionManager.getSessionCountBetween(START, START.plusYears(1)));
+            assertEquals(SESSIONS, sessionManager.getStreaks().getBest(StreakUnit.SESSION));
+        }
+    }
+
+    @Test
+    void testImportNotifiesListenersOnce() {
+        SessionManager sessionManager = new SessionManager();
+        List<SessionHistoryDelta> deltas = new ArrayList<>();
+        int[] changes = new int[1];
+        sessionManager.addListener(new SessionEventListener() {
+            @Override
+            public void onSessionStarted(FocusSession session) {
+            }
+
+            @Override
+            public void onSessionPaused(FocusSession session) {
+            }
+
+            @Override
+            public void onSessionResumed(FocusSession session) {
+            }
+
+            @Override
+            public void onSessionEnded(FocusSession session) {
+            }
+
+            @Override
+            public void onSessionHistoryDelta(SessionHistoryDelta delta) {
+                deltas.add(delta);
+            }
+
+            @Override
+            public void onSessionHistoryChanged(List<FocusSession> history) {
+                changes[0]++;
+            }
+        });
+
+        sessionManager.importHistory(records(), SessionImportTest::parse);
+
+        assertEquals(1, changes[0]);
+        assertEquals(1, deltas.size());
+        assertEquals(SESSIONS, deltas.get(0).getAppended().size());
+        assertEquals(1, sessionManager.getHistoryVersion());
+    }
+
+    @Test
+    void testImportCarriesTrailingRunIntoNextSession() {
+        SessionManager sessionManager = new SessionManager();
+        sessionManager.importHistory(records(), SessionImportTest::parse);
+
+        assertEquals(SESSIONS, sessionManager.getConsecutiveSessionsCount());
+    }
+
+    @Test
+    void testInvalidRecordImportsNothing() {
+        SessionManager sessionManager = new SessionManager();
+        List<String> records = records();
+        records.add(SESSIONS / 2, "task-0," + START + ",,WORK");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> sessionManager.importHistory(records, SessionImportTest::parse));
+        assertTrue(sessionManager.getSessionHistory().isEmpty());
+        assertEquals(0, sessionManager.getHistoryVersion());
+        assertThrows(IllegalArgumentException.class,
+            () -> sessionManager.importHistory(null, SessionImportTest::parse));
+    }
+
+    /**
+     * Back-to-back 25 minute sessions with five minute breaks, across four
+     * tasks, as comma-separated records.
+     */
+    private static List<String> records() {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            LocalDateTime start = START.plusMinutes(30L * i);
+            records.add("task-" + (i % 4) + "," + start + "," + start.plusMinutes(25) + ",WORK");
+        }
+        return records;
+    }
+
+    private static FocusSession parse(String record) {
+        String[] fields = record.split(",", -1);
+        LocalDateTime end = fields[2].isEmpty() ? null : LocalDateTime.parse(fields[2]);
+        return new FocusSession(fields[0], LocalDateTime.parse(fields[1]), end, TimerType.valueOf(fields[3]));
+    }
+}
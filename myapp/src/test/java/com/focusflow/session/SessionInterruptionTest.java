@@ -0,0 +1,127 @@
+package com.focusflow.session;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionJournal;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for per-session interruption recording.
+ *
+ * This class contains unit tests for verifying that pauses and momentary
+ * interruptions are kept in order, that the analytics read them correctly,
+ * and that they survive the columnar store and the session journal.
+ *
+ * @see com.focusflow.core.session.FocusSession#forEachInterruption
+ */
+class SessionInterruptionTest {
+    private Path directory;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void testNoInterruptions() {
+        FocusSession session = new FocusSession("task-1");
+
+        assertEquals(0, session.getInterruptionCount());
+        assertEquals(-1, session.getSecondsToFirstInterruption());
+        assertEquals(0, session.getLongestInterruptionSeconds());
+        assertEquals(0, session.getInterruptionData().length);
+    }
+
+    @Test
+    void testInterruptionsAreRecordedInOrder() {
+        FocusSession session = interruptedSession();
+        List<long[]> intervals = new ArrayList<>();
+        session.forEachInterruption((start, length) -> intervals.add(new long[] {start, length}));
+
+        assertEquals(3, session.getInterruptionCount());
+        assertEquals(3, intervals.size());
+        assertAbout(2 * 3600, session.getSecondsToFirstInterruption());
+        assertAbout(2 * 3600, intervals.get(0)[0]);
+        assertTrue(intervals.get(1)[0] >= intervals.get(0)[0]);
+        assertTrue(intervals.get(2)[0] >= intervals.get(1)[0] + intervals.get(1)[1]);
+        assertEquals(0, session.getLongestInterruptionSeconds());
+        assertAbout(2 * 3600, session.getLongestUninterruptedSeconds());
+        // Two bytes for the first offset, one for each of the other values
+        assertEquals(7, session.getInterruptionData().length);
+    }
+
+    @Test
+    void testCompletedSessionRejectsInterruptions() {
+        FocusSession session = interruptedSession();
+
+        assertThrows(IllegalStateException.class, session::recordInterruption);
+    }
+
+    @Test
+    void testInterruptionsSurviveColumnarStore() {
+        SessionManager sessionManager = new SessionManager(SessionManager.HistoryStorage.COLUMNAR);
+        FocusSession session = interruptedSession();
+        sessionManager.loadHistory(List.of(session));
+
+        FocusSession stored = sessionManager.getSessionHistory().get(0);
+        assertArrayEquals(session.getInterruptionData(), stored.getInterruptionData());
+        assertEquals(3, stored.getInterruptionCount());
+        assertEquals(session.getLongestUninterruptedSeconds(), stored.getLongestUninterruptedSeconds());
+    }
+
+    @Test
+    void testInterruptionsSurviveJournal() throws Exception {
+        directory = Files.createTempDirectory("interruptions");
+        FocusSession session = interruptedSession();
+        try (SessionJournal journal = SessionJournal.open(directory)) {
+            journal.checkpoint(List.of(session));
+        }
+        try (SessionJournal journal = SessionJournal.open(directory)) {
+            FocusSession replayed = journal.replay().get(0);
+            assertArrayEquals(session.getInterruptionData(), replayed.getInterruptionData());
+            assertEquals(3, replayed.getInterruptionCount());
+        }
+    }
+
+    /**
+     * A session that started two hours ago, with one momentary interruption
+     * and two short pauses.
+     */
+    private static FocusSession interruptedSession() {
+        FocusSession session = new FocusSession("task-1", LocalDateTime.now().minusHours(2), null, TimerType.WORK);
+        session.recordInterruption();
+        session.pauseSession();
+        session.resumeSession();
+        session.pauseSession();
+        session.resumeSession();
+        session.endSession();
+        return session;
+    }
+
+    private static void assertAbout(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= 1, "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,264 @@
+package com.focusflow.session;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionAggregate;
+import com.focusflow.core.session.SessionJournal;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.StreakUnit;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the SessionJournal class.
+ * 
+ * This class contains unit tests for verifying that session history survives
+ * a restart through the journal, and that segments stay bounded.
+ * 
+ * @see com.focusflow.core.session.SessionJournal
+ */
+class SessionJournalTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final int SEGMENT_BYTES = 4096;
+
+    private Path directory;
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("sessions");
+        scheduler = new VirtualTimeScheduler();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    void testSessionsSurviveReopen() throws IOException {
+        List<FocusSession> ended = new ArrayList<>();
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            assertEquals(0, journal.attach(manager));
+            for (int i = 0; i < 3; i++) {
+                FocusSession session = manager.startSession("task-" + i);
+                manager.pauseCurrentSession();
+                manager.resumeCurrentSession();
+                session.recordSuspension(i);
+                manager.endCurrentSession();
+                ended.add(session);
+            }
+            manager.startSession("task-open");
+        }
+
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            assertEquals(3, journal.attach(manager));
+            assertEquals(1, journal.getInterruptedSessionCount());
+            List<FocusSession> history = manager.getSessionHistory();
+            for (int i = 0; i < 3; i++) {
+                FocusSession expected = ended.get(i);
+                FocusSession restored = history.get(i);
+                assertEquals(expected.getId(), restored.getId());
+                assertEquals(expected.getAssociatedTaskId(), restored.getAssociatedTaskId());
+                assertEquals(expected.getStartTime(), restored.getStartTime());
+                assertEquals(expected.getEndTime(), restored.getEndTime());
+                assertEquals(expected.getDurationSeconds(), restored.getDurationSeconds());
+                assertEquals(i, restored.getSuspendedDurationSeconds());
+                assertEquals(TimerType.WORK, restored.getTimerType());
+            }
+        }
+    }
+
+    @Test
+    void testSegmentsRollAndStayBounded() throws IOException {
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            journal.attach(manager);
+            manager.loadHistory(sessions(500));
+        }
+
+        try (SessionJournal journal = open()) {
+            List<Path> segments = journal.listSegments();
+            assertTrue(segments.size() > 1);
+            for (Path segment : segments) {
+                assertTrue(Files.size(segment) <= SEGMENT_BYTES);
+            }
+            SessionManager manager = new SessionManager();
+            assertEquals(500, journal.attach(manager));
+            assertEquals(167, manager.getSessionCountForTask("task-1"));
+        }
+    }
+
+    @Test
+    void testTornRecordIsDropped() throws IOException {
+        List<Path> segments;
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            journal.attach(manager);
+            manager.loadHistory(sessions(3));
+            segments = journal.listSegments();
+        }
+        Path last = segments.get(segments.size() - 1);
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        try (SessionJournal journal = open()) {
+            assertEquals(2, journal.replay().size());
+        }
+    }
+
+    @Test
+    void testCheckpointReplacesOldSegments() throws IOException {
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            journal.attach(manager);
+            manager.loadHistory(sessions(300));
+            manager.loadHistory(sessions(300));
+            int before = journal.listSegments().size();
+
+            journal.checkpoint(manager.getSessionHistory().subList(300, 600));
+            assertTrue(journal.listSegments().size() < before);
+        }
+
+        try (SessionJournal journal = open()) {
+            assertEquals(300, journal.replay().size());
+        }
+    }
+
+    @Test
+    void testCompactedTotalsSurviveReopen() throws IOException {
+        LocalDate firstDay = START.toLocalDate();
+        SessionAggregate day;
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            journal.attach(manager);
+            manager.loadHistory(sessions(100));
+            manager.setRetentionDays(1);
+            assertEquals(78, manager.compact(1000));
+            day = manager.getDaySummary(firstDay);
+        }
+
+        for (int round = 0; round < 2; round++) {
+            try (SessionJournal journal = open()) {
+                List<FocusSession> replayed = journal.replay();
+                assertEquals(22, replayed.size());
+                assertEquals(START.plusMinutes(30L * 78), replayed.get(0).getStartTime());
+
+                SessionManager manager = new SessionManager();
+                assertEquals(22, journal.attach(manager));
+                assertEquals(78, manager.getCompactedSessionCount());
+                assertEquals(34, manager.getSessionCountForTask("task-0"));
+                assertEquals(34 * 25 * 60, manager.getTotalTimeForTask("task-0"));
+                assertEquals(100, manager.getSessionCountBetween(START, START.plusDays(10)));
+                SessionAggregate restored = manager.getDaySummary(firstDay);
+                assertEquals(day.getSessionCount(), restored.getSessionCount());
+                assertEquals(day.getTotalSeconds(), restored.getTotalSeconds());
+                assertEquals(day.getLongestRun(), restored.getLongestRun());
+                assertEquals(day.getSessionCount(), manager.getDaySummary(firstDay, "task-1").getSessionCount() * 3);
+                assertEquals(3, manager.getStreaks().getBest(StreakUnit.DAY));
+            }
+        }
+    }
+
+    @Test
+    void testAttachKeepsCleanSegments() throws IOException {
+        try (SessionJournal journal = open()) {
+            SessionManager manager = new SessionManager();
+            journal.attach(manager);
+            manager.loadHistory(sessions(300));
+            manager.startSession("task-open");
+        }
+
+        List<Path> before;
+        try (SessionJournal journal = open()) {
+            before = journal.listSegments();
+            assertEquals(300, journal.attach(new SessionManager()));
+            List<Path> after = journal.listSegments();
+            // Only the last segment held a start record, so the others are left as they were
+            assertEquals(before.subList(0, before.size() - 1), after.subList(0, before.size() - 1));
+            assertFalse(after.contains(before.get(before.size() - 1)));
+        }
+
+        try (SessionJournal journal = open()) {
+            List<Path> folded = journal.listSegments();
+            assertEquals(300, journal.attach(new SessionManager()));
+            // Nothing was recorded since, so there is nothing to fold
+            assertEquals(folded, journal.listSegments());
+        }
+    }
+
+    @Test
+    void testReopeningFoldsSegmentsIntoCheckpoint() throws IOException {
+        int segments = 0;
+        for (int round = 0; round < 5; round++) {
+            try (SessionJournal journal = open()) {
+                SessionManager manager = new SessionManager();
+                assertEquals(round == 0 ? 0 : 100, journal.attach(manager));
+                if (round == 0) {
+                    manager.loadHistory(sessions(100));
+                }
+                manager.startSession("task-open");
+            }
+            try (SessionJournal journal = open()) {
+                if (round == 1) {
+                    segments = journal.listSegments().size();
+                } else if (round > 1) {
+                    // Each open replaces the segments it replayed instead of adding to them
+                    assertEquals(segments, journal.listSegments().size());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIntervalFlushIsScheduledOnce() throws IOException {
+        try (SessionJournal journal = SessionJournal.open(directory, SEGMENT_BYTES, 1000, 50, scheduler)) {
+            SessionManager manager = new SessionManager();
+            journal.attach(manager);
+            manager.loadHistory(sessions(10));
+            assertEquals(1, scheduler.getPendingCount());
+            scheduler.runUntilIdle();
+            assertEquals(0, scheduler.getPendingCount());
+        }
+        assertThrows(IllegalArgumentException.class, () -> SessionJournal.open(directory, 100, 1, 1, scheduler));
+    }
+
+    private SessionJournal open() throws IOException {
+        return SessionJournal.open(directory, SEGMENT_BYTES, 8, 100, scheduler);
+    }
+
+    private static List<FocusSession> sessions(int count) {
+        List<FocusSession> sessions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = START.plusMinutes(30L * i);
+            sessions.add(new FocusSession("task-" + (i % 3), start, start.plusMinutes(25), TimerType.WORK));
+        }
+        return sessions;
+    }
+}
@@ -1,12 +1,16 @@
 package com.focusflow.session;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +18,10 @@ import org.junit.jupiter.api.Test;
 import com.focusflow.core.session.FocusSession;
 import com.focusflow.core.session.SessionEventListener;
 import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.StreakUnit;
 import com.focusflow.core.task.Task;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
 
 /**
  * Test class for the SessionManager class.
@@ -120,6 +127,39 @@ class SessionManagerTest {
         assertTrue(totalTime >= 2, "Total time should be at least 2 seconds, but was " + totalTime);
     }
 
+    @Test
+    void testLoadHistoryBuildsTaskIndex() {
+        String taskId = testTask.getId().toString();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+        AtomicInteger historyEvents = new AtomicInteger();
+        listener.setOnHistoryChangedCallback(historyEvents::incrementAndGet);
+
+        sessionManager.loadHistory(List.of(
+            new FocusSession(taskId, start, start.plusMinutes(25), TimerType.WORK),
+            new FocusSession("other-task", start.plusMinutes(30), start.plusMinutes(55), TimerType.WORK),
+            new FocusSession(taskId, start.plusMinutes(60), start.plusMinutes(70), TimerType.WORK)));
+
+        assertEquals(1, historyEvents.get());
+        assertEquals(3, sessionManager.getSessionHistory().size());
+        assertEquals(2, sessionManager.getSessionCountForTask(taskId));
+        assertEquals(35 * 60, sessionManager.getTotalTimeForTask(taskId));
+        assertEquals(25 * 60, sessionManager.getTotalTimeForTask("other-task"));
+        assertEquals(0, sessionManager.getTotalTimeForTask("unknown-task"));
+        assertTrue(sessionManager.getSessionsForTask("unknown-task").isEmpty());
+
+        sessionManager.startSession(taskId);
+        sessionManager.endCurrentSession();
+        assertEquals(3, sessionManager.getSessionCountForTask(taskId));
+        assertEquals(3, sessionManager.getSessionsForTask(taskId).size());
+    }
+
+    @Test
+    void testLoadHistoryRejectsActiveSessions() {
+        FocusSession active = new FocusSession(testTask.getId().toString());
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.loadHistory(List.of(active)));
+        assertTrue(sessionManager.getSessionHistory().isEmpty());
+    }
+
     @Test
     void testSessionEvents() throws InterruptedException {
         CountDownLatch startLatch = new CountDownLatch(1);
@@ -135,6 +175,36 @@ class SessionManagerTest {
         assertTrue(endLatch.await(1, TimeUnit.SECONDS));
     }
 
+    @Test
+    void testSessionsFollowASimulatedClock() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 4, 9, 0);
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(start.toInstant(ZoneOffset.UTC).toEpochMilli());
+        SessionManager manager = new SessionManager(SessionManager.HistoryStorage.OBJECTS,
+            scheduler.clock().withZone(ZoneOffset.UTC));
+
+        FocusSession first = manager.startSession("task-1");
+        scheduler.advance(10, TimeUnit.MINUTES);
+        manager.pauseCurrentSession();
+        scheduler.advance(5, TimeUnit.MINUTES);
+        manager.resumeCurrentSession();
+        scheduler.advance(15, TimeUnit.MINUTES);
+        manager.endCurrentSession();
+
+        assertEquals(start, first.getStartTime());
+        assertEquals(start.plusMinutes(30), first.getEndTime());
+        assertEquals(25 * 60, first.getDurationSeconds());
+        assertEquals(5 * 60, first.getPausedDurationSeconds());
+
+        scheduler.advance(1, TimeUnit.DAYS);
+        FocusSession second = manager.startSession("task-1");
+        scheduler.advance(25, TimeUnit.MINUTES);
+        manager.endCurrentSession();
+
+        assertEquals(start.plusDays(1).plusMinutes(30), second.getStartTime());
+        assertEquals(1, manager.getSessionCountOn(start.toLocalDate().plusDays(1)));
+        assertEquals(2, manager.getStreaks().getCurrent(StreakUnit.DAY));
+    }
+
     private static class TestSessionListener implements SessionEventListener {
         private Runnable onStartCallback;
         private Runnable onPauseCallback;
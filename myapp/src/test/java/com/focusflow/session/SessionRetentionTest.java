@@ -0,0 +1,175 @@
+package com.focusflow.session;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionAggregate;
+import com.focusflow.core.session.SessionEventListener;
+import com.focusflow.core.session.SessionHistoryDelta;
+import com.focusflow.core.session.SessionHistoryView;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.SessionPage;
+import com.focusflow.core.session.StreakUnit;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for session retention and compaction.
+ * 
+ * This class contains unit tests for verifying that sessions outside the
+ * retention period are folded into aggregates, and that counts, totals,
+ * summaries and streaks still include them.
+ * 
+ * @see com.focusflow.core.session.SessionAggregate
+ */
+class SessionRetentionTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final int DAYS = 60;
+    private static final int SESSIONS_PER_DAY = 4;
+
+    @Test
+    void testOldSessionsAreCompactedIntoAggregates() {
+        for (SessionManager.HistoryStorage storage : SessionManager.HistoryStorage.values()) {
+            SessionManager sessionManager = new SessionManager(storage);
+            sessionManager.setRetentionDays(7);
+            sessionManager.loadHistory(history());
+
+            assertEquals(7 * SESSIONS_PER_DAY, sessionManager.getSessionHistory().size());
+            assertEquals((DAYS - 7) * SESSIONS_PER_DAY, sessionManager.getCompactedSessionCount());
+            assertEquals(START.plusDays(DAYS - 7).toLocalDate(),
+                sessionManager.getSessionHistory().get(0).getStartTime().toLocalDate());
+
+            // Counts and totals still cover compacted sessions
+            assertEquals(DAYS * 2, sessionManager.getSessionCountForTask("task-0"));
+            assertEquals(DAYS * 2 * 25 * 60L, sessionManager.getTotalTimeForTask("task-0"));
+            assertEquals(7 * 2, sessionManager.getSessionsForTask("task-0").size());
+            assertEquals(SESSIONS_PER_DAY, sessionManager.getSessionCountOn(START.toLocalDate()));
+            assertEquals(DAYS * SESSIONS_PER_DAY,
+                sessionManager.getSessionCountBetween(START.minusDays(1), START.plusDays(DAYS)));
+            assertEquals(7 * SESSIONS_PER_DAY,
+                sessionManager.getSessionsBetween(START.minusDays(1), START.plusDays(DAYS)).size());
+        }
+    }
+
+    @Test
+    void testDaySummaryCombinesAggregatesAndKeptSessions() {
+        SessionManager sessionManager = new SessionManager();
+        sessionManager.setRetentionDays(7);
+        sessionManager.loadHistory(history());
+
+        LocalDate compacted = START.toLocalDate();
+        LocalDate kept = START.plusDays(DAYS - 1).toLocalDate();
+        for (LocalDate date : List.of(compacted, kept)) {
+            SessionAggregate summary = sessionManager.getDaySummary(date);
+            assertEquals(SESSIONS_PER_DAY, summary.getSessionCount());
+            assertEquals(SESSIONS_PER_DAY * 25 * 60L, summary.getTotalSeconds());
+            assertEquals(3, summary.getWorkSessionCount());
+            assertEquals(2, summary.getLongestRun());
+
+            SessionAggregate task = sessionManager.getDaySummary(date, "task-1");
+            assertEquals(2, task.getSessionCount());
+            assertEquals("task-1", task.getTaskId());
+        }
+        assertEquals(0, sessionManager.getDaySummary(START.minusDays(5).toLocalDate()).getSessionCount());
+    }
+
+    @Test
+    void testCompactionRunsInBoundedSteps() {
+        SessionManager sessionManager = new SessionManager();
+        sessionManager.loadHistory(history());
+        SessionHistoryView before = sessionManager.getHistoryView();
+        SessionPage page = before.newestFirst(10);
+        List<SessionHistoryDelta> deltas = new ArrayList<>();
+        sessionManager.addListener(new SessionEventListener() {
+            @Override
+            public void onSessionStarted(FocusSession session) {}
+
+            @Override
+            public void onSessionPaused(FocusSession session) {}
+
+            @Override
+            public void onSessionResumed(FocusSession session) {}
+
+            @Override
+            public void onSessionEnded(FocusSession session) {}
+
+            @Override
+            public void onSessionHistoryDelta(SessionHistoryDelta delta) {
+                deltas.add(delta);
+            }
+        });
+
+        sessionManager.setRetentionDays(30);
+        assertEquals(50, sessionManager.compact(50));
+        assertEquals(70, sessionManager.compact(1000));
+        assertEquals(0, sessionManager.compact(1000));
+        assertEquals(2, deltas.size());
+        assertEquals(50, deltas.get(0).getRemoved().size());
+        assertTrue(deltas.get(0).getAppended().isEmpty());
+
+        // Earlier snapshots and their cursors keep working
+        assertEquals(DAYS * SESSIONS_PER_DAY, before.size());
+        assertEquals(10, before.page(page.getNextCursor(), 10).getSessions().size());
+        SessionPage current = sessionManager.getHistoryView().page(page.getNextCursor(), 1000);
+        assertEquals(30 * SESSIONS_PER_DAY - 10, current.getSessions().size());
+        assertFalse(current.hasMore());
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.compact(0));
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.setRetentionDays(-1));
+    }
+
+    @Test
+    void testSessionEndCompactsABoundedBatch() {
+        Clock clock = Clock.fixed(START.plusDays(DAYS).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        SessionManager sessionManager = new SessionManager(SessionManager.HistoryStorage.OBJECTS, clock);
+        sessionManager.loadHistory(history());
+        sessionManager.setRetentionDays(7);
+
+        // Every loaded session is now a backlog; each session end works off one batch
+        for (int ended = 1; ended <= 3; ended++) {
+            sessionManager.startSession("task-0");
+            sessionManager.endCurrentSession();
+            assertEquals(ended * SessionManager.COMPACTION_BATCH, sessionManager.getCompactedSessionCount());
+        }
+    }
+
+    @Test
+    void testStreaksRebuildAcrossCompactedDays() {
+        SessionManager sessionManager = new SessionManager();
+        sessionManager.setRetentionDays(7);
+        sessionManager.loadHistory(history());
+        sessionManager.rebuildStreaks();
+
+        assertEquals(DAYS, sessionManager.getStreaks().getBest(StreakUnit.DAY));
+        assertEquals(DAYS, sessionManager.getStreaks().getCurrent(StreakUnit.DAY));
+        assertEquals(2, sessionManager.getStreaks().getBest(StreakUnit.SESSION));
+        assertEquals(DAYS, sessionManager.getStreaksForTask("task-1").orElseThrow().getBest(StreakUnit.DAY));
+    }
+
+    /**
+     * Builds a history with two back-to-back work sessions, a break, and a
+     * later work session every day.
+     */
+    private static List<FocusSession> history() {
+        List<FocusSession> sessions = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDateTime morning = START.plusDays(day);
+            sessions.add(new FocusSession("task-0", morning, morning.plusMinutes(25), TimerType.WORK));
+            sessions.add(new FocusSession("task-1", morning.plusMinutes(30), morning.plusMinutes(55), TimerType.WORK));
+            sessions.add(new FocusSession("task-1", morning.plusMinutes(55), morning.plusMinutes(80),
+                TimerType.SHORT_BREAK));
+            sessions.add(new FocusSession("task-0", morning.plusHours(5), morning.plusHours(5).plusMinutes(25),
+                TimerType.WORK));
+        }
+        return sessions;
+    }
+}
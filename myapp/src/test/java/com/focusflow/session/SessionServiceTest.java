@@ -0,0 +1,135 @@
+package com.focusflow.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionHistoryView;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.SessionService;
+
+/**
+ * Test class for the multi-user session service.
+ *
+ * This class contains unit tests for verifying that users are kept apart,
+ * that many threads can drive different users at once, and that history
+ * reads see consistent snapshots while sessions are being recorded.
+ *
+ * @see com.focusflow.core.session.SessionService
+ */
+class SessionServiceTest {
+    private static final int THREADS = 8;
+    private static final int USERS_PER_THREAD = 25;
+    private static final int SESSIONS_PER_USER = 40;
+
+    @Test
+    void testUsersAreIndependent() {
+        SessionService service = new SessionService();
+        FocusSession session = service.startSession("alice", "task-1");
+        service.startSession("bob", "task-2");
+        service.pauseSession("alice");
+
+        assertEquals(session, service.getCurrentSession("alice").orElseThrow());
+        assertTrue(service.getCurrentSession("alice").orElseThrow().isPaused());
+        assertFalse(service.getCurrentSession("bob").orElseThrow().isPaused());
+
+        service.resumeSession("alice");
+        service.endSession("alice");
+        assertFalse(service.getCurrentSession("alice").isPresent());
+        assertEquals(1, service.getHistory("alice").size());
+        assertEquals(0, service.getHistory("bob").size());
+        assertEquals(1, (int) service.query("alice", manager -> manager.getSessionCountForTask("task-1")));
+        assertEquals(2, service.getUserCount());
+    }
+
+    @Test
+    void testUnknownUsers() {
+        SessionService service = new SessionService();
+
+        assertThrows(IllegalStateException.class, () -> service.endSession("nobody"));
+        assertThrows(IllegalArgumentException.class, () -> service.startSession(" ", "task-1"));
+        assertFalse(service.getCurrentSession("nobody").isPresent());
+        assertEquals(0, service.getHistory("nobody").size());
+        assertEquals(0, service.getConsecutiveSessionsCount("nobody"));
+        assertFalse(service.hasUser("nobody"));
+    }
+
+    @Test
+    void testRemoveUserEndsOpenSession() {
+        SessionService service = new SessionService();
+        service.startSession("alice", "task-1");
+
+        SessionManager manager = service.removeUser("alice").orElseThrow();
+
+        assertFalse(manager.getCurrentSession().isPresent());
+        assertEquals(1, manager.getSessionHistory().size());
+        assertFalse(service.hasUser("alice"));
+        assertFalse(service.removeUser("alice").isPresent());
+    }
+
+    @Test
+    void testConcurrentUsers() throws Exception {
+        SessionService service = new SessionService(() -> new SessionManager(SessionManager.HistoryStorage.COLUMNAR));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int s = 0; s < SESSIONS_PER_USER; s++) {
+                        for (int u = 0; u < USERS_PER_THREAD; u++) {
+                            String userId = "user-" + thread + "-" + u;
+                            service.startSession(userId, "task-" + (s % 3));
+                            service.pauseSession(userId);
+                            service.resumeSession(userId);
+                            service.endSession(userId);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<Integer> reader = executor.submit(() -> {
+                start.await();
+                int reads = 0;
+                while (!writers.stream().allMatch(Future::isDone)) {
+                    SessionHistoryView history = service.getHistory("user-0-0");
+                    for (FocusSession session : history) {
+                        assertTrue(session.isCompleted());
+                    }
+                    reads++;
+                }
+                return reads;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * USERS_PER_THREAD, service.getUserCount());
+        for (int t = 0; t < THREADS; t++) {
+            for (int u = 0; u < USERS_PER_THREAD; u++) {
+                String userId = "user-" + t + "-" + u;
+                assertEquals(SESSIONS_PER_USER, service.getHistory(userId).size());
+                assertFalse(service.getCurrentSession(userId).isPresent());
+            }
+        }
+    }
+}
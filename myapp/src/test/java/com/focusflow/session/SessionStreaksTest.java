@@ -0,0 +1,111 @@
+package com.focusflow.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.session.SessionStreaks;
+import com.focusflow.core.session.StreakUnit;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for the SessionStreaks class.
+ * 
+ * This class contains unit tests for verifying that session, day and week
+ * streaks are maintained as history is appended, overall and per task.
+ * 
+ * @see com.focusflow.core.session.SessionStreaks
+ */
+class SessionStreaksTest {
+    // A Monday
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SessionManager sessionManager;
+    private List<FocusSession> sessions;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager();
+        sessions = new ArrayList<>();
+    }
+
+    @Test
+    void testSessionStreakFollowsBreakRule() {
+        add("a", START, TimerType.WORK);
+        add("a", START.plusMinutes(30), TimerType.WORK);
+        add("a", START.plusMinutes(55), TimerType.SHORT_BREAK);
+        add("b", START.plusMinutes(65), TimerType.WORK);
+        add("a", START.plusHours(4), TimerType.WORK);
+        sessionManager.loadHistory(sessions);
+
+        SessionStreaks streaks = sessionManager.getStreaks();
+        assertEquals(1, streaks.getCurrent(StreakUnit.SESSION));
+        assertEquals(3, streaks.getBest(StreakUnit.SESSION));
+        assertEquals(0, streaks.getCurrent(StreakUnit.SESSION, START.plusHours(6)));
+        assertEquals(1, streaks.getCurrent(StreakUnit.SESSION, START.plusHours(4).plusMinutes(30)));
+    }
+
+    @Test
+    void testDayAndWeekStreaks() {
+        for (int day : new int[] {0, 1, 2, 5, 6, 14, 15, 21}) {
+            add("a", START.plusDays(day), TimerType.WORK);
+            add("b", START.plusDays(day).plusHours(3), TimerType.WORK);
+        }
+        sessionManager.loadHistory(sessions);
+
+        SessionStreaks streaks = sessionManager.getStreaks();
+        assertEquals(1, streaks.getCurrent(StreakUnit.DAY));
+        assertEquals(3, streaks.getBest(StreakUnit.DAY));
+        assertEquals(2, streaks.getCurrent(StreakUnit.WEEK));
+        assertEquals(2, streaks.getBest(StreakUnit.WEEK));
+        assertEquals(1, streaks.getCurrent(StreakUnit.DAY, START.plusDays(22).plusHours(14)));
+        assertEquals(0, streaks.getCurrent(StreakUnit.DAY, START.plusDays(23)));
+        assertEquals(2, streaks.getCurrent(StreakUnit.WEEK, START.plusDays(34)));
+        assertEquals(0, streaks.getCurrent(StreakUnit.WEEK, START.plusDays(35)));
+
+        SessionStreaks taskStreaks = sessionManager.getStreaksForTask("b").orElseThrow();
+        assertEquals(3, taskStreaks.getBest(StreakUnit.DAY));
+        assertEquals(1, taskStreaks.getBest(StreakUnit.SESSION));
+        assertFalse(sessionManager.getStreaksForTask("unknown").isPresent());
+    }
+
+    @Test
+    void testStreaksUpdateAsSessionsEnd() {
+        sessionManager.startSession("a");
+        sessionManager.endCurrentSession();
+        sessionManager.startSession("a");
+        sessionManager.endCurrentSession();
+
+        SessionStreaks streaks = sessionManager.getStreaks();
+        assertEquals(2, streaks.getCurrent(StreakUnit.SESSION));
+        assertEquals(1, streaks.getCurrent(StreakUnit.DAY));
+        assertEquals(2, sessionManager.getStreaksForTask("a").orElseThrow().getCurrent(StreakUnit.SESSION));
+    }
+
+    @Test
+    void testRebuildAppliesNewBreakRule() {
+        add("a", START, TimerType.WORK);
+        add("a", START.plusMinutes(50), TimerType.WORK);
+        sessionManager.loadHistory(sessions);
+        SessionStreaks streaks = sessionManager.getStreaks();
+        assertEquals(1, streaks.getCurrent(StreakUnit.SESSION));
+
+        sessionManager.setLongBreakMinutes(30);
+        sessionManager.rebuildStreaks();
+        assertSame(streaks, sessionManager.getStreaks());
+        assertEquals(2, streaks.getCurrent(StreakUnit.SESSION));
+        assertEquals(2, streaks.getBest(StreakUnit.SESSION));
+    }
+
+    private void add(String taskId, LocalDateTime start, TimerType type) {
+        sessions.add(new FocusSession(taskId, start, start.plusMinutes(25), type));
+    }
+}
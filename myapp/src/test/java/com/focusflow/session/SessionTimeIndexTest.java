@@ -0,0 +1,110 @@
+package com.focusflow.session;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for time-range queries on the session history.
+ * 
+ * This class contains unit tests for verifying that range lookups through the
+ * start-time index match a linear scan of the history, for both storage
+ * kinds and across gaps in the history.
+ * 
+ * @see com.focusflow.core.session.SessionManager#getSessionsBetween(LocalDateTime, LocalDateTime)
+ */
+class SessionTimeIndexTest {
+    private static final LocalDateTime START = LocalDateTime.of(2022, 1, 1, 8, 0);
+
+    @Test
+    void testRangesMatchLinearScan() {
+        for (SessionManager.HistoryStorage storage : SessionManager.HistoryStorage.values()) {
+            SessionManager sessionManager = new SessionManager(storage);
+            List<FocusSession> sessions = multiYearHistory();
+            sessionManager.loadHistory(sessions);
+
+            Random random = new Random(42);
+            for (int i = 0; i < 200; i++) {
+                LocalDateTime from = START.minusDays(3).plusMinutes(random.nextInt(60 * 24 * 1200));
+                LocalDateTime to = from.plusMinutes(random.nextInt(60 * 24 * 40));
+                List<FocusSession> expected = scan(sessions, from, to);
+                List<FocusSession> actual = sessionManager.getSessionsBetween(from, to);
+
+                assertEquals(expected.size(), actual.size());
+                assertEquals(expected.size(), sessionManager.getSessionCountBetween(from, to));
+                for (int j = 0; j < expected.size(); j++) {
+                    assertEquals(expected.get(j).getId(), actual.get(j).getId());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBoundsAreInclusiveAndExclusive() {
+        SessionManager sessionManager = new SessionManager();
+        sessionManager.loadHistory(multiYearHistory());
+
+        LocalDateTime first = START.plusMinutes(30);
+        assertEquals(1, sessionManager.getSessionCountBetween(first, first.plusMinutes(30)));
+        assertEquals(0, sessionManager.getSessionCountBetween(first, first));
+        assertEquals(4, sessionManager.getSessionCountOn(START.toLocalDate()));
+        assertEquals(0, sessionManager.getSessionCountOn(LocalDate.of(2021, 12, 31)));
+        assertEquals(0, sessionManager.getSessionCountOn(LocalDate.of(2030, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.getSessionsBetween(first, START));
+        assertThrows(IllegalArgumentException.class, () -> sessionManager.getSessionCountOn(null));
+    }
+
+    @Test
+    void testOutOfOrderHistoryFallsBackToScan() {
+        SessionManager sessionManager = new SessionManager();
+        List<FocusSession> sessions = multiYearHistory();
+        sessionManager.loadHistory(sessions);
+        FocusSession early = new FocusSession("early", START.minusDays(1), START.minusDays(1).plusMinutes(25),
+            TimerType.WORK);
+        sessionManager.loadHistory(List.of(early));
+
+        List<FocusSession> found = sessionManager.getSessionsBetween(START.minusDays(2), START.plusHours(1));
+        assertEquals(2, found.size());
+        assertTrue(found.contains(early));
+        assertEquals(1, sessionManager.getSessionCountOn(START.toLocalDate().minusDays(1)));
+    }
+
+    /**
+     * Builds about three years of history with four sessions on most days
+     * and a few weeks without any.
+     */
+    private static List<FocusSession> multiYearHistory() {
+        List<FocusSession> sessions = new ArrayList<>();
+        for (int day = 0; day < 365 * 3; day++) {
+            if (day != 0 && day % 100 < 14) {
+                continue;
+            }
+            for (int slot = 0; slot < 4; slot++) {
+                LocalDateTime start = START.plusDays(day).plusMinutes(30 + 90L * slot);
+                sessions.add(new FocusSession("task-" + slot, start, start.plusMinutes(25), TimerType.WORK));
+            }
+        }
+        return sessions;
+    }
+
+    private static List<FocusSession> scan(List<FocusSession> sessions, LocalDateTime from, LocalDateTime to) {
+        List<FocusSession> matching = new ArrayList<>();
+        for (FocusSession session : sessions) {
+            if (!session.getStartTime().isBefore(from) && session.getStartTime().isBefore(to)) {
+                matching.add(session);
+            }
+        }
+        return matching;
+    }
+}
@@ -0,0 +1,202 @@
+package com.focusflow.timer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.timer.AsyncTimerEventDispatcher;
+import com.focusflow.core.timer.ListenerDispatchStats;
+import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.Timer;
+import com.focusflow.core.timer.TimerEvent;
+import com.focusflow.core.timer.TimerEventListener;
+import com.focusflow.core.timer.TimerType;
+
+/**
+ * Test class for the AsyncTimerEventDispatcher class.
+ *
+ * This class contains unit tests for verifying that listeners are isolated
+ * from each other and from the producing thread, that ticks are conflated for
+ * slow listeners and that lagging listeners show up in the statistics.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.AsyncTimerEventDispatcher
+ */
+class AsyncTimerEventDispatcherTest {
+    private ExecutorService executor;
+    private AsyncTimerEventDispatcher dispatcher;
+    private Timer timer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        dispatcher = new AsyncTimerEventDispatcher(executor, 16,
+            AsyncTimerEventDispatcher.TickPolicy.CONFLATE, 20, TimeUnit.MILLISECONDS);
+        timer = new PomodoroTimer(TimerType.WORK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSlowListenerDoesNotBlockProducerOrOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastCompleted = new CountDownLatch(1);
+        TimerEventListener slow = new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerStarted(Timer timer) {
+                awaitQuietly(release);
+            }
+        };
+        TimerEventListener fast = new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                fastCompleted.countDown();
+            }
+        };
+
+        long before = System.nanoTime();
+        dispatcher.dispatch(slow, new TimerEvent(TimerEvent.Kind.STARTED, timer, 10));
+        dispatcher.dispatch(fast, new TimerEvent(TimerEvent.Kind.COMPLETED, timer, 0));
+        assertTrue(System.nanoTime() - before < TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertTrue(fastCompleted.await(1, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertTrue(dispatcher.getLaggingListeners().stream()
+            .anyMatch(stats -> stats.getListener() == slow));
+        release.countDown();
+    }
+
+    @Test
+    void testTicksAreConflatedForBusyListener() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch lastTick = new CountDownLatch(1);
+        List<Integer> ticks = new CopyOnWriteArrayList<>();
+        TimerEventListener listener = new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerStarted(Timer timer) {
+                awaitQuietly(release);
+            }
+
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                ticks.add(remainingSeconds);
+                if (remainingSeconds == 0) {
+                    lastTick.countDown();
+                }
+            }
+        };
+
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.STARTED, timer, 10));
+        for (int remaining = 9; remaining >= 0; remaining--) {
+            dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.TICK, timer, remaining));
+        }
+        release.countDown();
+
+        assertTrue(lastTick.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(0), ticks);
+        ListenerDispatchStats stats = dispatcher.getStats().get(0);
+        assertEquals(9, stats.getConflatedTicks());
+    }
+
+    @Test
+    void testConflatedTickIsNotDeliveredAfterLaterStateEvents() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch lastTick = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        TimerEventListener listener = new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerPaused(Timer timer) {
+                awaitQuietly(release);
+                received.add("paused");
+            }
+
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                received.add("completed");
+            }
+
+            @Override
+            public void onTimerStarted(Timer timer) {
+                received.add("started");
+            }
+
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                received.add("tick " + remainingSeconds);
+                if (remainingSeconds == 25) {
+                    lastTick.countDown();
+                }
+            }
+        };
+
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.PAUSED, timer, 10));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.TICK, timer, 1));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.COMPLETED, timer, 0));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.STARTED, timer, 30));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.TICK, timer, 26));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.TICK, timer, 25));
+        release.countDown();
+
+        assertTrue(lastTick.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of("paused", "tick 1", "completed", "started", "tick 25"), received);
+        assertEquals(1, dispatcher.getStats().get(0).getConflatedTicks());
+    }
+
+    @Test
+    void testEventsArriveInOrder() throws InterruptedException {
+        CountDownLatch reset = new CountDownLatch(1);
+        List<TimerEvent.Kind> received = new CopyOnWriteArrayList<>();
+        TimerEventListener listener = new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerStarted(Timer timer) {
+                received.add(TimerEvent.Kind.STARTED);
+            }
+
+            @Override
+            public void onTimerPaused(Timer timer) {
+                received.add(TimerEvent.Kind.PAUSED);
+            }
+
+            @Override
+            public void onTimerStopped(Timer timer) {
+                received.add(TimerEvent.Kind.STOPPED);
+            }
+
+            @Override
+            public void onTimerReset(Timer timer) {
+                received.add(TimerEvent.Kind.RESET);
+                reset.countDown();
+            }
+        };
+
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.STARTED, timer, 10));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.PAUSED, timer, 9));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.STOPPED, timer, 9));
+        dispatcher.dispatch(listener, new TimerEvent(TimerEvent.Kind.RESET, timer, 10));
+
+        assertTrue(reset.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(TimerEvent.Kind.STARTED, TimerEvent.Kind.PAUSED,
+            TimerEvent.Kind.STOPPED, TimerEvent.Kind.RESET), received);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.focusflow.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.Distraction;
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.SessionService;
+import com.focusflow.core.timer.BreakDistractionListener;
+import com.focusflow.core.timer.PomodoroCycle;
+import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.TickResolution;
+import com.focusflow.core.timer.TimerEventDispatcher;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the BreakDistractionListener class.
+ *
+ * This class contains unit tests for verifying that distractions captured
+ * during a work phase are surfaced together when the break phase starts.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.BreakDistractionListener
+ */
+class BreakDistractionListenerTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+    private static final String TEST_USER_ID = "test-user-id";
+
+    @Test
+    void testDistractionsSurfaceWhenBreakStarts() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(1_700_000_000_000L);
+        List<List<Distraction>> surfaced = new ArrayList<>();
+        PomodoroCycle cycle = new PomodoroCycle(2, 25 * 60, 5 * 60, 15 * 60, scheduler);
+        cycle.setCurrentTaskId(TEST_TASK_ID);
+        cycle.setEventDispatcher(TimerEventDispatcher.synchronous());
+        cycle.addListener(new BreakDistractionListener(surfaced::add), TickResolution.stateChangesOnly());
+
+        cycle.start();
+        FocusSession session = cycle.getSessionManager().getCurrentSession().orElseThrow();
+        session.captureDistraction("email");
+        session.captureDistraction("phone");
+        assertTrue(surfaced.isEmpty());
+
+        scheduler.advance(25, TimeUnit.MINUTES);
+        assertEquals(1, surfaced.size());
+        assertEquals(2, surfaced.get(0).size());
+        assertEquals("email", surfaced.get(0).get(0).getNote());
+
+        // Nothing captured before the second break, so nothing is surfaced
+        scheduler.runUntilIdle();
+        assertEquals(1, surfaced.size());
+        assertEquals(2, session.getDistractions().size());
+    }
+
+    @Test
+    void testAsyncListenerDrainsTimersOwnSession() throws Exception {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(1_700_000_000_000L);
+        BlockingQueue<List<Distraction>> surfaced = new LinkedBlockingQueue<>();
+        PomodoroCycle cycle = new PomodoroCycle(1, 25 * 60, 5 * 60, 15 * 60, scheduler);
+        cycle.setCurrentTaskId(TEST_TASK_ID);
+        cycle.addListener(new BreakDistractionListener(surfaced::add), TickResolution.stateChangesOnly());
+
+        cycle.start();
+        cycle.getSessionManager().getCurrentSession().orElseThrow().captureDistraction("email");
+        scheduler.advance(25, TimeUnit.MINUTES);
+
+        List<Distraction> drained = surfaced.poll(5, TimeUnit.SECONDS);
+        assertNotNull(drained);
+        assertEquals("email", drained.get(0).getNote());
+    }
+
+    @Test
+    void testDistractionsDrainedThroughSessionService() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(1_700_000_000_000L);
+        SessionService sessionService = new SessionService();
+        List<List<Distraction>> surfaced = new ArrayList<>();
+        PomodoroTimer rest = new PomodoroTimer(TimerType.SHORT_BREAK, 5 * 60, scheduler);
+        rest.setCurrentTaskId(TEST_TASK_ID);
+        rest.setEventDispatcher(TimerEventDispatcher.synchronous());
+        rest.addListener(new BreakDistractionListener(sessionService, TEST_USER_ID, surfaced::add),
+            TickResolution.stateChangesOnly());
+
+        sessionService.startSession(TEST_USER_ID, TEST_TASK_ID).captureDistraction("chat");
+        sessionService.endSession(TEST_USER_ID);
+        rest.start();
+
+        assertEquals(1, surfaced.size());
+        assertEquals("chat", surfaced.get(0).get(0).getNote());
+        assertThrows(IllegalArgumentException.class,
+            () -> new BreakDistractionListener(null, TEST_USER_ID, surfaced::add));
+    }
+}
@@ -0,0 +1,220 @@
+package com.focusflow.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.timer.GroupTimer;
+import com.focusflow.core.timer.TickResolution;
+import com.focusflow.core.timer.Timer;
+import com.focusflow.core.timer.TimerEventDispatcher;
+import com.focusflow.core.timer.TimerEventListener;
+import com.focusflow.core.timer.TimerScheduler;
+import com.focusflow.core.timer.TimerState;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the GroupTimer class.
+ *
+ * This class contains unit tests for verifying that one group deadline drives
+ * every participant's events and sessions, and that participants can join and
+ * leave at any time.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.GroupTimer
+ */
+class GroupTimerTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void testEachParticipantGetsOwnSession() {
+        SessionManager alice = new SessionManager();
+        SessionManager bob = new SessionManager();
+        GroupTimer group = new GroupTimer(TimerType.WORK);
+        group.join("alice", alice, TEST_TASK_ID, null);
+        group.join("bob", bob, "other-task", null);
+        assertEquals(2, group.getParticipantCount());
+
+        group.start();
+        assertTrue(alice.getCurrentSession().isPresent());
+        assertTrue(bob.getCurrentSession().isPresent());
+        assertEquals("other-task", bob.getCurrentSession().get().getAssociatedTaskId());
+
+        group.stop();
+        assertFalse(alice.getCurrentSession().isPresent());
+        assertFalse(bob.getCurrentSession().isPresent());
+        assertEquals(1, alice.getSessionHistory().size());
+        assertEquals(1, bob.getSessionHistory().size());
+    }
+
+    @Test
+    void testJoinAndLeaveWhileRunning() {
+        SessionManager early = new SessionManager();
+        SessionManager late = new SessionManager();
+        GroupTimer group = new GroupTimer(TimerType.WORK);
+        group.join("early", early, TEST_TASK_ID, null);
+        group.start();
+
+        group.join("late", late, TEST_TASK_ID, null);
+        assertTrue(late.getCurrentSession().isPresent());
+
+        assertTrue(group.leave("early"));
+        assertFalse(group.leave("early"));
+        assertFalse(early.getCurrentSession().isPresent());
+        assertEquals(1, early.getSessionHistory().size());
+        assertEquals(TimerState.RUNNING, group.getState());
+
+        group.stop();
+        assertEquals(1, late.getSessionHistory().size());
+    }
+
+    @Test
+    void testDuplicateJoinRejected() {
+        GroupTimer group = new GroupTimer(TimerType.WORK);
+        group.join("alice", new SessionManager(), TEST_TASK_ID, null);
+        assertThrows(IllegalStateException.class,
+            () -> group.join("alice", new SessionManager(), TEST_TASK_ID, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> group.join("bob", new SessionManager(), "", null));
+    }
+
+    @Test
+    void testEventsFanOutToParticipants() throws InterruptedException {
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(2);
+        GroupTimer group = new GroupTimer(TimerType.WORK, 1, TimerScheduler.shared());
+        group.setEventDispatcher(TimerEventDispatcher.synchronous());
+        for (String id : List.of("alice", "bob")) {
+            group.join(id, new SessionManager(), TEST_TASK_ID, new TimerEventListener.Adapter() {
+                @Override
+                public void onTimerStarted(Timer timer) {
+                    events.add(id + " started");
+                }
+
+                @Override
+                public void onTimerCompleted(Timer timer) {
+                    events.add(id + " completed");
+                    completed.countDown();
+                }
+            }, TickResolution.stateChangesOnly());
+        }
+
+        group.start();
+        assertTrue(completed.await(3, TimeUnit.SECONDS));
+        assertEquals(4, events.size());
+        assertTrue(events.contains("alice completed"));
+        assertTrue(events.contains("bob completed"));
+        assertEquals(TimerState.COMPLETED, group.getState());
+    }
+
+    @Test
+    void testGroupWakesOnlyForRequestedTicks() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START);
+        GroupTimer group = new GroupTimer(TimerType.WORK, 25 * 60, scheduler);
+        group.setEventDispatcher(TimerEventDispatcher.synchronous());
+        List<Integer> ticks = new ArrayList<>();
+        List<String> events = new ArrayList<>();
+        group.join("alice", new SessionManager(), TEST_TASK_ID, new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                ticks.add(remainingSeconds);
+            }
+        }, TickResolution.everySeconds(5 * 60));
+        group.join("bob", new SessionManager(), TEST_TASK_ID, new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerStarted(Timer timer) {
+                events.add("bob started");
+            }
+
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                events.add("bob completed");
+            }
+        }, TickResolution.stateChangesOnly());
+
+        group.start();
+        int wakeups = scheduler.runUntilIdle();
+
+        // One wakeup per five-minute tick, the last being the deadline
+        assertEquals(5, wakeups);
+        assertEquals(List.of(20 * 60, 15 * 60, 10 * 60, 5 * 60, 0), ticks);
+        assertEquals(List.of("bob started", "bob completed"), events);
+    }
+
+    @Test
+    void testJoinAndLeaveDoNotReschedule() {
+        AtomicInteger registrations = new AtomicInteger();
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START) {
+            @Override
+            public synchronized Registration schedule(Runnable task, long deadlineNanos) {
+                registrations.incrementAndGet();
+                return super.schedule(task, deadlineNanos);
+            }
+        };
+        GroupTimer group = new GroupTimer(TimerType.WORK, 25 * 60, scheduler);
+        group.setEventDispatcher(TimerEventDispatcher.synchronous());
+        List<Integer> ticks = new ArrayList<>();
+        group.join("alice", new SessionManager(), TEST_TASK_ID, new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                ticks.add(remainingSeconds);
+            }
+        }, TickResolution.everySeconds(5 * 60));
+        group.start();
+        scheduler.advance(5, TimeUnit.MINUTES);
+        int registered = registrations.get();
+
+        List<String> late = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            group.join("p" + i, new SessionManager(), TEST_TASK_ID, null);
+        }
+        group.join("late", new SessionManager(), TEST_TASK_ID, new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                late.add("tick " + remainingSeconds);
+            }
+
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                late.add("completed");
+            }
+        }, TickResolution.everySeconds(10 * 60));
+        for (int i = 0; i < 500; i++) {
+            assertTrue(group.leave("p" + i));
+        }
+        // Joining and leaving never replaced the pending wakeup
+        assertEquals(registered, registrations.get());
+        assertEquals(1, scheduler.getPendingCount());
+
+        assertEquals(4, scheduler.runUntilIdle());
+        assertEquals(List.of(20 * 60, 15 * 60, 10 * 60, 5 * 60, 0), ticks);
+        assertEquals(List.of("tick 600", "tick 0", "completed"), late);
+    }
+
+    @Test
+    void testJoinAfterCompletionRejected() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START);
+        GroupTimer group = new GroupTimer(TimerType.WORK, 60, scheduler);
+        group.setEventDispatcher(TimerEventDispatcher.synchronous());
+        group.start();
+        scheduler.runUntilIdle();
+
+        SessionManager late = new SessionManager();
+        assertThrows(IllegalStateException.class, () -> group.join("late", late, TEST_TASK_ID, null));
+        assertFalse(group.isParticipant("late"));
+        assertFalse(late.getCurrentSession().isPresent());
+    }
+}
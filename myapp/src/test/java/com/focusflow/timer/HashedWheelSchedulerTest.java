@@ -0,0 +1,88 @@
+package com.focusflow.timer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.timer.HashedWheelScheduler;
+import com.focusflow.core.timer.TimerScheduler;
+
+/**
+ * Test class for the HashedWheelScheduler class.
+ *
+ * This class contains unit tests for verifying that scheduled deadlines fire,
+ * that cancelled registrations never fire, and that many timers can share
+ * one scheduler.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.HashedWheelScheduler
+ */
+class HashedWheelSchedulerTest {
+    private HashedWheelScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new HashedWheelScheduler(10, TimeUnit.MILLISECONDS, 8, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testScheduledTaskFires() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long before = scheduler.nanoTime();
+        scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(scheduler.nanoTime() - before >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void testCancelledTaskDoesNotFire() throws InterruptedException {
+        AtomicBoolean fired = new AtomicBoolean();
+        TimerScheduler.Registration registration =
+            scheduler.schedule(() -> fired.set(true), 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(registration.cancel());
+        assertTrue(registration.isCancelled());
+        assertFalse(registration.cancel());
+
+        Thread.sleep(200);
+        assertFalse(fired.get());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void testDeadlinesBeyondOneRevolution() throws InterruptedException {
+        // 8 buckets of 10ms make one revolution 80ms long
+        CountDownLatch latch = new CountDownLatch(1);
+        long before = scheduler.nanoTime();
+        scheduler.schedule(latch::countDown, 250, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertTrue(scheduler.nanoTime() - before >= TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    void testManyConcurrentTimers() throws InterruptedException {
+        int timers = 10_000;
+        CountDownLatch latch = new CountDownLatch(timers);
+        for (int i = 0; i < timers; i++) {
+            scheduler.schedule(latch::countDown, i % 200, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
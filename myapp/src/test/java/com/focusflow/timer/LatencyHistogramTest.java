@@ -0,0 +1,83 @@
+package com.focusflow.timer;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.timer.LatencyHistogram;
+import com.focusflow.core.timer.LatencySnapshot;
+
+/**
+ * Test class for the LatencyHistogram class.
+ *
+ * This class contains unit tests for verifying percentile accuracy and the
+ * bookkeeping of counts, means and maxima.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.LatencyHistogram
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testEmptySnapshot() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getP50Nanos());
+        assertEquals(0, snapshot.getP99Nanos());
+        assertEquals(0, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getMeanNanos());
+    }
+
+    @Test
+    void testPercentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(500_500, snapshot.getMeanNanos());
+        assertWithin(500_000, snapshot.getP50Nanos());
+        assertWithin(990_000, snapshot.getP99Nanos());
+        assertEquals(1_000_000, snapshot.getPercentileNanos(100));
+    }
+
+    @Test
+    void testSmallAndNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(3, snapshot.getCount());
+        // Values under a microsecond share the lowest bucket
+        assertEquals(1023, snapshot.getPercentileNanos(10));
+        assertEquals(1023, snapshot.getP50Nanos());
+        assertEquals(Long.MAX_VALUE, snapshot.getMaxNanos());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileNanos(101));
+    }
+
+    @Test
+    void testValuesBeyondAnHourReportTheirMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long twoHours = TimeUnit.HOURS.toNanos(2);
+        histogram.record(TimeUnit.MINUTES.toNanos(30));
+        histogram.record(twoHours);
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertWithin(TimeUnit.MINUTES.toNanos(30), snapshot.getP50Nanos());
+        assertEquals(twoHours, snapshot.getP99Nanos());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8,
+            "expected about " + expected + " but was " + actual);
+    }
+}
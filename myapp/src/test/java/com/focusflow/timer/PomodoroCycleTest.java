@@ -0,0 +1,106 @@
+package com.focusflow.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.session.StreakUnit;
+import com.focusflow.core.timer.PomodoroCycle;
+import com.focusflow.core.timer.TickResolution;
+import com.focusflow.core.timer.Timer;
+import com.focusflow.core.timer.TimerEventDispatcher;
+import com.focusflow.core.timer.TimerEventListener;
+import com.focusflow.core.timer.TimerScheduler;
+import com.focusflow.core.timer.TimerState;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the PomodoroCycle class.
+ *
+ * This class contains unit tests for verifying the planned phase sequence and
+ * the automatic advance from one phase to the next.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.PomodoroCycle
+ */
+class PomodoroCycleTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+
+    @Test
+    void testPlanFollowsLongBreakRule() {
+        assertEquals(List.of(
+                TimerType.WORK, TimerType.SHORT_BREAK,
+                TimerType.WORK, TimerType.SHORT_BREAK,
+                TimerType.WORK, TimerType.SHORT_BREAK,
+                TimerType.WORK, TimerType.LONG_BREAK,
+                TimerType.WORK, TimerType.SHORT_BREAK),
+            PomodoroCycle.planPhases(5));
+    }
+
+    @Test
+    void testInitialPhase() {
+        PomodoroCycle cycle = new PomodoroCycle(4);
+        assertEquals(TimerState.INACTIVE, cycle.getState());
+        assertEquals(TimerType.WORK, cycle.getType());
+        assertEquals(0, cycle.getPhaseIndex());
+        assertEquals(8, cycle.getPhases().size());
+        assertEquals(4 * 25 * 60 + 3 * 5 * 60 + 15 * 60, cycle.getTotalDurationSeconds());
+    }
+
+    @Test
+    void testPhasesAdvanceAutomatically() throws InterruptedException {
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(2);
+        PomodoroCycle cycle = new PomodoroCycle(1, 1, 1, 1, TimerScheduler.shared());
+        cycle.setCurrentTaskId(TEST_TASK_ID);
+        cycle.setEventDispatcher(TimerEventDispatcher.synchronous());
+        cycle.addListener(new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerStarted(Timer timer) {
+                events.add("started " + timer.getType());
+            }
+
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                events.add("completed");
+                finished.countDown();
+            }
+        }, TickResolution.stateChangesOnly());
+
+        cycle.start();
+        assertTrue(finished.await(4, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        assertEquals(List.of("started WORK", "completed", "started SHORT_BREAK", "completed"), events);
+        assertEquals(TimerState.COMPLETED, cycle.getState());
+        assertEquals(1, cycle.getPhaseIndex());
+    }
+
+    @Test
+    void testSessionsAreRecordedWithPhaseTypes() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(1_700_000_000_000L);
+        PomodoroCycle cycle = new PomodoroCycle(4, 25 * 60, 5 * 60, 15 * 60, scheduler);
+        cycle.setCurrentTaskId(TEST_TASK_ID);
+        cycle.setEventDispatcher(TimerEventDispatcher.synchronous());
+
+        cycle.start();
+        scheduler.runUntilIdle();
+
+        List<TimerType> recorded = new ArrayList<>();
+        for (FocusSession session : cycle.getSessionManager().getSessionHistory()) {
+            recorded.add(session.getTimerType());
+        }
+        assertEquals(cycle.getPhases(), recorded);
+        // Breaks are not counted as work
+        assertEquals(4, cycle.getSessionManager().getStreaks().getBest(StreakUnit.SESSION));
+    }
+}
@@ -1,18 +1,29 @@
 package com.focusflow.timer;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.focusflow.core.timer.HashedWheelScheduler;
 import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.TickResolution;
 import com.focusflow.core.timer.Timer;
+import com.focusflow.core.timer.TimerEventDispatcher;
 import com.focusflow.core.timer.TimerEventListener;
+import com.focusflow.core.timer.TimerLatencyStats;
+import com.focusflow.core.timer.TimerRecord;
+import com.focusflow.core.timer.TimerScheduler;
 import com.focusflow.core.timer.TimerState;
 import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
 
 /**
  * Test class for the PomodoroTimer class.
@@ -136,6 +147,145 @@ class PomodoroTimerTest {
         assertTrue(tickLatch.await(4, TimeUnit.SECONDS));
     }
 
+    @Test
+    void testElapsedTimeFreezesWhilePaused() throws InterruptedException {
+        timer.start();
+        Thread.sleep(300);
+        timer.pause();
+        
+        long elapsedAtPause = timer.getElapsedTime();
+        assertTrue(elapsedAtPause >= 300, "Elapsed time should be at least 300ms, but was " + elapsedAtPause);
+        
+        Thread.sleep(200);
+        assertEquals(elapsedAtPause, timer.getElapsedTime());
+        assertEquals(TimerType.WORK.getDefaultDuration(), timer.getRemainingTime());
+    }
+
+    @Test
+    void testRemainingTimeFollowsDeadline() throws InterruptedException {
+        PomodoroTimer testTimer = new PomodoroTimer(TimerType.SHORT_BREAK, 3);
+        testTimer.setCurrentTaskId(TEST_TASK_ID);
+        testTimer.start();
+        Thread.sleep(1200);
+        
+        assertEquals(2, testTimer.getRemainingTime());
+        assertTrue(testTimer.getElapsedTime() >= 1200);
+        testTimer.stop();
+    }
+
+    @Test
+    void testTickResolutionSubscriptions() throws InterruptedException {
+        List<Integer> everyTwoSeconds = new CopyOnWriteArrayList<>();
+        List<Integer> stateOnlyTicks = new CopyOnWriteArrayList<>();
+        CountDownLatch completeLatch = new CountDownLatch(1);
+        
+        PomodoroTimer testTimer = new PomodoroTimer(TimerType.SHORT_BREAK, 3);
+        testTimer.setCurrentTaskId(TEST_TASK_ID);
+        testTimer.addListener(new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                everyTwoSeconds.add(remainingSeconds);
+            }
+        }, TickResolution.everySeconds(2));
+        testTimer.addListener(new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerTick(Timer timer, int remainingSeconds) {
+                stateOnlyTicks.add(remainingSeconds);
+            }
+            
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                completeLatch.countDown();
+            }
+        }, TickResolution.stateChangesOnly());
+        testTimer.start();
+        
+        assertTrue(completeLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(2, 0), everyTwoSeconds);
+        assertTrue(stateOnlyTicks.isEmpty());
+    }
+
+    @Test
+    void testRacingStopAndCompletionEndOnce() throws InterruptedException {
+        int timers = 200;
+        AtomicInteger endings = new AtomicInteger();
+        CountDownLatch settled = new CountDownLatch(timers);
+        TimerEventListener counter = new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerCompleted(Timer timer) {
+                endings.incrementAndGet();
+                settled.countDown();
+            }
+            
+            @Override
+            public void onTimerStopped(Timer timer) {
+                endings.incrementAndGet();
+                settled.countDown();
+            }
+        };
+        
+        for (int i = 0; i < timers; i++) {
+            PomodoroTimer testTimer = new PomodoroTimer(TimerType.CUSTOM, 0);
+            testTimer.setEventDispatcher(TimerEventDispatcher.synchronous());
+            testTimer.setCurrentTaskId(TEST_TASK_ID);
+            testTimer.addListener(counter, TickResolution.stateChangesOnly());
+            testTimer.start();
+            Thread stopper = new Thread(testTimer::stop);
+            stopper.start();
+            testTimer.stop();
+            stopper.join();
+        }
+        
+        assertTrue(settled.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(timers, endings.get());
+    }
+
+    @Test
+    void testLatencyStatsRecordTicksAndCompletion() throws InterruptedException {
+        CountDownLatch completeLatch = new CountDownLatch(1);
+        listener.setOnCompleteCallback(() -> completeLatch.countDown());
+
+        PomodoroTimer testTimer = new PomodoroTimer(TimerType.SHORT_BREAK, 2);
+        testTimer.enableLatencyStats();
+        testTimer.addListener(listener);
+        testTimer.setCurrentTaskId(TEST_TASK_ID);
+        testTimer.start();
+        assertTrue(completeLatch.await(3, TimeUnit.SECONDS));
+
+        TimerLatencyStats stats = testTimer.getLatencyStats();
+        assertEquals(1, stats.getTickLateness().getCount());
+        assertEquals(1, stats.getCompletionLateness().getCount());
+        assertFalse(stats.isDegraded(1, TimeUnit.SECONDS));
+        assertEquals(1, stats.getListenerStats().size());
+        assertTrue(stats.getListenerStats().get(0).getCallbackTime().getCount() >= 2);
+    }
+
+    @Test
+    void testLatencyStatsAreOffByDefault() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        PomodoroTimer testTimer = new PomodoroTimer(TimerType.SHORT_BREAK, 2, scheduler);
+        testTimer.setEventDispatcher(TimerEventDispatcher.synchronous());
+        testTimer.setCurrentTaskId(TEST_TASK_ID);
+        testTimer.start();
+        scheduler.runUntilIdle();
+
+        TimerLatencyStats stats = testTimer.getLatencyStats();
+        assertEquals(TimerState.COMPLETED, testTimer.getState());
+        assertEquals(0, stats.getTickLateness().getCount());
+        assertEquals(0, stats.getCompletionLateness().getCount());
+    }
+
+    @Test
+    void testTransitionTable() {
+        assertTrue(TimerState.INACTIVE.canTransitionTo(TimerState.RUNNING));
+        assertTrue(TimerState.RUNNING.canTransitionTo(TimerState.COMPLETED));
+        assertTrue(TimerState.PAUSED.canTransitionTo(TimerState.STOPPED));
+        assertFalse(TimerState.PAUSED.canTransitionTo(TimerState.COMPLETED));
+        assertFalse(TimerState.COMPLETED.canTransitionTo(TimerState.STOPPED));
+        assertFalse(TimerState.INACTIVE.canTransitionTo(TimerState.PAUSED));
+    }
+
     @Test
     void testTimerTypeChanges() {
         timer = new PomodoroTimer(TimerType.LONG_BREAK);
@@ -147,6 +297,46 @@ class PomodoroTimerTest {
         assertEquals(TimerType.SHORT_BREAK.getDefaultDuration(), timer.getRemainingTime());
     }
 
+    @Test
+    void testExpiredRestoredTimerCompletesOnWheel() throws InterruptedException {
+        HashedWheelScheduler wheel = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 8, 4);
+        // Runs due tasks on another thread before schedule returns, as a worker winning the race would
+        TimerScheduler eager = new TimerScheduler() {
+            @Override
+            public Registration schedule(Runnable task, long deadlineNanos) {
+                Registration registration = wheel.schedule(task, deadlineNanos);
+                if (deadlineNanos <= nanoTime() && registration.cancel()) {
+                    Thread worker = new Thread(task);
+                    worker.start();
+                    try {
+                        worker.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return registration;
+            }
+
+            @Override
+            public long nanoTime() {
+                return wheel.nanoTime();
+            }
+        };
+        try {
+            for (TimerScheduler scheduler : List.of(wheel, eager)) {
+                TimerRecord record = new TimerRecord("expired", TimerType.WORK, 1500, TEST_TASK_ID,
+                    TimerState.RUNNING, System.currentTimeMillis() - 1000, 0);
+                PomodoroTimer restored = PomodoroTimer.restore(record, scheduler);
+                for (int wait = 0; wait < 100 && restored.getState() != TimerState.COMPLETED; wait++) {
+                    Thread.sleep(10);
+                }
+                assertEquals(TimerState.COMPLETED, restored.getState());
+            }
+        } finally {
+            wheel.shutdown();
+        }
+    }
+
     private static class TestTimerListener implements TimerEventListener {
         private Runnable onStartCallback;
         private Runnable onPauseCallback;
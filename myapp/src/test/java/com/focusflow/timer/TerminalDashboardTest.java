@@ -0,0 +1,91 @@
+package com.focusflow.timer;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.TerminalDashboard;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the TerminalDashboard class.
+ *
+ * This class contains unit tests for verifying that all timers are rendered
+ * into one frame, that frames redraw in place and that the frame rate is
+ * capped.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TerminalDashboard
+ */
+class TerminalDashboardTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+
+    @Test
+    void testAllTimersInOneFrame() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        StringWriter out = new StringWriter();
+        TerminalDashboard dashboard = new TerminalDashboard(out, scheduler, 4, 40);
+        dashboard.track(scheduler.newTimer(TimerType.WORK), "alice");
+        dashboard.track(scheduler.newTimer(TimerType.SHORT_BREAK), "bob");
+
+        dashboard.render();
+        String frame = out.toString();
+        assertTrue(frame.contains("2 tracked, 0 running"));
+        assertTrue(frame.contains("alice"));
+        assertTrue(frame.contains("25:00"));
+        assertTrue(frame.contains("bob"));
+        assertTrue(frame.contains("05:00"));
+        assertEquals(1, dashboard.getFramesWritten());
+
+        // Nothing changed, so nothing is written
+        dashboard.render();
+        assertEquals(1, dashboard.getFramesWritten());
+    }
+
+    @Test
+    void testRedrawsInPlaceAtCappedRate() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        StringWriter out = new StringWriter();
+        TerminalDashboard dashboard = new TerminalDashboard(out, scheduler, 4, 40);
+        for (int i = 0; i < 100; i++) {
+            PomodoroTimer timer = scheduler.newTimer(TimerType.WORK);
+            timer.setCurrentTaskId(TEST_TASK_ID);
+            dashboard.track(timer, "timer-" + i);
+            timer.start();
+        }
+
+        scheduler.advance(10, TimeUnit.SECONDS);
+        long frames = dashboard.getFramesWritten();
+        assertTrue(frames >= 10 && frames <= 12, "wrote " + frames + " frames");
+        // 1 header + 40 rows + 1 overflow line
+        assertTrue(out.toString().contains("\u001b[42F"));
+        assertTrue(out.toString().contains("... and 60 more"));
+        assertTrue(out.toString().contains("24:50"));
+        dashboard.close();
+    }
+
+    @Test
+    void testCloseStopsRendering() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        StringWriter out = new StringWriter();
+        TerminalDashboard dashboard = new TerminalDashboard(out, scheduler, 4, 40);
+        PomodoroTimer timer = scheduler.newTimer(TimerType.WORK);
+        timer.setCurrentTaskId(TEST_TASK_ID);
+        dashboard.track(timer, "alice");
+        timer.start();
+        scheduler.advance(1, TimeUnit.SECONDS);
+
+        dashboard.close();
+        long frames = dashboard.getFramesWritten();
+        scheduler.advance(10, TimeUnit.SECONDS);
+        assertEquals(frames, dashboard.getFramesWritten());
+        assertEquals(0, dashboard.getTrackedCount());
+        timer.stop();
+    }
+}
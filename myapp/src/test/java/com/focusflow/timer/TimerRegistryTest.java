@@ -0,0 +1,135 @@
+package com.focusflow.timer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.timer.TimerRegistry;
+import com.focusflow.core.timer.TimerScheduler;
+import com.focusflow.core.timer.TimerState;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the TimerRegistry class.
+ *
+ * This class contains unit tests for verifying handle-based timer access,
+ * state transitions and batched expiration.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerRegistry
+ */
+class TimerRegistryTest {
+
+    @Test
+    void testLifecycleThroughHandles() {
+        TimerRegistry registry = new TimerRegistry(expired -> { });
+        long handle = registry.create(TimerType.WORK, 42L);
+
+        assertEquals(TimerState.INACTIVE, registry.getState(handle));
+        assertEquals(TimerType.WORK, registry.getType(handle));
+        assertEquals(42L, registry.getOwnerId(handle));
+        assertEquals(TimerType.WORK.getDefaultDuration(), registry.getRemainingSeconds(handle));
+
+        assertTrue(registry.start(handle));
+        assertFalse(registry.start(handle));
+        assertEquals(1, registry.getRunningCount());
+        assertTrue(registry.pause(handle));
+        assertEquals(TimerState.PAUSED, registry.getState(handle));
+        assertEquals(0, registry.getRunningCount());
+        assertFalse(registry.pause(handle));
+        assertTrue(registry.resume(handle));
+        assertTrue(registry.stop(handle));
+        assertEquals(TimerState.STOPPED, registry.getState(handle));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testReleasedHandleIsRejected() {
+        TimerRegistry registry = new TimerRegistry(expired -> { });
+        long released = registry.create(TimerType.WORK, 1L);
+        registry.release(released);
+        long reused = registry.create(TimerType.SHORT_BREAK, 2L);
+
+        assertFalse(registry.contains(released));
+        assertTrue(registry.contains(reused));
+        assertThrows(IllegalArgumentException.class, () -> registry.getState(released));
+        assertThrows(IllegalArgumentException.class, () -> registry.release(released));
+        assertEquals(2L, registry.getOwnerId(reused));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testSameSecondExpirationsArriveInBatches() throws InterruptedException {
+        int timers = 5000;
+        AtomicInteger expiredCount = new AtomicInteger();
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger ownerSum = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        TimerRegistry registry = new TimerRegistry(TimerScheduler.shared(), expired -> {
+            batches.incrementAndGet();
+            for (int i = 0; i < expired.size(); i++) {
+                ownerSum.addAndGet((int) expired.getOwnerId(i));
+            }
+            if (expiredCount.addAndGet(expired.size()) == timers) {
+                done.countDown();
+            }
+        }, 16);
+
+        long[] handles = new long[timers];
+        for (int i = 0; i < timers; i++) {
+            handles[i] = registry.create(TimerType.SHORT_BREAK, i, 1);
+            registry.start(handles[i]);
+        }
+        assertEquals(timers, registry.getRunningCount());
+
+        assertTrue(done.await(3, TimeUnit.SECONDS));
+        assertTrue(batches.get() < timers / 10, "expected batched expiration, got " + batches.get() + " batches");
+        assertEquals(timers * (timers - 1) / 2, ownerSum.get());
+        assertEquals(0, registry.getRunningCount());
+        assertEquals(TimerState.COMPLETED, registry.getState(handles[0]));
+    }
+
+    @Test
+    void testEarlierTimerRearmsRegistry() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        TimerRegistry registry = new TimerRegistry(TimerScheduler.shared(), expired -> done.countDown(), 4);
+        long late = registry.create(TimerType.WORK, 1L, 60);
+        long early = registry.create(TimerType.SHORT_BREAK, 2L, 1);
+        registry.start(late);
+        registry.start(early);
+
+        assertTrue(done.await(3, TimeUnit.SECONDS));
+        assertEquals(TimerState.COMPLETED, registry.getState(early));
+        assertEquals(TimerState.RUNNING, registry.getState(late));
+        registry.stop(late);
+    }
+
+    @Test
+    void testDeadlinesWithinASecondShareOneWakeup() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger expiredCount = new AtomicInteger();
+        TimerRegistry registry = new TimerRegistry(scheduler, expired -> {
+            batches.incrementAndGet();
+            expiredCount.addAndGet(expired.size());
+        }, 4);
+        for (int i = 0; i < 3; i++) {
+            scheduler.advance(300, TimeUnit.MILLISECONDS);
+            registry.start(registry.create(TimerType.SHORT_BREAK, i, 1));
+        }
+
+        scheduler.advance(1000, TimeUnit.MILLISECONDS);
+        assertEquals(0, expiredCount.get());
+        scheduler.advance(100, TimeUnit.MILLISECONDS);
+        assertEquals(1, batches.get());
+        assertEquals(3, expiredCount.get());
+    }
+}
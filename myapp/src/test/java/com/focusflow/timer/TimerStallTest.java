@@ -0,0 +1,108 @@
+package com.focusflow.timer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.SessionManager;
+import com.focusflow.core.timer.GroupTimer;
+import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.Timer;
+import com.focusflow.core.timer.TimerEventDispatcher;
+import com.focusflow.core.timer.TimerEventListener;
+import com.focusflow.core.timer.TimerStall;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for stall and clock-jump detection.
+ *
+ * This class contains unit tests that drive a timer from a manually advanced
+ * clock to verify that missed ticks collapse into one catch-up tick and that
+ * suspended time is recorded against the session.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerStall
+ */
+class TimerStallTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+
+    @Test
+    void testLateWakeupCollapsesMissedTicks() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        List<Integer> ticks = new CopyOnWriteArrayList<>();
+        List<TimerStall> reported = new CopyOnWriteArrayList<>();
+        PomodoroTimer timer = new PomodoroTimer(TimerType.WORK, 60, scheduler);
+        timer.setCurrentTaskId(TEST_TASK_ID);
+        timer.setEventDispatcher(TimerEventDispatcher.synchronous());
+        timer.addListener(new TimerEventListener.Adapter() {
+            @Override
+            public void onTimerTick(Timer t, int remainingSeconds) {
+                ticks.add(remainingSeconds);
+            }
+
+            @Override
+            public void onTimerStalled(Timer t, TimerStall stall) {
+                reported.add(stall);
+            }
+        });
+
+        timer.start();
+        scheduler.advance(1, TimeUnit.SECONDS);
+        scheduler.stall(10, TimeUnit.SECONDS);
+        scheduler.advance(0, TimeUnit.SECONDS);
+
+        assertEquals(List.of(59, 49), ticks);
+        assertEquals(1, reported.size());
+        TimerStall stall = reported.get(0);
+        assertEquals(TimerStall.Kind.LATE_WAKEUP, stall.getKind());
+        assertEquals(9, stall.getMissedTicks());
+        assertEquals(49, stall.getRemainingSeconds());
+        assertEquals(9000, stall.getLateMillis());
+        assertEquals(timer.getStalls(), reported);
+        timer.stop();
+    }
+
+    @Test
+    void testOnTimeWakeupsReportNoStall() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        PomodoroTimer timer = new PomodoroTimer(TimerType.WORK, 60, scheduler);
+        timer.setCurrentTaskId(TEST_TASK_ID);
+        timer.start();
+        for (int i = 0; i < 5; i++) {
+            scheduler.advance(1, TimeUnit.SECONDS);
+        }
+        assertTrue(timer.getStalls().isEmpty());
+        assertEquals(55, timer.getRemainingTime());
+        timer.stop();
+    }
+
+    @Test
+    void testSuspendIsRecordedAgainstSession() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        SessionManager sessions = new SessionManager();
+        GroupTimer timer = new GroupTimer(TimerType.WORK, 60, scheduler);
+        timer.setEventDispatcher(TimerEventDispatcher.synchronous());
+        // Stalls are detected on wakeups, so the participant asks for every tick
+        timer.join("alice", sessions, TEST_TASK_ID, new TimerEventListener.Adapter());
+        timer.start();
+
+        // The monotonic clock stands still while the machine is suspended
+        scheduler.suspend(10, TimeUnit.MINUTES);
+        scheduler.advance(1, TimeUnit.SECONDS);
+
+        assertEquals(1, timer.getStalls().size());
+        TimerStall stall = timer.getStalls().get(0);
+        assertEquals(TimerStall.Kind.CLOCK_JUMP, stall.getKind());
+        assertEquals(600_000, stall.getClockSkewMillis());
+        assertEquals(0, stall.getMissedTicks());
+        assertEquals(600, sessions.getCurrentSession().get().getSuspendedDurationSeconds());
+        assertEquals(59, timer.getRemainingTime());
+        timer.stop();
+    }
+}
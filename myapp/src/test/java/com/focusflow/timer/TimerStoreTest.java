@@ -0,0 +1,165 @@
+package com.focusflow.timer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.timer.PomodoroCycle;
+import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.TimerRecord;
+import com.focusflow.core.timer.TimerScheduler;
+import com.focusflow.core.timer.TimerState;
+import com.focusflow.core.timer.TimerStore;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the TimerStore class.
+ *
+ * This class contains unit tests for verifying that running and paused timers
+ * survive a restart of the store and are restored with their deadlines.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.TimerStore
+ */
+class TimerStoreTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("timers", ".store");
+        Files.delete(file);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testRunningAndPausedTimersSurviveReopen() throws IOException, InterruptedException {
+        try (TimerStore store = TimerStore.open(file)) {
+            PomodoroTimer running = new PomodoroTimer(TimerType.WORK);
+            running.setCurrentTaskId(TEST_TASK_ID);
+            running.enablePersistence(store, "running");
+            running.start();
+
+            PomodoroTimer paused = new PomodoroTimer(TimerType.SHORT_BREAK);
+            paused.setCurrentTaskId(TEST_TASK_ID);
+            paused.enablePersistence(store, "paused");
+            paused.start();
+            Thread.sleep(100);
+            paused.pause();
+
+            PomodoroTimer stopped = new PomodoroTimer(TimerType.LONG_BREAK);
+            stopped.setCurrentTaskId(TEST_TASK_ID);
+            stopped.enablePersistence(store, "stopped");
+            stopped.start();
+            stopped.stop();
+
+            running.stop();
+            running.start();
+        }
+
+        try (TimerStore store = TimerStore.open(file)) {
+            assertEquals(2, store.size());
+            assertNull(store.get("stopped"));
+            assertEquals(TimerState.RUNNING, store.get("running").getState());
+            assertEquals(TimerState.PAUSED, store.get("paused").getState());
+
+            List<PomodoroTimer> restored = store.restoreAll(TimerScheduler.shared());
+            assertEquals(2, restored.size());
+            for (PomodoroTimer timer : restored) {
+                if (timer.getTimerId().equals("running")) {
+                    assertEquals(TimerState.RUNNING, timer.getState());
+                    assertTrue(timer.getRemainingTime() <= TimerType.WORK.getDefaultDuration());
+                    timer.stop();
+                } else {
+                    assertEquals(TimerState.PAUSED, timer.getState());
+                    assertEquals(TimerType.SHORT_BREAK.getDefaultDuration(), timer.getRemainingTime());
+                }
+            }
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    void testTornTrailingRecordIsIgnored() throws IOException {
+        try (TimerStore store = TimerStore.open(file)) {
+            store.put(new TimerRecord("paused", TimerType.WORK, 1500, TEST_TASK_ID,
+                TimerState.PAUSED, 0, 60_000));
+        }
+        Files.write(file, new byte[] {1, 0, 7, 'p', 'a'}, StandardOpenOption.APPEND);
+
+        try (TimerStore store = TimerStore.open(file)) {
+            assertEquals(1, store.size());
+            assertEquals(60_000, store.get("paused").getRemainingMillis());
+        }
+    }
+
+    @Test
+    void testDeadlinePassedWhileDownCompletesImmediately() throws IOException, InterruptedException {
+        try (TimerStore store = TimerStore.open(file)) {
+            store.put(new TimerRecord("overdue", TimerType.WORK, 1500, TEST_TASK_ID,
+                TimerState.RUNNING, System.currentTimeMillis() - 1000, 0));
+            PomodoroTimer timer = store.restoreAll(TimerScheduler.shared()).get(0);
+
+            Thread.sleep(200);
+            assertEquals(TimerState.COMPLETED, timer.getState());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void testWritesAfterCloseAreRejected() throws IOException {
+        TimerStore store = TimerStore.open(file);
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.put(new TimerRecord("paused", TimerType.WORK,
+            1500, TEST_TASK_ID, TimerState.PAUSED, 0, 60_000)));
+        assertThrows(IllegalStateException.class, () -> store.remove("paused"));
+    }
+
+    @Test
+    void testCycleIsRestoredAtItsPhase() throws IOException {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+        try (TimerStore store = TimerStore.open(file)) {
+            PomodoroCycle cycle = new PomodoroCycle(2, 60, 30, 90, scheduler);
+            cycle.setCurrentTaskId(TEST_TASK_ID);
+            cycle.enablePersistence(store, "cycle");
+            cycle.start();
+            scheduler.advance(70, TimeUnit.SECONDS);
+            assertEquals(1, cycle.getPhaseIndex());
+            cycle.pause();
+        }
+
+        try (TimerStore store = TimerStore.open(file)) {
+            PomodoroTimer restored = store.restoreAll(scheduler).get(0);
+            assertTrue(restored instanceof PomodoroCycle);
+            PomodoroCycle cycle = (PomodoroCycle) restored;
+            assertEquals(1, cycle.getPhaseIndex());
+            assertEquals(TimerType.SHORT_BREAK, cycle.getType());
+            assertEquals(TimerState.PAUSED, cycle.getState());
+            assertEquals(20, cycle.getRemainingTime());
+
+            cycle.resume();
+            scheduler.advance(20, TimeUnit.SECONDS);
+            assertEquals(2, cycle.getPhaseIndex());
+            assertEquals(TimerType.WORK, cycle.getType());
+            cycle.stop();
+        }
+    }
+}
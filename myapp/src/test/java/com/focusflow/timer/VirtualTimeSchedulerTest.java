@@ -0,0 +1,167 @@
+package com.focusflow.timer;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.focusflow.core.session.FocusSession;
+import com.focusflow.core.timer.PomodoroCycle;
+import com.focusflow.core.timer.PomodoroTimer;
+import com.focusflow.core.timer.TickResolution;
+import com.focusflow.core.timer.Timer;
+import com.focusflow.core.timer.TimerEventDispatcher;
+import com.focusflow.core.timer.TimerEventListener;
+import com.focusflow.core.timer.TimerScheduler;
+import com.focusflow.core.timer.TimerState;
+import com.focusflow.core.timer.TimerType;
+import com.focusflow.core.timer.VirtualTimeScheduler;
+
+/**
+ * Test class for the VirtualTimeScheduler class.
+ *
+ * This class contains unit tests for verifying deterministic task ordering
+ * and that timers driven by virtual time fire the production callbacks in
+ * order without waiting on real time.
+ *
+ * @author Miles Baack
+ * @version 1.0
+ * @see com.focusflow.core.timer.VirtualTimeScheduler
+ */
+class VirtualTimeSchedulerTest {
+    private static final String TEST_TASK_ID = "test-task-id";
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void testTasksRunInDeadlineThenSubmissionOrder() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START);
+        List<String> ran = new ArrayList<>();
+        scheduler.schedule(() -> ran.add("b"), 2, TimeUnit.SECONDS);
+        scheduler.schedule(() -> ran.add("a"), 1, TimeUnit.SECONDS);
+        scheduler.schedule(() -> ran.add("c"), 2, TimeUnit.SECONDS);
+        TimerScheduler.Registration cancelled = scheduler.schedule(() -> ran.add("x"), 1, TimeUnit.SECONDS);
+        assertEquals(4, scheduler.getPendingCount());
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        // Cancelled tasks leave the queue right away
+        assertEquals(3, scheduler.getPendingCount());
+
+        assertEquals(1, scheduler.advance(1, TimeUnit.SECONDS));
+        assertEquals(List.of("a"), ran);
+        assertEquals(2, scheduler.advance(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b", "c"), ran);
+        assertEquals(6_000_000_000L, scheduler.nanoTime());
+        assertEquals(START + 6000, scheduler.currentTimeMillis());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void testCancelRacesWithRun() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START);
+            AtomicInteger runs = new AtomicInteger();
+            TimerScheduler.Registration registration =
+                scheduler.schedule(runs::incrementAndGet, 1, TimeUnit.SECONDS);
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Thread canceller = new Thread(() -> cancelled.set(registration.cancel()));
+            canceller.start();
+            scheduler.advance(1, TimeUnit.SECONDS);
+            canceller.join();
+
+            // Exactly one of the cancel and the run wins
+            assertEquals(cancelled.get() ? 0 : 1, runs.get());
+            assertEquals(cancelled.get(), registration.isCancelled());
+            assertEquals(0, scheduler.getPendingCount());
+        }
+    }
+
+    @Test
+    void testTimerFiresProductionCallbacksInOrder() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START);
+        List<String> events = new ArrayList<>();
+        PomodoroTimer timer = scheduler.newTimer(TimerType.SHORT_BREAK, 3);
+        timer.setCurrentTaskId(TEST_TASK_ID);
+        timer.addListener(new RecordingListener(events));
+
+        timer.start();
+        scheduler.advance(1, TimeUnit.SECONDS);
+        timer.pause();
+        scheduler.advance(1, TimeUnit.HOURS);
+        assertEquals(2, timer.getRemainingTime());
+        timer.resume();
+        scheduler.runUntilIdle();
+
+        assertEquals(List.of("started", "tick 2", "paused", "resumed", "tick 1", "tick 0", "completed"), events);
+        assertEquals(TimerState.COMPLETED, timer.getState());
+    }
+
+    @Test
+    void testFullDayOfPomodorosRunsInstantly() {
+        VirtualTimeScheduler scheduler = new VirtualTimeScheduler(START);
+        List<String> events = new ArrayList<>();
+        PomodoroCycle day = new PomodoroCycle(16, 25 * 60, 5 * 60, 15 * 60, scheduler);
+        day.setCurrentTaskId(TEST_TASK_ID);
+        day.setEventDispatcher(TimerEventDispatcher.synchronous());
+        day.addListener(new RecordingListener(events), TickResolution.stateChangesOnly());
+
+        long startedAt = System.nanoTime();
+        day.start();
+        scheduler.runUntilIdle();
+        long realMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertEquals(TimerState.COMPLETED, day.getState());
+        assertEquals(64, events.size());
+        assertEquals("started", events.get(0));
+        assertEquals("completed", events.get(63));
+        assertEquals(day.getTotalDurationSeconds() * 1000, scheduler.currentTimeMillis() - START);
+        // Sessions are recorded at virtual time too
+        List<FocusSession> sessions = day.getSessionManager().getSessionHistory();
+        LocalDateTime dayStart = LocalDateTime.ofInstant(Instant.ofEpochMilli(START), ZoneId.systemDefault());
+        assertEquals(dayStart, sessions.get(0).getStartTime());
+        assertEquals(dayStart.plusSeconds(day.getTotalDurationSeconds()), sessions.get(sessions.size() - 1).getEndTime());
+        assertFalse(realMillis > 5000, "virtual day took " + realMillis + "ms");
+    }
+
+    private static final class RecordingListener extends TimerEventListener.Adapter {
+        private final List<String> events;
+
+        RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void onTimerStarted(Timer timer) {
+            events.add("started");
+        }
+
+        @Override
+        public void onTimerPaused(Timer timer) {
+            events.add("paused");
+        }
+
+        @Override
+        public void onTimerResumed(Timer timer) {
+            events.add("resumed");
+        }
+
+        @Override
+        public void onTimerCompleted(Timer timer) {
+            events.add("completed");
+        }
+
+        @Override
+        public void onTimerTick(Timer timer, int remainingSeconds) {
+            events.add("tick " + remainingSeconds);
+        }
+    }
+}